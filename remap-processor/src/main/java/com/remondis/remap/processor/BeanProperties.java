@@ -0,0 +1,122 @@
+package com.remondis.remap.processor;
+
+import java.beans.Introspector;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Util class to get the properties of a type at compile time. The rules follow the runtime introspection of the
+ * mapping library: a property is a public get-method (or is-method for primitive <code>boolean</code>) combined with a
+ * public set-method of the same type.
+ */
+class BeanProperties {
+
+  private static final String IS = "is";
+  private static final String GET = "get";
+  private static final String SET = "set";
+
+  private BeanProperties() {
+  }
+
+  /**
+   * Returns the properties with read and write access of the specified type indexed by property name.
+   *
+   * @param types The {@link Types} utils of the processing environment.
+   * @param elements The {@link Elements} utils of the processing environment.
+   * @param type The type to inspect.
+   * @return Returns the properties in declaration order.
+   */
+  static Map<String, BeanProperty> getProperties(Types types, Elements elements, DeclaredType type) {
+    TypeElement typeElement = (TypeElement) type.asElement();
+    List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(typeElement));
+    Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+    Map<String, TypeMirror> getterTypes = new HashMap<>();
+    for (ExecutableElement method : methods) {
+      if (!method.getModifiers()
+          .contains(Modifier.PUBLIC)
+          || method.getModifiers()
+              .contains(Modifier.STATIC)) {
+        continue;
+      }
+      ExecutableType methodType = (ExecutableType) types.asMemberOf(type, method);
+      String name = method.getSimpleName()
+          .toString();
+      List<? extends TypeMirror> parameters = methodType.getParameterTypes();
+      TypeMirror returnType = methodType.getReturnType();
+      if (parameters.isEmpty() && isGetter(name, returnType)) {
+        String propertyName = toPropertyName(name);
+        getters.put(propertyName, method);
+        getterTypes.put(propertyName, returnType);
+      }
+    }
+    Map<String, BeanProperty> properties = new LinkedHashMap<>();
+    for (Map.Entry<String, ExecutableElement> getter : getters.entrySet()) {
+      String propertyName = getter.getKey();
+      TypeMirror propertyType = getterTypes.get(propertyName);
+      // The set-method may be overloaded, so search for the one accepting the type of the get-method.
+      ExecutableElement setter = findSetter(types, type, methods, propertyName, propertyType);
+      if (setter != null) {
+        properties.put(propertyName, new BeanProperty(propertyName, propertyType, getter.getValue()
+            .getSimpleName()
+            .toString(),
+            setter.getSimpleName()
+                .toString()));
+      }
+    }
+    return properties;
+  }
+
+  private static ExecutableElement findSetter(Types types, DeclaredType type, List<ExecutableElement> methods,
+      String propertyName, TypeMirror propertyType) {
+    for (ExecutableElement method : methods) {
+      String name = method.getSimpleName()
+          .toString();
+      if (!name.startsWith(SET) || name.length() == SET.length() || !method.getModifiers()
+          .contains(Modifier.PUBLIC)
+          || method.getModifiers()
+              .contains(Modifier.STATIC)
+          || method.getParameters()
+              .size() != 1
+          || !toPropertyName(name).equals(propertyName)) {
+        continue;
+      }
+      ExecutableType methodType = (ExecutableType) types.asMemberOf(type, method);
+      if (methodType.getReturnType()
+          .getKind() == TypeKind.VOID
+          && types.isSameType(methodType.getParameterTypes()
+              .get(0), propertyType)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isGetter(String name, TypeMirror returnType) {
+    if (returnType.getKind() == TypeKind.VOID) {
+      return false;
+    }
+    if (returnType.getKind() == TypeKind.BOOLEAN && name.startsWith(IS) && name.length() > IS.length()) {
+      return true;
+    }
+    return name.startsWith(GET) && name.length() > GET.length() && !"getClass".equals(name);
+  }
+
+  private static String toPropertyName(String methodName) {
+    int prefix = methodName.startsWith(IS) ? IS.length() : GET.length();
+    return Introspector.decapitalize(methodName.substring(prefix));
+  }
+
+}
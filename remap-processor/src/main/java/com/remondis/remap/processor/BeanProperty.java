@@ -0,0 +1,44 @@
+package com.remondis.remap.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * The compile time representation of a Java Bean property with read and write access.
+ */
+class BeanProperty {
+
+  private final String name;
+  private final TypeMirror type;
+  private final String readMethod;
+  private final String writeMethod;
+
+  BeanProperty(String name, TypeMirror type, String readMethod, String writeMethod) {
+    super();
+    this.name = name;
+    this.type = type;
+    this.readMethod = readMethod;
+    this.writeMethod = writeMethod;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  TypeMirror getType() {
+    return type;
+  }
+
+  String getReadMethod() {
+    return readMethod;
+  }
+
+  String getWriteMethod() {
+    return writeMethod;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Property '%s' (%s)", name, type);
+  }
+
+}
@@ -0,0 +1,44 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an interface as the specification of a mapping that is generated at compile time. The
+ * {@link MappingProcessor} generates a class named like the specification with the suffix <code>Compiled</code> in
+ * the same package. The generated class provides a static <code>map</code> method and a static <code>mapper()</code>
+ * method returning a {@link com.remondis.remap.Mapper} for existing callers.
+ *
+ * <p>
+ * The specification declares the mapping operations with the annotations {@link Reassign}, {@link OmitInSource},
+ * {@link OmitInDestination}, {@link Replace} and {@link ReplaceCollection}. Like at runtime, all properties with equal
+ * names are mapped implicitly and all other properties must be mapped or omitted explicitly. Violations are reported
+ * as compile errors. Properties of different types are converted using the built-in conversions of the runtime, for
+ * example <code>int</code> to {@link Long}, numbers to {@link String} or {@link String} to enumeration values.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompileMapping {
+
+  /**
+   * @return Returns the source type of the mapping.
+   */
+  Class<?> source();
+
+  /**
+   * @return Returns the destination type of the mapping.
+   */
+  Class<?> destination();
+
+  /**
+   * @return Returns the specifications of the mappings to use for nested objects. This is the compile time equivalent
+   *         of {@link com.remondis.remap.Mapping#useMapper(com.remondis.remap.Mapper)}.
+   */
+  Class<?>[] uses() default {};
+
+}
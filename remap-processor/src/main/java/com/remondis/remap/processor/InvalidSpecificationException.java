@@ -0,0 +1,18 @@
+package com.remondis.remap.processor;
+
+/**
+ * Thrown if a mapping specification is invalid. The {@link MappingProcessor} reports the message as a compile error.
+ */
+class InvalidSpecificationException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  InvalidSpecificationException(String message) {
+    super(message);
+  }
+
+  InvalidSpecificationException(String format, Object... args) {
+    super(String.format(format, args));
+  }
+
+}
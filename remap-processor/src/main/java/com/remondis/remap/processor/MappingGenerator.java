@@ -0,0 +1,921 @@
+package com.remondis.remap.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+
+/**
+ * Validates a single mapping specification and generates the source code of the corresponding mapper. The validation
+ * follows the runtime validation of {@link com.remondis.remap.Mapping}: all properties must be mapped or omitted,
+ * properties cannot be selected more than once and nested object mappings require a mapping specification listed in
+ * {@link CompileMapping#uses()}.
+ */
+class MappingGenerator {
+
+  static final String COMPILED_SUFFIX = "Compiled";
+
+  private static final String GENERATED_JAVA8 = "javax.annotation.Generated";
+  private static final String GENERATED_JAVA9 = "javax.annotation.processing.Generated";
+
+  private static final Set<String> BUILD_IN_TYPES = new HashSet<>(Arrays.asList(Boolean.class.getName(),
+      Character.class.getName(), Byte.class.getName(), Short.class.getName(), Integer.class.getName(),
+      Long.class.getName(), Float.class.getName(), Double.class.getName(), String.class.getName()));
+
+  private final ProcessingEnvironment processingEnv;
+  private final Types types;
+  private final Elements elements;
+  private final TypeElement specification;
+
+  private DeclaredType sourceType;
+  private DeclaredType destinationType;
+  private Map<String, BeanProperty> sourceProperties;
+  private Map<String, BeanProperty> destinationProperties;
+
+  private final Set<String> mappedSourceProperties = new HashSet<>();
+  private final Set<String> mappedDestinationProperties = new HashSet<>();
+  private final Set<String> omittedSourceProperties = new HashSet<>();
+
+  /**
+   * The compiled mappers available for nested mappings, keyed by source and destination type.
+   */
+  private final Map<String, String> nestedMappers = new HashMap<>();
+
+  private final StringBuilder statements = new StringBuilder();
+  private final StringBuilder helpers = new StringBuilder();
+  private int helperCount;
+  private boolean hashCapacityUsed;
+
+  MappingGenerator(ProcessingEnvironment processingEnv, TypeElement specification) {
+    super();
+    this.processingEnv = processingEnv;
+    this.types = processingEnv.getTypeUtils();
+    this.elements = processingEnv.getElementUtils();
+    this.specification = specification;
+  }
+
+  /**
+   * Validates the specification and writes the generated mapper.
+   *
+   * @throws InvalidSpecificationException Thrown if the specification is invalid.
+   * @throws IOException Thrown if the source file cannot be written.
+   */
+  void generate() throws InvalidSpecificationException, IOException {
+    AnnotationMirror annotation = getCompileMapping(specification);
+    sourceType = toBeanType(getClassValue(annotation, "source"), "source");
+    destinationType = toBeanType(getClassValue(annotation, "destination"), "destination");
+    denyNoDefaultConstructor(destinationType);
+    sourceProperties = BeanProperties.getProperties(types, elements, sourceType);
+    destinationProperties = BeanProperties.getProperties(types, elements, destinationType);
+
+    registerNestedMappers(annotation);
+    addOmitMappings();
+    addReassignMappings();
+    addReplaceMappings();
+    addStrictMapping();
+    validateMapping();
+    write();
+  }
+
+  /**
+   * @return Returns the qualified names of the source and destination type of the generated mapper.
+   */
+  List<String> getMappedTypes() {
+    return Arrays.asList(types.erasure(sourceType)
+        .toString(),
+        types.erasure(destinationType)
+            .toString());
+  }
+
+  private void registerNestedMappers(AnnotationMirror annotation) throws InvalidSpecificationException {
+    // A specification may be used for its own nested properties, for example in tree structures.
+    nestedMappers.put(mapperKey(sourceType, destinationType), getCompiledName(specification));
+    for (AnnotationValue value : getClassValues(annotation, "uses")) {
+      TypeMirror usedType = (TypeMirror) value.getValue();
+      TypeElement usedSpecification = (TypeElement) types.asElement(usedType);
+      AnnotationMirror usedAnnotation = getCompileMapping(usedSpecification);
+      String key = mapperKey(getClassValue(usedAnnotation, "source"), getClassValue(usedAnnotation, "destination"));
+      String compiledName = getCompiledName(usedSpecification);
+      if (nestedMappers.containsKey(key) && !nestedMappers.get(key)
+          .equals(compiledName)) {
+        throw new InvalidSpecificationException("A mapper mapping the type %s to type %s was already registered.",
+            types.erasure(getClassValue(usedAnnotation, "source")),
+            types.erasure(getClassValue(usedAnnotation, "destination")));
+      }
+      nestedMappers.put(key, compiledName);
+    }
+  }
+
+  private void addOmitMappings() throws InvalidSpecificationException {
+    OmitInSource omitInSource = specification.getAnnotation(OmitInSource.class);
+    if (omitInSource != null) {
+      for (String propertyName : omitInSource.value()) {
+        BeanProperty property = getProperty(sourceProperties, sourceType, propertyName);
+        denyAlreadyMapped(mappedSourceProperties, property, sourceType);
+        mappedSourceProperties.add(propertyName);
+        omittedSourceProperties.add(propertyName);
+      }
+    }
+    OmitInDestination omitInDestination = specification.getAnnotation(OmitInDestination.class);
+    if (omitInDestination != null) {
+      for (String propertyName : omitInDestination.value()) {
+        BeanProperty property = getProperty(destinationProperties, destinationType, propertyName);
+        denyAlreadyMapped(mappedDestinationProperties, property, destinationType);
+        mappedDestinationProperties.add(propertyName);
+      }
+    }
+  }
+
+  private void addReassignMappings() throws InvalidSpecificationException {
+    for (Reassign reassign : specification.getAnnotationsByType(Reassign.class)) {
+      BeanProperty sourceProperty = getProperty(sourceProperties, sourceType, reassign.source());
+      BeanProperty destinationProperty = getProperty(destinationProperties, destinationType, reassign.destination());
+      addMapping(sourceProperty, destinationProperty);
+      writePropertyMapping(sourceProperty, destinationProperty);
+    }
+  }
+
+  private void addReplaceMappings() throws InvalidSpecificationException {
+    for (ExecutableElement method : ElementFilter.methodsIn(specification.getEnclosedElements())) {
+      Replace replace = method.getAnnotation(Replace.class);
+      if (replace != null) {
+        BeanProperty sourceProperty = getProperty(sourceProperties, sourceType, replace.source());
+        BeanProperty destinationProperty = getProperty(destinationProperties, destinationType,
+            replace.destination());
+        denyInvalidTransformMethod(method, sourceProperty.getType(), destinationProperty.getType());
+        addMapping(sourceProperty, destinationProperty);
+        writeReplace(method, sourceProperty, destinationProperty, replace.skipWhenNull());
+      }
+      ReplaceCollection replaceCollection = method.getAnnotation(ReplaceCollection.class);
+      if (replaceCollection != null) {
+        BeanProperty sourceProperty = getProperty(sourceProperties, sourceType, replaceCollection.source());
+        BeanProperty destinationProperty = getProperty(destinationProperties, destinationType,
+            replaceCollection.destination());
+        if (!isCollection(sourceProperty.getType()) || !isCollection(destinationProperty.getType())) {
+          throw incompatiblePropertyTypes("ReplaceCollection", sourceProperty, destinationProperty);
+        }
+        TypeMirror sourceItemType = getItemType(sourceProperty.getType());
+        TypeMirror destinationItemType = getItemType(destinationProperty.getType());
+        denyInvalidTransformMethod(method, sourceItemType, destinationItemType);
+        addMapping(sourceProperty, destinationProperty);
+        writeReplaceCollection(method, sourceProperty, destinationProperty, replaceCollection.skipWhenNull());
+      }
+    }
+  }
+
+  /**
+   * Adds a mapping for all unmapped properties of source that have a corresponding unmapped property in the
+   * destination type.
+   */
+  private void addStrictMapping() throws InvalidSpecificationException {
+    for (BeanProperty sourceProperty : sourceProperties.values()) {
+      if (mappedSourceProperties.contains(sourceProperty.getName())) {
+        continue;
+      }
+      BeanProperty destinationProperty = destinationProperties.get(sourceProperty.getName());
+      if (destinationProperty != null && !mappedDestinationProperties.contains(destinationProperty.getName())) {
+        addMapping(sourceProperty, destinationProperty);
+        writePropertyMapping(sourceProperty, destinationProperty);
+      }
+    }
+  }
+
+  private void validateMapping() throws InvalidSpecificationException {
+    StringBuilder msg = new StringBuilder();
+    appendUnmapped(msg, sourceProperties, mappedSourceProperties, sourceType);
+    appendUnmapped(msg, destinationProperties, mappedDestinationProperties, destinationType);
+    if (msg.length() > 0) {
+      throw new InvalidSpecificationException("The following properties are unmapped:\n" + msg);
+    }
+  }
+
+  private void appendUnmapped(StringBuilder msg, Map<String, BeanProperty> properties, Set<String> mapped,
+      DeclaredType type) {
+    for (BeanProperty property : properties.values()) {
+      if (!mapped.contains(property.getName())) {
+        msg.append("- Property '")
+            .append(property.getName())
+            .append("' in ")
+            .append(types.erasure(type))
+            .append("\n\taccess methods: ")
+            .append(property.getReadMethod())
+            .append("() / ")
+            .append(property.getWriteMethod())
+            .append("()\n");
+      }
+    }
+  }
+
+  private void addMapping(BeanProperty sourceProperty, BeanProperty destinationProperty)
+      throws InvalidSpecificationException {
+    if (omittedSourceProperties.contains(sourceProperty.getName())) {
+      throw alreadyMappedProperty(sourceProperty, sourceType);
+    }
+    denyAlreadyMapped(mappedDestinationProperties, destinationProperty, destinationType);
+    mappedSourceProperties.add(sourceProperty.getName());
+    mappedDestinationProperties.add(destinationProperty.getName());
+  }
+
+  private void writePropertyMapping(BeanProperty sourceProperty, BeanProperty destinationProperty)
+      throws InvalidSpecificationException {
+    TypeMirror source = sourceProperty.getType();
+    TypeMirror destination = destinationProperty.getType();
+    if (isMap(source) || isMap(destination)) {
+      if (!isMap(source) || !isMap(destination)) {
+        throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+      }
+      String helper = writeMapHelper((DeclaredType) source, (DeclaredType) destination, sourceProperty,
+          destinationProperty);
+      writeNullSafe(source, sourceProperty, destinationProperty, helper + "(value)");
+      return;
+    }
+    if (types.isSameType(source, destination) && source.getKind()
+        .isPrimitive()) {
+      statements.append(String.format("    destination.%s(source.%s());\n", destinationProperty.getWriteMethod(),
+          sourceProperty.getReadMethod()));
+    } else if (!types.isSameType(source, destination) && isConvertible(source, destination)) {
+      writeConversion(source, destination, sourceProperty, destinationProperty);
+    } else if (source.getKind()
+        .isPrimitive()
+        || destination.getKind()
+            .isPrimitive()) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    } else {
+      String conversion = convert(source, destination, "value", sourceProperty, destinationProperty);
+      writeNullSafe(source, sourceProperty, destinationProperty, conversion);
+    }
+  }
+
+  /**
+   * Checks if a built-in conversion of the runtime exists for the specified types, see
+   * <code>com.remondis.remap.Conversions</code>: boxing, unboxing and widening of primitive values and their object
+   * versions, primitive values and their object versions to {@link String} and vice versa except for characters and
+   * enumeration values to {@link String} and vice versa.
+   */
+  private boolean isConvertible(TypeMirror source, TypeMirror destination) {
+    PrimitiveType sourcePrimitive = toPrimitive(source);
+    PrimitiveType destinationPrimitive = toPrimitive(destination);
+    if (sourcePrimitive != null && destinationPrimitive != null) {
+      // Widening conversions as specified by JLS 5.1.2 are the subtype relation of the primitive types.
+      return types.isSubtype(sourcePrimitive, destinationPrimitive);
+    } else if (isString(destination)) {
+      return sourcePrimitive != null || isEnum(source);
+    } else if (isString(source)) {
+      return isEnum(destination)
+          || (destinationPrimitive != null && destinationPrimitive.getKind() != TypeKind.CHAR);
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Writes the built-in conversion of a property. Like at runtime <code>null</code> values are not written and values
+   * that cannot be parsed raise a {@link com.remondis.remap.MappingException}.
+   */
+  private void writeConversion(TypeMirror source, TypeMirror destination, BeanProperty sourceProperty,
+      BeanProperty destinationProperty) {
+    PrimitiveType sourcePrimitive = toPrimitive(source);
+    PrimitiveType destinationPrimitive = toPrimitive(destination);
+    // The primitive value of a non-null source value, unboxed explicitly to select the widening conversion.
+    String value = source.getKind()
+        .isPrimitive() ? "value" : (sourcePrimitive == null) ? null : "value." + sourcePrimitive + "Value()";
+    String conversion;
+    boolean parsing = false;
+    if (sourcePrimitive != null && destinationPrimitive != null) {
+      conversion = types.isSameType(sourcePrimitive, destinationPrimitive) ? "value"
+          : String.format("(%s) %s", destinationPrimitive, value);
+    } else if (isString(destination)) {
+      conversion = isEnum(source) ? "value.name()" : String.format("String.valueOf(%s)", value);
+    } else if (isEnum(destination)) {
+      conversion = String.format("%s.valueOf(value)", types.erasure(destination));
+      parsing = true;
+    } else {
+      conversion = String.format("%s.valueOf(value)", types.boxedClass(destinationPrimitive)
+          .getQualifiedName());
+      parsing = true;
+    }
+    String write = String.format("destination.%s(%s);\n", destinationProperty.getWriteMethod(), conversion);
+    statements.append("    {\n")
+        .append(String.format("      %s value = source.%s();\n", source, sourceProperty.getReadMethod()));
+    String indent = "      ";
+    if (!source.getKind()
+        .isPrimitive()) {
+      statements.append("      if (value != null) {\n");
+      indent += "  ";
+    }
+    if (parsing) {
+      statements.append(indent)
+          .append("try {\n")
+          .append(indent)
+          .append("  ")
+          .append(write)
+          .append(indent)
+          .append("} catch (IllegalArgumentException e) {\n")
+          .append(indent)
+          .append(String.format("  throw new com.remondis.remap.MappingException(\"The value '\" + value + \"' of "
+              + "type java.lang.String cannot be converted to %s.\", e);\n", types.erasure(destination)))
+          .append(indent)
+          .append("}\n");
+    } else {
+      statements.append(indent)
+          .append(write);
+    }
+    if (!source.getKind()
+        .isPrimitive()) {
+      statements.append("      }\n");
+    }
+    statements.append("    }\n");
+  }
+
+  private void writeReplace(ExecutableElement method, BeanProperty sourceProperty, BeanProperty destinationProperty,
+      boolean skipWhenNull) {
+    String invocation = String.format("%s.%s", specification.getQualifiedName(), method.getSimpleName());
+    if (skipWhenNull && !sourceProperty.getType()
+        .getKind()
+        .isPrimitive()) {
+      writeNullSafe(sourceProperty.getType(), sourceProperty, destinationProperty, invocation + "(value)");
+    } else {
+      statements.append(String.format("    destination.%s(%s(source.%s()));\n", destinationProperty.getWriteMethod(),
+          invocation, sourceProperty.getReadMethod()));
+    }
+  }
+
+  private void writeReplaceCollection(ExecutableElement method, BeanProperty sourceProperty,
+      BeanProperty destinationProperty, boolean skipWhenNull) throws InvalidSpecificationException {
+    String itemConversion = String.format("%s.%s(item)", specification.getQualifiedName(), method.getSimpleName());
+    String helper = writeCollectionHelper(sourceProperty.getType(), destinationProperty.getType(), itemConversion,
+        skipWhenNull, sourceProperty, destinationProperty);
+    writeNullSafe(sourceProperty.getType(), sourceProperty, destinationProperty, helper + "(value)");
+  }
+
+  private void writeNullSafe(TypeMirror sourceType, BeanProperty sourceProperty, BeanProperty destinationProperty,
+      String conversion) {
+    statements.append("    {\n")
+        .append(String.format("      %s value = source.%s();\n", sourceType, sourceProperty.getReadMethod()))
+        .append("      if (value != null) {\n")
+        .append(String.format("        destination.%s(%s);\n", destinationProperty.getWriteMethod(), conversion))
+        .append("      }\n")
+        .append("    }\n");
+  }
+
+  /**
+   * Returns the expression converting the non-null value of the specified expression from the source type to the
+   * destination type.
+   */
+  private String convert(TypeMirror source, TypeMirror destination, String expression, BeanProperty sourceProperty,
+      BeanProperty destinationProperty) throws InvalidSpecificationException {
+    if (isCollection(source) && isCollection(destination)) {
+      TypeMirror destinationItemType = getItemType(destination);
+      String itemConversion = convert(getItemType(source), destinationItemType, "item", sourceProperty,
+          destinationProperty);
+      String helper = writeCollectionHelper(source, destination, itemConversion, false, sourceProperty,
+          destinationProperty);
+      return helper + "(" + expression + ")";
+    }
+    if (source.getKind() == TypeKind.ARRAY && destination.getKind() == TypeKind.ARRAY) {
+      String helper = writeArrayHelper((ArrayType) source, (ArrayType) destination, sourceProperty,
+          destinationProperty);
+      return helper + "(" + expression + ")";
+    }
+    if (source.getKind() == TypeKind.ARRAY || destination.getKind() == TypeKind.ARRAY || isCollection(source)
+        || isCollection(destination) || source.getKind()
+            .isPrimitive()
+        || destination.getKind()
+            .isPrimitive()) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    }
+    TypeMirror sourceErasure = types.erasure(source);
+    TypeMirror destinationErasure = types.erasure(destination);
+    if (types.isSameType(sourceErasure, destinationErasure)) {
+      return expression;
+    }
+    if (isBuildInType(sourceErasure) && isBuildInType(destinationErasure)) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    }
+    String compiledMapper = nestedMappers.get(mapperKey(source, destination));
+    if (compiledMapper == null) {
+      throw new InvalidSpecificationException(
+          "No mapper found for type mapping from %s to %s. Add the mapping specification to 'uses'.", sourceErasure,
+          destinationErasure);
+    }
+    return String.format("%s.map(%s)", compiledMapper, expression);
+  }
+
+  /**
+   * Writes a helper method mapping a collection with the specified item conversion.
+   *
+   * @return Returns the name of the helper method.
+   */
+  private String writeCollectionHelper(TypeMirror source, TypeMirror destination, String itemConversion,
+      boolean skipNullItems, BeanProperty sourceProperty, BeanProperty destinationProperty)
+      throws InvalidSpecificationException {
+    TypeMirror sourceItemType = getItemType(source);
+    TypeMirror destinationItemType = getItemType(destination);
+    String collectionType = types.erasure(destination)
+        .toString();
+    String newCollection;
+    if (List.class.getName()
+        .equals(collectionType)) {
+      newCollection = String.format("new java.util.ArrayList<%s>(source.size())", destinationItemType);
+    } else if (Set.class.getName()
+        .equals(collectionType)) {
+      newCollection = String.format("new java.util.HashSet<%s>(hashCapacity(source.size()))", destinationItemType);
+    } else if (java.util.Collection.class.getName()
+        .equals(collectionType)) {
+      // Like at runtime, the collection type follows the source collection.
+      newCollection = String.format("(source instanceof java.util.Set) ? new java.util.HashSet<%1$s>("
+          + "hashCapacity(source.size())) : new java.util.ArrayList<%1$s>(source.size())", destinationItemType);
+    } else {
+      throw new InvalidSpecificationException("The collection type %s of %s is currently not supported. Only "
+          + "java.util.Set, java.util.List and java.util.Collection are supported collections.", collectionType,
+          destinationProperty);
+    }
+    String name = "mapCollection" + (++helperCount);
+    String add;
+    if (skipNullItems) {
+      add = String.format("      if (item != null) {\n        destination.add(%s);\n      }\n", itemConversion);
+    } else if ("item".equals(itemConversion)) {
+      add = "      destination.add(item);\n";
+    } else {
+      add = String.format("      destination.add((item == null) ? null : %s);\n", itemConversion);
+    }
+    helpers.append("\n")
+        .append(String.format("  private static %s %s(java.util.Collection<? extends %s> source) {\n", destination,
+            name, sourceItemType))
+        .append(String.format("    %s<%s> destination = %s;\n", collectionType, destinationItemType, newCollection))
+        .append(String.format("    for (%s item : source) {\n", sourceItemType))
+        .append(add)
+        .append("    }\n")
+        .append("    return destination;\n")
+        .append("  }\n");
+    hashCapacityUsed = true;
+    return name;
+  }
+
+  /**
+   * Writes a helper method creating a new map like the runtime mapping of maps: Keys and values of the same type are
+   * copied by reference, other keys and values are mapped by the nested mappers. Parameterized keys and values are not
+   * mapped and must be of the same type. <code>null</code> keys and values are kept. In contrast to the runtime, that
+   * creates a map of the implementation of the source map, the implementation is selected by the declared type of the
+   * destination property: A concrete map class is created using its no-args constructor, otherwise a
+   * {@link java.util.LinkedHashMap}, {@link java.util.TreeMap}, {@link java.util.concurrent.ConcurrentHashMap} or
+   * {@link java.util.concurrent.ConcurrentSkipListMap} is created. Sorted maps keep the comparator of a sorted source
+   * map if the keys are copied.
+   *
+   * @return Returns the name of the helper method.
+   */
+  private String writeMapHelper(DeclaredType source, DeclaredType destination, BeanProperty sourceProperty,
+      BeanProperty destinationProperty) throws InvalidSpecificationException {
+    if (source.getTypeArguments()
+        .size() != 2
+        || destination.getTypeArguments()
+            .size() != 2) {
+      throw new InvalidSpecificationException("The map type of %s or %s does not declare key and value type. Use a "
+          + "replace operation for this property.", sourceProperty, destinationProperty);
+    }
+    // Like at runtime the destination map type must be assignable from the source map type.
+    if (!types.isAssignable(types.erasure(source), types.erasure(destination))) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    }
+    TypeMirror sourceKeyType = getTypeArgument(source, 0);
+    TypeMirror sourceValueType = getTypeArgument(source, 1);
+    TypeMirror destinationKeyType = getTypeArgument(destination, 0);
+    TypeMirror destinationValueType = getTypeArgument(destination, 1);
+    String keyConversion = convertMapEntry(sourceKeyType, destinationKeyType, "key", sourceProperty,
+        destinationProperty);
+    String valueConversion = convertMapEntry(sourceValueType, destinationValueType, "value", sourceProperty,
+        destinationProperty);
+    String name = "mapMap" + (++helperCount);
+    helpers.append("\n")
+        .append(String.format("  private static %s %s(%s source) {\n", destination, name, source))
+        .append(String.format("    %s destination = %s;\n", destination,
+            newMap(source, destination, "key".equals(keyConversion))))
+        .append(String.format("    for (java.util.Map.Entry<? extends %s, ? extends %s> entry : source.entrySet()) {\n",
+            sourceKeyType, sourceValueType))
+        .append(String.format("      %s key = entry.getKey();\n", sourceKeyType))
+        .append(String.format("      %s value = entry.getValue();\n", sourceValueType))
+        .append(String.format("      destination.put(%s, %s);\n", nullSafe("key", keyConversion),
+            nullSafe("value", valueConversion)))
+        .append("    }\n")
+        .append("    return destination;\n")
+        .append("  }\n");
+    return name;
+  }
+
+  private String convertMapEntry(TypeMirror source, TypeMirror destination, String expression,
+      BeanProperty sourceProperty, BeanProperty destinationProperty) throws InvalidSpecificationException {
+    if (types.isSameType(source, destination)) {
+      return expression;
+    } else if (isParameterized(source) || isParameterized(destination)) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    } else {
+      return convert(source, destination, expression, sourceProperty, destinationProperty);
+    }
+  }
+
+  private String newMap(DeclaredType source, DeclaredType destination, boolean sameKeys) {
+    TypeElement mapType = (TypeElement) destination.asElement();
+    String typeArguments = String.format("<%s, %s>", getTypeArgument(destination, 0), getTypeArgument(destination,
+        1));
+    String comparator = (sameKeys && isSubtypeOf(source, SortedMap.class)) ? "source.comparator()" : "";
+    if (mapType.getKind() == ElementKind.CLASS && !mapType.getModifiers()
+        .contains(Modifier.ABSTRACT) && hasPublicNoArgsConstructor(mapType)) {
+      return String.format("new %s%s()", mapType.getQualifiedName(), mapType.getTypeParameters()
+          .size() == 2 ? typeArguments : "");
+    }
+    for (Class<?> implementation : Arrays.asList(LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class,
+        ConcurrentSkipListMap.class)) {
+      TypeMirror implementationType = types.erasure(elements.getTypeElement(implementation.getName())
+          .asType());
+      if (types.isAssignable(implementationType, types.erasure(destination))) {
+        boolean sorted = SortedMap.class.isAssignableFrom(implementation);
+        return String.format("new %s%s(%s)", implementation.getName(), typeArguments, sorted ? comparator : "");
+      }
+    }
+    return String.format("new %s%s()", mapType.getQualifiedName(), typeArguments);
+  }
+
+  private static String nullSafe(String expression, String conversion) {
+    return expression.equals(conversion) ? expression
+        : String.format("(%s == null) ? null : %s", expression, conversion);
+  }
+
+  /**
+   * Writes a helper method creating a new array of the destination type like the runtime mapping of arrays: Arrays are
+   * created level by level, so both arrays must have the same number of dimensions. Elements of the same type are
+   * copied, other elements are mapped by the nested mapper. <code>null</code> elements are kept.
+   *
+   * @return Returns the name of the helper method.
+   */
+  private String writeArrayHelper(ArrayType source, ArrayType destination, BeanProperty sourceProperty,
+      BeanProperty destinationProperty) throws InvalidSpecificationException {
+    TypeMirror sourceComponent = source.getComponentType();
+    TypeMirror destinationComponent = destination.getComponentType();
+    boolean nested = sourceComponent.getKind() == TypeKind.ARRAY;
+    if (nested != (destinationComponent.getKind() == TypeKind.ARRAY)) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    }
+    String body;
+    if (nested) {
+      String elementHelper = writeArrayHelper((ArrayType) sourceComponent, (ArrayType) destinationComponent,
+          sourceProperty, destinationProperty);
+      body = String.format("      destination[i] = (source[i] == null) ? null : %s(source[i]);\n", elementHelper);
+    } else if (types.isSameType(types.erasure(sourceComponent), types.erasure(destinationComponent))) {
+      body = null;
+    } else if (sourceComponent.getKind()
+        .isPrimitive()
+        || destinationComponent.getKind()
+            .isPrimitive()) {
+      throw incompatiblePropertyTypes("Reassign", sourceProperty, destinationProperty);
+    } else {
+      String elementConversion = convert(sourceComponent, destinationComponent, "source[i]", sourceProperty,
+          destinationProperty);
+      body = String.format("      destination[i] = (source[i] == null) ? null : %s;\n", elementConversion);
+    }
+    String name = "mapArray" + (++helperCount);
+    String destinationErasure = types.erasure(destination)
+        .toString();
+    helpers.append("\n")
+        .append(String.format("  private static %s %s(%s source) {\n", destinationErasure, name,
+            types.erasure(source)));
+    if (body == null) {
+      helpers.append("    return java.util.Arrays.copyOf(source, source.length);\n");
+    } else {
+      // The length is inserted into the first dimension, e.g. new int[source.length][] for int[][].
+      int firstDimension = destinationErasure.indexOf("[]");
+      helpers.append(String.format("    %s destination = new %s[source.length]%s;\n", destinationErasure,
+          destinationErasure.substring(0, firstDimension), destinationErasure.substring(firstDimension + 2)))
+          .append("    for (int i = 0; i < source.length; i++) {\n")
+          .append(body)
+          .append("    }\n")
+          .append("    return destination;\n");
+    }
+    helpers.append("  }\n");
+    return name;
+  }
+
+  private void write() throws IOException {
+    PackageElement packageElement = elements.getPackageOf(specification);
+    String packageName = packageElement.getQualifiedName()
+        .toString();
+    String compiledName = getCompiledName(specification);
+    final String simpleName = compiledName.substring(compiledName.lastIndexOf('.') + 1);
+    String source = types.erasure(sourceType)
+        .toString();
+    String destination = types.erasure(destinationType)
+        .toString();
+
+    StringBuilder code = new StringBuilder();
+    if (!packageElement.isUnnamed()) {
+      code.append("package ")
+          .append(packageName)
+          .append(";\n\n");
+    }
+    code.append("/**\n")
+        .append(String.format(" * Mapping from {@link %s} to {@link %s} generated from the specification\n", source,
+            destination))
+        .append(String.format(" * {@link %s}.\n", specification.getQualifiedName()))
+        .append(" */\n");
+    String generated = getGeneratedAnnotation();
+    if (generated != null) {
+      code.append(String.format("@%s(\"%s\")\n", generated, MappingProcessor.class.getName()));
+    }
+    code.append(String.format("public final class %s implements com.remondis.remap.Transform<%s, %s> {\n\n",
+        simpleName, source, destination))
+        .append(String.format("  private static final %1$s INSTANCE = new %1$s();\n\n", simpleName))
+        .append(String.format("  private %s() {\n  }\n\n", simpleName))
+        .append("  /**\n")
+        .append("   * @return Returns a {@link com.remondis.remap.Mapper} performing this compiled mapping.\n")
+        .append("   */\n")
+        .append(String.format("  public static com.remondis.remap.Mapper<%s, %s> mapper() {\n", source, destination))
+        .append(String.format("    return com.remondis.remap.Mapping.from(%s.class)\n", source))
+        .append(String.format("        .to(%s.class)\n", destination))
+        .append("        .compiled(INSTANCE);\n")
+        .append("  }\n\n")
+        .append("  /**\n")
+        .append("   * Performs the mapping from the source to destination type.\n")
+        .append("   *\n")
+        .append("   * @param source The source object to map to a new destination object.\n")
+        .append("   * @return Returns a newly created destination object.\n")
+        .append("   */\n")
+        .append(String.format("  public static %s map(%s source) {\n", destination, source))
+        .append("    if (source == null) {\n")
+        .append("      throw new com.remondis.remap.MappingException(\"Mapper cannot map null object.\");\n")
+        .append("    }\n")
+        .append(String.format("    %1$s destination = new %1$s();\n", destination))
+        .append(statements)
+        .append("    return destination;\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append(String.format("  public %s transform(%s source) {\n", destination, source))
+        .append("    return map(source);\n")
+        .append("  }\n");
+    if (hashCapacityUsed) {
+      code.append("\n")
+          .append("  private static int hashCapacity(int size) {\n")
+          .append("    return Math.max((int) (size / .75f) + 1, 16);\n")
+          .append("  }\n");
+    }
+    code.append(helpers)
+        .append("\n}\n");
+
+    JavaFileObject file = processingEnv.getFiler()
+        .createSourceFile(compiledName, specification);
+    try (Writer writer = file.openWriter()) {
+      writer.write(code.toString());
+    }
+  }
+
+  private String getGeneratedAnnotation() {
+    if (elements.getTypeElement(GENERATED_JAVA9) != null) {
+      return GENERATED_JAVA9;
+    } else if (elements.getTypeElement(GENERATED_JAVA8) != null) {
+      return GENERATED_JAVA8;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the qualified name of the mapper generated for the specified specification. Nested specifications are
+   * named after their enclosing types.
+   */
+  static String getCompiledName(TypeElement specification) {
+    String qualifiedName = specification.getQualifiedName()
+        .toString();
+    String packageName = qualifiedName.substring(0, Math.max(0, qualifiedName.length() - getNestedName(specification)
+        .length() - 1));
+    String simpleName = getNestedName(specification).replace('.', '_') + COMPILED_SUFFIX;
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  private static String getNestedName(TypeElement type) {
+    if (type.getEnclosingElement() instanceof TypeElement) {
+      return getNestedName((TypeElement) type.getEnclosingElement()) + "." + type.getSimpleName();
+    } else {
+      return type.getSimpleName()
+          .toString();
+    }
+  }
+
+  private void denyInvalidTransformMethod(ExecutableElement method, TypeMirror sourceType,
+      TypeMirror destinationType) throws InvalidSpecificationException {
+    if (!method.getModifiers()
+        .contains(Modifier.STATIC)
+        || method.getParameters()
+            .size() != 1
+        || !types.isAssignable(sourceType, method.getParameters()
+            .get(0)
+            .asType())
+        || !types.isAssignable(method.getReturnType(), destinationType)) {
+      throw new InvalidSpecificationException("The transform method '%s' must be a static method accepting %s and "
+          + "returning %s.", method.getSimpleName(), sourceType, destinationType);
+    }
+  }
+
+  private void denyNoDefaultConstructor(DeclaredType type) throws InvalidSpecificationException {
+    if (hasPublicNoArgsConstructor((TypeElement) type.asElement())) {
+      return;
+    }
+    throw new InvalidSpecificationException("The type %s does not have a public no-args constructor and cannot be "
+        + "used for mapping.", types.erasure(type));
+  }
+
+  private static boolean hasPublicNoArgsConstructor(TypeElement type) {
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (constructor.getParameters()
+          .isEmpty()
+          && constructor.getModifiers()
+              .contains(Modifier.PUBLIC)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private DeclaredType toBeanType(TypeMirror type, String attribute) throws InvalidSpecificationException {
+    if (type.getKind() != TypeKind.DECLARED || !((TypeElement) types.asElement(type)).getTypeParameters()
+        .isEmpty()) {
+      throw new InvalidSpecificationException("The %s type %s must be a non-generic class.", attribute, type);
+    }
+    return (DeclaredType) type;
+  }
+
+  private BeanProperty getProperty(Map<String, BeanProperty> properties, DeclaredType type, String propertyName)
+      throws InvalidSpecificationException {
+    BeanProperty property = properties.get(propertyName);
+    if (property == null) {
+      throw new InvalidSpecificationException(
+          "The get-method for property '%s' in type %s is not a valid Java Bean property.", propertyName,
+          types.erasure(type));
+    }
+    return property;
+  }
+
+  private void denyAlreadyMapped(Set<String> mappedProperties, BeanProperty property, DeclaredType type)
+      throws InvalidSpecificationException {
+    if (mappedProperties.contains(property.getName())) {
+      throw alreadyMappedProperty(property, type);
+    }
+  }
+
+  private InvalidSpecificationException alreadyMappedProperty(BeanProperty property, DeclaredType type) {
+    return new InvalidSpecificationException(
+        "The property '%s' in '%s' is already mapped an cannot be selected more than once.", property.getName(),
+        types.erasure(type));
+  }
+
+  private InvalidSpecificationException incompatiblePropertyTypes(String operation, BeanProperty sourceProperty,
+      BeanProperty destinationProperty) {
+    return new InvalidSpecificationException(
+        "The operation %s cannot be applied on the incompatible property types\n%s in %s\nand %s in %s", operation,
+        sourceProperty, types.erasure(sourceType), destinationProperty, types.erasure(destinationType));
+  }
+
+  private TypeMirror getItemType(TypeMirror collectionType) throws InvalidSpecificationException {
+    List<? extends TypeMirror> typeArguments = ((DeclaredType) collectionType).getTypeArguments();
+    if (typeArguments.isEmpty()) {
+      throw new InvalidSpecificationException("The raw collection type %s is not supported.", collectionType);
+    }
+    TypeMirror itemType = typeArguments.get(0);
+    if (itemType.getKind() == TypeKind.WILDCARD) {
+      TypeMirror bound = ((WildcardType) itemType).getExtendsBound();
+      return (bound == null) ? elements.getTypeElement(Object.class.getName())
+          .asType() : bound;
+    }
+    return itemType;
+  }
+
+  /**
+   * @return Returns the primitive type of the specified primitive type or object version of a primitive type,
+   *         otherwise <code>null</code>.
+   */
+  private PrimitiveType toPrimitive(TypeMirror type) {
+    if (type.getKind()
+        .isPrimitive()) {
+      return (PrimitiveType) type;
+    }
+    try {
+      return types.unboxedType(type);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private boolean isString(TypeMirror type) {
+    return String.class.getName()
+        .equals(type.toString());
+  }
+
+  private boolean isEnum(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED && types.asElement(type)
+        .getKind() == ElementKind.ENUM;
+  }
+
+  /**
+   * Returns the type argument at the specified index, wildcards are resolved to their upper bound.
+   */
+  private TypeMirror getTypeArgument(DeclaredType type, int index) {
+    TypeMirror typeArgument = type.getTypeArguments()
+        .get(index);
+    if (typeArgument.getKind() == TypeKind.WILDCARD) {
+      TypeMirror bound = ((WildcardType) typeArgument).getExtendsBound();
+      return (bound == null) ? elements.getTypeElement(Object.class.getName())
+          .asType() : bound;
+    }
+    return typeArgument;
+  }
+
+  private boolean isParameterized(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments()
+        .isEmpty();
+  }
+
+  private boolean isCollection(TypeMirror type) {
+    return isSubtypeOf(type, java.util.Collection.class);
+  }
+
+  private boolean isMap(TypeMirror type) {
+    return isSubtypeOf(type, Map.class);
+  }
+
+  private boolean isSubtypeOf(TypeMirror type, Class<?> superType) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeMirror superTypeMirror = types.erasure(elements.getTypeElement(superType.getName())
+        .asType());
+    return types.isSubtype(types.erasure(type), superTypeMirror);
+  }
+
+  private boolean isBuildInType(TypeMirror type) {
+    return BUILD_IN_TYPES.contains(type.toString());
+  }
+
+  private String mapperKey(TypeMirror source, TypeMirror destination) {
+    return types.erasure(source) + "->" + types.erasure(destination);
+  }
+
+  private AnnotationMirror getCompileMapping(TypeElement element) throws InvalidSpecificationException {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType()
+          .asElement()).getQualifiedName()
+              .contentEquals(CompileMapping.class.getName())) {
+        return mirror;
+      }
+    }
+    throw new InvalidSpecificationException("The type %s is not a mapping specification annotated with @%s.",
+        element.getQualifiedName(), CompileMapping.class.getSimpleName());
+  }
+
+  private TypeMirror getClassValue(AnnotationMirror annotation, String name) {
+    return (TypeMirror) getValue(annotation, name).getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<AnnotationValue> getClassValues(AnnotationMirror annotation, String name) {
+    return (List<AnnotationValue>) getValue(annotation, name).getValue();
+  }
+
+  private AnnotationValue getValue(AnnotationMirror annotation, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+        .getElementValuesWithDefaults(annotation)
+        .entrySet()) {
+      if (entry.getKey()
+          .getSimpleName()
+          .contentEquals(name)) {
+        return entry.getValue();
+      }
+    }
+    throw new IllegalStateException("Missing annotation value " + name);
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.remondis.remap.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating plain Java mappers for interfaces annotated with {@link CompileMapping}. The
+ * processor performs the same validation as {@link com.remondis.remap.Mapping#mapper()} at compile time and reports
+ * invalid specifications as compile errors. The generated mappers do not use reflection, proxies or bean
+ * introspection.
+ *
+ * <p>
+ * The processor also writes the resource <code>META-INF/native-image/com.remondis.remap/compiled/reflect-config.json
+ * </code> registering the public constructors of the mapped types, which are checked when the generated mappers are
+ * adapted to the {@link com.remondis.remap.Mapper} API. GraalVM native-image picks up this file automatically.
+ * </p>
+ */
+@SupportedAnnotationTypes("com.remondis.remap.processor.CompileMapping")
+public class MappingProcessor extends AbstractProcessor {
+
+  static final String REFLECT_CONFIG = "META-INF/native-image/com.remondis.remap/compiled/reflect-config.json";
+
+  /**
+   * The types of all mappers generated in this compilation.
+   */
+  private final Set<String> mappedTypes = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(CompileMapping.class)) {
+      if (element.getKind() != ElementKind.INTERFACE) {
+        processingEnv.getMessager()
+            .printMessage(Kind.ERROR, "A mapping specification must be an interface.", element);
+        continue;
+      }
+      try {
+        MappingGenerator generator = new MappingGenerator(processingEnv, (TypeElement) element);
+        generator.generate();
+        mappedTypes.addAll(generator.getMappedTypes());
+      } catch (InvalidSpecificationException e) {
+        processingEnv.getMessager()
+            .printMessage(Kind.ERROR, e.getMessage(), element);
+      } catch (IOException e) {
+        processingEnv.getMessager()
+            .printMessage(Kind.ERROR, String.format("Cannot write the generated mapper: %s", e.getMessage()),
+                element);
+      }
+    }
+    if (roundEnv.processingOver() && !mappedTypes.isEmpty()) {
+      writeReflectionConfiguration();
+    }
+    return true;
+  }
+
+  private void writeReflectionConfiguration() {
+    try {
+      FileObject file = processingEnv.getFiler()
+          .createResource(StandardLocation.CLASS_OUTPUT, "", REFLECT_CONFIG);
+      try (Writer writer = file.openWriter()) {
+        writer.write("[\n");
+        Iterator<String> it = mappedTypes.iterator();
+        while (it.hasNext()) {
+          writer.write(String.format("  {\n    \"name\" : \"%s\",\n    \"allPublicConstructors\" : true\n  }%s\n",
+              it.next(), it.hasNext() ? "," : ""));
+        }
+        writer.write("]\n");
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager()
+          .printMessage(Kind.ERROR, String.format("Cannot write %s: %s", REFLECT_CONFIG, e.getMessage()));
+    }
+  }
+
+}
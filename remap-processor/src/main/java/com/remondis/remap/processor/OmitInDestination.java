@@ -0,0 +1,23 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks properties of the destination type as omitted. This is the compile time equivalent of
+ * {@link com.remondis.remap.Mapping#omitInDestination(com.remondis.remap.FieldSelector)}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface OmitInDestination {
+
+  /**
+   * @return Returns the names of the omitted properties.
+   */
+  String[] value();
+
+}
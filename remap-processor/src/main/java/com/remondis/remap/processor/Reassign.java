@@ -0,0 +1,30 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reassigns a source property to a destination property with a different name. This is the compile time equivalent
+ * of {@link com.remondis.remap.Mapping#reassign(com.remondis.remap.TypedSelector)}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(Reassigns.class)
+public @interface Reassign {
+
+  /**
+   * @return Returns the name of the source property.
+   */
+  String source();
+
+  /**
+   * @return Returns the name of the destination property.
+   */
+  String destination();
+
+}
@@ -0,0 +1,22 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Container for repeated {@link Reassign} annotations.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Reassigns {
+
+  /**
+   * @return Returns the reassign operations.
+   */
+  Reassign[] value();
+
+}
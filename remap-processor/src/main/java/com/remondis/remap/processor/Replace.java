@@ -0,0 +1,36 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a static method of a mapping specification as the transform function that converts a source property to a
+ * destination property. The method must accept the value of the source property and return a value of the
+ * destination property type. This is the compile time equivalent of
+ * {@link com.remondis.remap.Mapping#replace(com.remondis.remap.TypedSelector, com.remondis.remap.TypedSelector)}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Replace {
+
+  /**
+   * @return Returns the name of the source property.
+   */
+  String source();
+
+  /**
+   * @return Returns the name of the destination property.
+   */
+  String destination();
+
+  /**
+   * @return Returns <code>true</code> if the transform function should not be called for <code>null</code> source
+   *         values. The default is <code>false</code>, so the method must handle <code>null</code> itself.
+   */
+  boolean skipWhenNull() default false;
+
+}
@@ -0,0 +1,36 @@
+package com.remondis.remap.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a static method of a mapping specification as the transform function that converts the items of a source
+ * collection property to the items of a destination collection property. This is the compile time equivalent of
+ * {@link com.remondis.remap.Mapping#replaceCollection(com.remondis.remap.TypedSelector,
+ * com.remondis.remap.TypedSelector)}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface ReplaceCollection {
+
+  /**
+   * @return Returns the name of the source property.
+   */
+  String source();
+
+  /**
+   * @return Returns the name of the destination property.
+   */
+  String destination();
+
+  /**
+   * @return Returns <code>true</code> if <code>null</code> items should be skipped. The default is <code>false</code>,
+   *         so the method must handle <code>null</code> items itself.
+   */
+  boolean skipWhenNull() default false;
+
+}
@@ -0,0 +1,13 @@
+package com.remondis.remap.processor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Address {
+  private String street;
+  private String city;
+}
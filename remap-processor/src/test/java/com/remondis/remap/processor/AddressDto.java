@@ -0,0 +1,13 @@
+package com.remondis.remap.processor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressDto {
+  private String street;
+  private String city;
+}
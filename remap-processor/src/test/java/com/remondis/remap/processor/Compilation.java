@@ -0,0 +1,104 @@
+package com.remondis.remap.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles mapping specifications in memory using the {@link MappingProcessor}.
+ */
+class Compilation {
+
+  private final DiagnosticCollector<JavaFileObject> diagnostics;
+  private final File outputDirectory;
+  private final boolean success;
+
+  private Compilation(File outputDirectory, boolean success, DiagnosticCollector<JavaFileObject> diagnostics) {
+    this.outputDirectory = outputDirectory;
+    this.success = success;
+    this.diagnostics = diagnostics;
+  }
+
+  /**
+   * Compiles the specified sources.
+   *
+   * @param sources The sources keyed by fully qualified class name.
+   */
+  static Compilation compile(Map<String, String> sources) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    File outputDirectory = Files.createTempDirectory("remap-processor")
+        .toFile();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      List<JavaFileObject> compilationUnits = sources.entrySet()
+          .stream()
+          .map(e -> new StringSource(e.getKey(), e.getValue()))
+          .collect(Collectors.toList());
+      List<String> options = new ArrayList<>(Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+          outputDirectory.getAbsolutePath(), "-s", outputDirectory.getAbsolutePath()));
+      CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits);
+      task.setProcessors(Collections.singletonList(new MappingProcessor()));
+      boolean success = task.call();
+      return new Compilation(outputDirectory, success, diagnostics);
+    }
+  }
+
+  boolean isSuccess() {
+    return success;
+  }
+
+  String getErrors() {
+    return diagnostics.getDiagnostics()
+        .stream()
+        .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+        .map(d -> d.getMessage(null))
+        .collect(Collectors.joining("\n"));
+  }
+
+  File getOutputFile(String path) {
+    return new File(outputDirectory, path);
+  }
+
+  Class<?> loadClass(String name) throws Exception {
+    URLClassLoader classLoader = new URLClassLoader(new URL[] {
+        outputDirectory.toURI()
+            .toURL()
+    }, getClass().getClassLoader());
+    return classLoader.loadClass(name);
+  }
+
+  private static class StringSource extends SimpleJavaFileObject {
+
+    private final String code;
+
+    StringSource(String className, String code) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+
+  }
+
+}
@@ -0,0 +1,14 @@
+package com.remondis.remap.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import lombok.Data;
+
+@Data
+public class DirectoryDto {
+  private Map<String, AddressDto> addresses;
+  private SortedMap<String, Integer> counts;
+  private Map<String, List<String>> tags;
+}
@@ -0,0 +1,311 @@
+package com.remondis.remap.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class MappingProcessorTest {
+
+  private static final String PACKAGE = "package com.remondis.remap.processor;\n"
+      + "import com.remondis.remap.processor.*;\n";
+
+  private static final String ADDRESS_SPEC = PACKAGE
+      + "@CompileMapping(source = Address.class, destination = AddressDto.class)\n"
+      + "public interface AddressSpec {\n" + "}\n";
+
+  private static final String PERSON_SPEC = PACKAGE
+      + "@CompileMapping(source = Person.class, destination = PersonDto.class, uses = AddressSpec.class)\n"
+      + "@Reassign(source = \"forename\", destination = \"firstName\")\n"
+      + "@OmitInSource(\"internalId\")\n"
+      + "@OmitInDestination(\"id\")\n"
+      + "public interface PersonSpec {\n"
+      + "  @Replace(source = \"email\", destination = \"emailDomain\", skipWhenNull = true)\n"
+      + "  static String domain(String email) {\n"
+      + "    return email.substring(email.indexOf('@') + 1);\n"
+      + "  }\n"
+      + "}\n";
+
+  private static final String SAMPLE_SPEC = PACKAGE
+      + "@CompileMapping(source = Sample.class, destination = SampleDto.class)\n"
+      + "public interface SampleSpec {\n" + "}\n";
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldGenerateMapper() throws Exception {
+    Compilation compilation = compile(ADDRESS_SPEC, PERSON_SPEC);
+    assertThat(compilation.isSuccess()).as(compilation.getErrors())
+        .isTrue();
+
+    Mapper<Person, PersonDto> mapper = (Mapper<Person, PersonDto>) compilation
+        .loadClass("com.remondis.remap.processor.PersonSpecCompiled")
+        .getMethod("mapper")
+        .invoke(null);
+
+    Person person = new Person();
+    person.setForename("forename");
+    person.setName("name");
+    person.setAge(42);
+    person.setAddress(new Address("street", "city"));
+    person.setAddresses(Arrays.asList(new Address("a", "b"), null));
+    person.setTags(new HashSet<>(Arrays.asList("x", "y")));
+    person.setEmail("someone@example.com");
+    person.setInternalId("internal");
+
+    PersonDto dto = mapper.map(person);
+    assertThat(dto.getId()).isNull();
+    assertThat(dto.getFirstName()).isEqualTo("forename");
+    assertThat(dto.getName()).isEqualTo("name");
+    assertThat(dto.getAge()).isEqualTo(42);
+    assertThat(dto.getAddress()).isEqualTo(new AddressDto("street", "city"));
+    assertThat(dto.getAddresses()).containsExactly(new AddressDto("a", "b"), null);
+    assertThat(dto.getTags()).containsOnly("x", "y")
+        .isNotSameAs(person.getTags());
+    assertThat(dto.getEmailDomain()).isEqualTo("example.com");
+
+    List<PersonDto> dtos = mapper.map(Arrays.asList(person, new Person()));
+    assertThat(dtos).hasSize(2);
+    assertThat(dtos.get(1)
+        .getEmailDomain()).isNull();
+    assertThat(mapper.toString()).contains("compiled mapping");
+    assertThatThrownBy(() -> mapper.map((Person) null)).isInstanceOf(MappingException.class);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldCopyArrays() throws Exception {
+    String spec = PACKAGE + "@CompileMapping(source = Measurement.class, destination = MeasurementDto.class, "
+        + "uses = AddressSpec.class)\n" + "public interface MeasurementSpec {\n" + "}\n";
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).as(compilation.getErrors())
+        .isTrue();
+
+    Mapper<Measurement, MeasurementDto> mapper = (Mapper<Measurement, MeasurementDto>) compilation
+        .loadClass("com.remondis.remap.processor.MeasurementSpecCompiled")
+        .getMethod("mapper")
+        .invoke(null);
+
+    Measurement measurement = new Measurement();
+    measurement.setData(new byte[] {
+        1, 2
+    });
+    measurement.setMatrix(new int[][] {
+        {
+            1, 2
+        }, null
+    });
+    measurement.setLabels(new String[] {
+        "a", null
+    });
+    measurement.setStops(new Address[] {
+        new Address("street", "city"), null
+    });
+
+    MeasurementDto dto = mapper.map(measurement);
+    // Like at runtime, arrays are copied, so the destination does not share arrays with the source.
+    assertThat(dto.getData()).containsExactly(1, 2)
+        .isNotSameAs(measurement.getData());
+    assertThat(dto.getMatrix()).isNotSameAs(measurement.getMatrix())
+        .hasSize(2);
+    assertThat(dto.getMatrix()[0]).containsExactly(1, 2)
+        .isNotSameAs(measurement.getMatrix()[0]);
+    assertThat(dto.getMatrix()[1]).isNull();
+    assertThat(dto.getLabels()).containsExactly("a", null)
+        .isNotSameAs(measurement.getLabels());
+    assertThat(dto.getStops()).containsExactly(new AddressDto("street", "city"), null);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldMapMaps() throws Exception {
+    String spec = PACKAGE + "@CompileMapping(source = Directory.class, destination = DirectoryDto.class, "
+        + "uses = AddressSpec.class)\n" + "public interface DirectorySpec {\n" + "}\n";
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).as(compilation.getErrors())
+        .isTrue();
+
+    Mapper<Directory, DirectoryDto> mapper = (Mapper<Directory, DirectoryDto>) compilation
+        .loadClass("com.remondis.remap.processor.DirectorySpecCompiled")
+        .getMethod("mapper")
+        .invoke(null);
+
+    Directory directory = new Directory();
+    Map<String, Address> addresses = new HashMap<>();
+    addresses.put("home", new Address("street", "city"));
+    addresses.put("none", null);
+    directory.setAddresses(addresses);
+    SortedMap<String, Integer> counts = new TreeMap<>(Comparator.reverseOrder());
+    counts.put("a", 1);
+    counts.put("b", 2);
+    directory.setCounts(counts);
+    Map<String, List<String>> tags = new HashMap<>();
+    tags.put("colors", Arrays.asList("red", "blue"));
+    directory.setTags(tags);
+
+    DirectoryDto dto = mapper.map(directory);
+    assertThat(dto.getAddresses()).hasSize(2)
+        .isNotSameAs(addresses);
+    assertThat(dto.getAddresses()
+        .get("home")).isEqualTo(new AddressDto("street", "city"));
+    assertThat(dto.getAddresses()
+        .containsKey("none")).isTrue();
+    assertThat(dto.getAddresses()
+        .get("none")).isNull();
+    // The comparator of a sorted map is kept.
+    assertThat(dto.getCounts()).isNotSameAs(counts);
+    assertThat(dto.getCounts()
+        .keySet()).containsExactly("b", "a");
+    assertThat(dto.getCounts()
+        .comparator()).isSameAs(counts.comparator());
+    // Parameterized values are copied by reference like at runtime.
+    assertThat(dto.getTags()
+        .get("colors")).isSameAs(tags.get("colors"));
+
+    directory.setAddresses(null);
+    assertThat(mapper.map(directory)
+        .getAddresses()).isNull();
+  }
+
+  @Test
+  public void shouldReportIncompatibleMapTypes() throws Exception {
+    String spec = PACKAGE + "@CompileMapping(source = Directory.class, destination = DirectoryDto.class)\n"
+        + "public interface DirectorySpec {\n" + "}\n";
+    Compilation compilation = compile(spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("No mapper found")
+        .contains("AddressDto");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldApplyBuiltInConversionsLikeRuntimeMapping() throws Exception {
+    Compilation compilation = compile(SAMPLE_SPEC);
+    assertThat(compilation.isSuccess()).as(compilation.getErrors())
+        .isTrue();
+    Mapper<Sample, SampleDto> compiled = (Mapper<Sample, SampleDto>) compilation
+        .loadClass("com.remondis.remap.processor.SampleSpecCompiled")
+        .getMethod("mapper")
+        .invoke(null);
+    Mapper<Sample, SampleDto> runtime = Mapping.from(Sample.class)
+        .to(SampleDto.class)
+        .mapper();
+
+    Sample sample = new Sample();
+    sample.setCount(1);
+    sample.setTotal(2);
+    sample.setRatio(3);
+    sample.setSymbol('a');
+    sample.setCode(4L);
+    sample.setAmount("5");
+    sample.setUnit(Unit.METER);
+    sample.setStatus("SECOND");
+    sample.setValid(true);
+
+    SampleDto dto = compiled.map(sample);
+    assertThat(dto.getCount()).isEqualTo(1);
+    assertThat(dto.getTotal()).isEqualTo(2L);
+    assertThat(dto.getRatio()).isEqualTo(3d);
+    assertThat(dto.getSymbol()).isEqualTo('a');
+    assertThat(dto.getCode()).isEqualTo("4");
+    assertThat(dto.getAmount()).isEqualTo(5);
+    assertThat(dto.getUnit()).isEqualTo("METER");
+    assertThat(dto.getStatus()).isEqualTo(Unit.SECOND);
+    assertThat(dto.isValid()).isTrue();
+    assertThat(dto).isEqualTo(runtime.map(sample));
+
+    // null values are not written.
+    assertThat(compiled.map(new Sample())).isEqualTo(runtime.map(new Sample()));
+
+    sample.setAmount("five");
+    assertThatThrownBy(() -> compiled.map(sample)).isInstanceOf(MappingException.class)
+        .hasMessage("The value 'five' of type java.lang.String cannot be converted to int.");
+    assertThatThrownBy(() -> runtime.map(sample)).isInstanceOf(MappingException.class)
+        .hasMessage("The value 'five' of type java.lang.String cannot be converted to int.");
+  }
+
+  @Test
+  public void shouldWriteNativeImageReflectionConfiguration() throws Exception {
+    Compilation compilation = compile(ADDRESS_SPEC, PERSON_SPEC);
+    assertThat(compilation.isSuccess()).as(compilation.getErrors())
+        .isTrue();
+    File reflectConfig = compilation.getOutputFile(MappingProcessor.REFLECT_CONFIG);
+    assertThat(new String(Files.readAllBytes(reflectConfig.toPath()), StandardCharsets.UTF_8))
+        .contains("\"name\" : \"com.remondis.remap.processor.Address\"")
+        .contains("\"name\" : \"com.remondis.remap.processor.AddressDto\"")
+        .contains("\"name\" : \"com.remondis.remap.processor.Person\"")
+        .contains("\"name\" : \"com.remondis.remap.processor.PersonDto\"");
+  }
+
+  @Test
+  public void shouldReportUnmappedProperties() throws Exception {
+    String spec = PACKAGE + "@CompileMapping(source = Person.class, destination = PersonDto.class, "
+        + "uses = AddressSpec.class)\n" + "public interface PersonSpec {\n" + "}\n";
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("The following properties are unmapped:")
+        .contains("Property 'forename' in com.remondis.remap.processor.Person")
+        .contains("Property 'id' in com.remondis.remap.processor.PersonDto");
+  }
+
+  @Test
+  public void shouldReportMissingNestedMapper() throws Exception {
+    String spec = PERSON_SPEC.replace(", uses = AddressSpec.class", "");
+    Compilation compilation = compile(spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("No mapper found for type mapping from "
+        + "com.remondis.remap.processor.Address to com.remondis.remap.processor.AddressDto");
+  }
+
+  @Test
+  public void shouldReportAlreadyOmittedProperty() throws Exception {
+    String spec = PERSON_SPEC.replace("@OmitInSource(\"internalId\")", "@OmitInSource({\"internalId\", \"forename\"})");
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("The property 'forename' in 'com.remondis.remap.processor.Person' "
+        + "is already mapped");
+  }
+
+  @Test
+  public void shouldReportUnknownProperty() throws Exception {
+    String spec = PERSON_SPEC.replace("@OmitInDestination(\"id\")", "@OmitInDestination(\"unknown\")");
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("The get-method for property 'unknown' in type "
+        + "com.remondis.remap.processor.PersonDto is not a valid Java Bean property.");
+  }
+
+  @Test
+  public void shouldReportIncompatibleTransformMethod() throws Exception {
+    String spec = PERSON_SPEC.replace("static String domain(String email)", "static String domain(Integer email)");
+    Compilation compilation = compile(ADDRESS_SPEC, spec);
+    assertThat(compilation.isSuccess()).isFalse();
+    assertThat(compilation.getErrors()).contains("The transform method 'domain' must be a static method");
+  }
+
+  private static Compilation compile(String... specs) throws Exception {
+    Map<String, String> sources = new HashMap<>();
+    for (String spec : specs) {
+      String name = spec.substring(spec.indexOf("public interface ") + "public interface ".length(),
+          spec.indexOf(" {"));
+      sources.put("com.remondis.remap.processor." + name, spec);
+    }
+    return Compilation.compile(sources);
+  }
+
+}
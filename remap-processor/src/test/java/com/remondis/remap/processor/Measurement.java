@@ -0,0 +1,11 @@
+package com.remondis.remap.processor;
+
+import lombok.Data;
+
+@Data
+public class Measurement {
+  private byte[] data;
+  private int[][] matrix;
+  private String[] labels;
+  private Address[] stops;
+}
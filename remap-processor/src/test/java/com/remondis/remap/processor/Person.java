@@ -0,0 +1,18 @@
+package com.remondis.remap.processor;
+
+import java.util.List;
+import java.util.Set;
+
+import lombok.Data;
+
+@Data
+public class Person {
+  private String forename;
+  private String name;
+  private int age;
+  private Address address;
+  private List<Address> addresses;
+  private Set<String> tags;
+  private String email;
+  private String internalId;
+}
@@ -0,0 +1,18 @@
+package com.remondis.remap.processor;
+
+import java.util.List;
+import java.util.Set;
+
+import lombok.Data;
+
+@Data
+public class PersonDto {
+  private Long id;
+  private String firstName;
+  private String name;
+  private int age;
+  private AddressDto address;
+  private List<AddressDto> addresses;
+  private Set<String> tags;
+  private String emailDomain;
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.processor;
+
+import lombok.Data;
+
+@Data
+public class Sample {
+  private int count;
+  private int total;
+  private Integer ratio;
+  private Character symbol;
+  private long code;
+  private String amount;
+  private Unit unit;
+  private String status;
+  private Boolean valid;
+}
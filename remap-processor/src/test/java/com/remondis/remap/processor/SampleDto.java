@@ -0,0 +1,16 @@
+package com.remondis.remap.processor;
+
+import lombok.Data;
+
+@Data
+public class SampleDto {
+  private Integer count;
+  private long total;
+  private double ratio;
+  private int symbol;
+  private String code;
+  private int amount;
+  private String unit;
+  private Unit status;
+  private boolean valid;
+}
@@ -0,0 +1,5 @@
+package com.remondis.remap.processor;
+
+public enum Unit {
+  METER, SECOND
+}
@@ -0,0 +1,96 @@
+package com.remondis.remap.jmh;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates Java Bean classes at runtime, so that startup benchmarks can build mappers for a large number of distinct
+ * types without checking in thousands of source files.
+ */
+final class BeanClassGenerator extends ClassLoader {
+
+  private static final Type[] PROPERTY_TYPES = new Type[] {
+      Type.getType(String.class), Type.INT_TYPE, Type.LONG_TYPE, Type.getType(Integer.class)
+  };
+
+  BeanClassGenerator() {
+    super(BeanClassGenerator.class.getClassLoader());
+  }
+
+  /**
+   * Generates a public bean class with a public default constructor and a get/set-method pair for every property.
+   *
+   * @param className The fully qualified class name.
+   * @param propertyNames The property names. The property types are chosen round-robin from String, int, long and
+   *        Integer.
+   * @return Returns the loaded class.
+   */
+  Class<?> generate(String className, List<String> propertyNames) {
+    String internalName = className.replace('.', '/');
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName, null, "java/lang/Object", null);
+
+    MethodVisitor constructor = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+    constructor.visitCode();
+    constructor.visitVarInsn(ALOAD, 0);
+    constructor.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    constructor.visitInsn(RETURN);
+    constructor.visitMaxs(0, 0);
+    constructor.visitEnd();
+
+    for (int i = 0; i < propertyNames.size(); i++) {
+      String name = propertyNames.get(i);
+      Type type = PROPERTY_TYPES[i % PROPERTY_TYPES.length];
+      String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      cw.visitField(ACC_PRIVATE, name, type.getDescriptor(), null, null)
+          .visitEnd();
+
+      MethodVisitor getter = cw.visitMethod(ACC_PUBLIC, "get" + capitalized, "()" + type.getDescriptor(), null, null);
+      getter.visitCode();
+      getter.visitVarInsn(ALOAD, 0);
+      getter.visitFieldInsn(GETFIELD, internalName, name, type.getDescriptor());
+      getter.visitInsn(type.getOpcode(org.objectweb.asm.Opcodes.IRETURN));
+      getter.visitMaxs(0, 0);
+      getter.visitEnd();
+
+      MethodVisitor setter = cw.visitMethod(ACC_PUBLIC, "set" + capitalized, "(" + type.getDescriptor() + ")V", null,
+          null);
+      setter.visitCode();
+      setter.visitVarInsn(ALOAD, 0);
+      setter.visitVarInsn(type.getOpcode(org.objectweb.asm.Opcodes.ILOAD), 1);
+      setter.visitFieldInsn(PUTFIELD, internalName, name, type.getDescriptor());
+      setter.visitInsn(RETURN);
+      setter.visitMaxs(0, 0);
+      setter.visitEnd();
+    }
+    cw.visitEnd();
+    byte[] bytes = cw.toByteArray();
+    return defineClass(className, bytes, 0, bytes.length);
+  }
+
+  /**
+   * @return Returns the property names <code>property0</code> to <code>property(count-1)</code>.
+   */
+  static List<String> propertyNames(int count) {
+    List<String> names = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      names.add("property" + i);
+    }
+    return names;
+  }
+
+}
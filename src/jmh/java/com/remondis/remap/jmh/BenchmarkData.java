@@ -0,0 +1,63 @@
+package com.remondis.remap.jmh;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.Invoice;
+import com.remondis.remap.jmh.beans.Reading;
+
+/**
+ * Creates the input objects of the benchmarks.
+ */
+final class BenchmarkData {
+
+  private BenchmarkData() {
+  }
+
+  static Address address(int seed) {
+    Address address = new Address();
+    address.setStreet("Street " + seed);
+    address.setCity("City " + seed);
+    address.setZipCode(String.valueOf(10000 + seed));
+    return address;
+  }
+
+  static Customer customer(int seed) {
+    Customer customer = new Customer();
+    customer.setId(seed);
+    customer.setName("Customer " + seed);
+    customer.setAddress(address(seed));
+    return customer;
+  }
+
+  static Invoice invoice(int seed, int size) {
+    Invoice invoice = new Invoice();
+    invoice.setNumber("INV-" + seed);
+    List<Address> addresses = new ArrayList<>(size);
+    Set<String> tags = new HashSet<>();
+    for (int i = 0; i < size; i++) {
+      addresses.add(address(seed + i));
+      tags.add("tag" + i);
+    }
+    invoice.setAddresses(addresses);
+    invoice.setTags(tags);
+    return invoice;
+  }
+
+  static Reading reading(int seed, int size) {
+    Reading reading = new Reading();
+    reading.setName("Reading " + seed);
+    reading.setValue(seed);
+    List<Long> samples = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      samples.add((long) seed * i);
+    }
+    reading.setSamples(samples);
+    return reading;
+  }
+
+}
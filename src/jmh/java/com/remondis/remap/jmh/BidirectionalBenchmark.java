@@ -0,0 +1,69 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.BidirectionalMapper;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+
+/**
+ * Measures a round trip through a {@link BidirectionalMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidirectionalBenchmark {
+
+  private BidirectionalMapper<Customer, CustomerDto> mapper;
+
+  private Customer customer;
+
+  @Setup
+  public void setup() {
+    Mapper<Address, AddressDto> addressMapper = Mapping.from(Address.class)
+        .to(AddressDto.class)
+        .mapper();
+    Mapper<AddressDto, Address> addressDtoMapper = Mapping.from(AddressDto.class)
+        .to(Address.class)
+        .mapper();
+    Mapper<Customer, CustomerDto> to = Mapping.from(Customer.class)
+        .to(CustomerDto.class)
+        .useMapper(addressMapper)
+        .mapper();
+    Mapper<CustomerDto, Customer> from = Mapping.from(CustomerDto.class)
+        .to(Customer.class)
+        .useMapper(addressDtoMapper)
+        .mapper();
+    mapper = BidirectionalMapper.of(to, from);
+    customer = BenchmarkData.customer(42);
+  }
+
+  @Benchmark
+  public Customer remapRoundTrip() {
+    return mapper.mapFrom(mapper.map(customer));
+  }
+
+  @Benchmark
+  public Customer handWrittenRoundTrip() {
+    return HandWrittenMappers.fromDto(HandWrittenMappers.toDto(customer));
+  }
+
+}
@@ -0,0 +1,61 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Invoice;
+import com.remondis.remap.jmh.beans.InvoiceDto;
+
+/**
+ * Measures the mapping of properties holding a {@link java.util.List} of beans and a {@link java.util.Set} of
+ * strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+  private Mapper<Invoice, InvoiceDto> mapper;
+
+  private Invoice invoice;
+
+  @Setup
+  public void setup() {
+    Mapper<Address, AddressDto> addressMapper = Mapping.from(Address.class)
+        .to(AddressDto.class)
+        .mapper();
+    mapper = Mapping.from(Invoice.class)
+        .to(InvoiceDto.class)
+        .useMapper(addressMapper)
+        .mapper();
+    invoice = BenchmarkData.invoice(42, 10);
+  }
+
+  @Benchmark
+  public InvoiceDto remap() {
+    return mapper.map(invoice);
+  }
+
+  @Benchmark
+  public InvoiceDto handWritten() {
+    return HandWrittenMappers.toDto(invoice);
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+
+/**
+ * Measures a two-hop conversion from {@link Customer} to {@link CustomerDto} and back. The mappers are either applied
+ * one after another or fused with {@link Mapper#andThen(Mapper)}, which does not create the intermediate objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositionBenchmark {
+
+  private Mapper<Customer, CustomerDto> toDto;
+  private Mapper<CustomerDto, Customer> fromDto;
+  private Mapper<Customer, Customer> fused;
+
+  private Customer customer;
+
+  @Setup
+  public void setup() {
+    toDto = Mapping.from(Customer.class)
+        .to(CustomerDto.class)
+        .useMapper(Mapping.from(Address.class)
+            .to(AddressDto.class)
+            .mapper())
+        .mapper();
+    fromDto = Mapping.from(CustomerDto.class)
+        .to(Customer.class)
+        .useMapper(Mapping.from(AddressDto.class)
+            .to(Address.class)
+            .mapper())
+        .mapper();
+    fused = toDto.andThen(fromDto);
+    customer = BenchmarkData.customer(42);
+  }
+
+  @Benchmark
+  public Customer chained() {
+    return fromDto.map(toDto.map(customer));
+  }
+
+  @Benchmark
+  public Customer fused() {
+    return fused.map(customer);
+  }
+
+}
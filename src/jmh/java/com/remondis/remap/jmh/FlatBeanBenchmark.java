@@ -0,0 +1,94 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.FlatBean100;
+import com.remondis.remap.jmh.beans.FlatBean100Dto;
+import com.remondis.remap.jmh.beans.FlatBean100s;
+import com.remondis.remap.jmh.beans.FlatBean20;
+import com.remondis.remap.jmh.beans.FlatBean20Dto;
+import com.remondis.remap.jmh.beans.FlatBean20s;
+import com.remondis.remap.jmh.beans.FlatBean5;
+import com.remondis.remap.jmh.beans.FlatBean5Dto;
+import com.remondis.remap.jmh.beans.FlatBean5s;
+
+/**
+ * Measures the mapping of flat beans with 5, 20 and 100 properties that are all mapped implicitly. The hand-written
+ * mappers serve as baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatBeanBenchmark {
+
+  private Mapper<FlatBean5, FlatBean5Dto> mapper5;
+  private Mapper<FlatBean20, FlatBean20Dto> mapper20;
+  private Mapper<FlatBean100, FlatBean100Dto> mapper100;
+
+  private FlatBean5 bean5;
+  private FlatBean20 bean20;
+  private FlatBean100 bean100;
+
+  @Setup
+  public void setup() {
+    mapper5 = Mapping.from(FlatBean5.class)
+        .to(FlatBean5Dto.class)
+        .mapper();
+    mapper20 = Mapping.from(FlatBean20.class)
+        .to(FlatBean20Dto.class)
+        .mapper();
+    mapper100 = Mapping.from(FlatBean100.class)
+        .to(FlatBean100Dto.class)
+        .mapper();
+    bean5 = FlatBean5s.create(42);
+    bean20 = FlatBean20s.create(42);
+    bean100 = FlatBean100s.create(42);
+  }
+
+  @Benchmark
+  public FlatBean5Dto remap5() {
+    return mapper5.map(bean5);
+  }
+
+  @Benchmark
+  public FlatBean5Dto handWritten5() {
+    return FlatBean5s.map(bean5);
+  }
+
+  @Benchmark
+  public FlatBean20Dto remap20() {
+    return mapper20.map(bean20);
+  }
+
+  @Benchmark
+  public FlatBean20Dto handWritten20() {
+    return FlatBean20s.map(bean20);
+  }
+
+  @Benchmark
+  public FlatBean100Dto remap100() {
+    return mapper100.map(bean100);
+  }
+
+  @Benchmark
+  public FlatBean100Dto handWritten100() {
+    return FlatBean100s.map(bean100);
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.remondis.remap.jmh;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+import com.remondis.remap.jmh.beans.Invoice;
+import com.remondis.remap.jmh.beans.InvoiceDto;
+import com.remondis.remap.jmh.beans.Reading;
+import com.remondis.remap.jmh.beans.ReadingDto;
+
+/**
+ * Hand-written mappers performing the same mappings as the ReMap mappers of the benchmarks. They serve as baseline.
+ */
+final class HandWrittenMappers {
+
+  private HandWrittenMappers() {
+  }
+
+  static AddressDto toDto(Address address) {
+    if (address == null) {
+      return null;
+    }
+    AddressDto dto = new AddressDto();
+    dto.setStreet(address.getStreet());
+    dto.setCity(address.getCity());
+    dto.setZipCode(address.getZipCode());
+    return dto;
+  }
+
+  static Address fromDto(AddressDto dto) {
+    if (dto == null) {
+      return null;
+    }
+    Address address = new Address();
+    address.setStreet(dto.getStreet());
+    address.setCity(dto.getCity());
+    address.setZipCode(dto.getZipCode());
+    return address;
+  }
+
+  static CustomerDto toDto(Customer customer) {
+    CustomerDto dto = new CustomerDto();
+    dto.setId(customer.getId());
+    dto.setName(customer.getName());
+    dto.setAddress(toDto(customer.getAddress()));
+    return dto;
+  }
+
+  static Customer fromDto(CustomerDto dto) {
+    Customer customer = new Customer();
+    customer.setId(dto.getId());
+    customer.setName(dto.getName());
+    customer.setAddress(fromDto(dto.getAddress()));
+    return customer;
+  }
+
+  static InvoiceDto toDto(Invoice invoice) {
+    InvoiceDto dto = new InvoiceDto();
+    dto.setNumber(invoice.getNumber());
+    List<AddressDto> addresses = new ArrayList<>(invoice.getAddresses()
+        .size());
+    for (Address address : invoice.getAddresses()) {
+      addresses.add(toDto(address));
+    }
+    dto.setAddresses(addresses);
+    dto.setTags(new HashSet<>(invoice.getTags()));
+    return dto;
+  }
+
+  static ReadingDto toDto(Reading reading) {
+    ReadingDto dto = new ReadingDto();
+    dto.setName(reading.getName());
+    if (reading.getValue() != null) {
+      dto.setValue(String.valueOf(reading.getValue()));
+    }
+    List<String> samples = new ArrayList<>(reading.getSamples()
+        .size());
+    for (Long sample : reading.getSamples()) {
+      samples.add(String.valueOf(sample));
+    }
+    dto.setSamples(samples);
+    return dto;
+  }
+
+}
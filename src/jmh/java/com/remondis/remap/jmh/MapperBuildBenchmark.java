@@ -0,0 +1,83 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+import com.remondis.remap.jmh.beans.FlatBean100;
+import com.remondis.remap.jmh.beans.FlatBean100Dto;
+import com.remondis.remap.jmh.beans.FlatBean5;
+import com.remondis.remap.jmh.beans.FlatBean5Dto;
+import com.remondis.remap.jmh.beans.Reading;
+import com.remondis.remap.jmh.beans.ReadingDto;
+
+/**
+ * Measures the cost of building mappers with {@link Mapping#mapper()} in a warmed up JVM. This includes the selector
+ * sensing, the bean introspection, the inference of implicit mappings and the validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBuildBenchmark {
+
+  private Mapper<Address, AddressDto> addressMapper;
+
+  @Setup
+  public void setup() {
+    addressMapper = Mapping.from(Address.class)
+        .to(AddressDto.class)
+        .mapper();
+  }
+
+  @Benchmark
+  public Mapper<FlatBean5, FlatBean5Dto> buildFlat5() {
+    return Mapping.from(FlatBean5.class)
+        .to(FlatBean5Dto.class)
+        .mapper();
+  }
+
+  @Benchmark
+  public Mapper<FlatBean100, FlatBean100Dto> buildFlat100() {
+    return Mapping.from(FlatBean100.class)
+        .to(FlatBean100Dto.class)
+        .mapper();
+  }
+
+  @Benchmark
+  public Mapper<Customer, CustomerDto> buildNested() {
+    return Mapping.from(Customer.class)
+        .to(CustomerDto.class)
+        .useMapper(addressMapper)
+        .mapper();
+  }
+
+  @Benchmark
+  public Mapper<Reading, ReadingDto> buildWithSelectors() {
+    return Mapping.from(Reading.class)
+        .to(ReadingDto.class)
+        .replace(Reading::getValue, ReadingDto::getValue)
+        .withSkipWhenNull(String::valueOf)
+        .replaceCollection(Reading::getSamples, ReadingDto::getSamples)
+        .withSkipWhenNull(String::valueOf)
+        .mapper();
+  }
+
+}
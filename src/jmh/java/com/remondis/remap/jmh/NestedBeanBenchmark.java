@@ -0,0 +1,61 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+
+/**
+ * Measures the mapping of a bean referencing another bean that is mapped by a delegate mapper registered with
+ * {@link Mapping#useMapper(Mapper)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedBeanBenchmark {
+
+  private Mapper<Customer, CustomerDto> mapper;
+
+  private Customer customer;
+
+  @Setup
+  public void setup() {
+    Mapper<Address, AddressDto> addressMapper = Mapping.from(Address.class)
+        .to(AddressDto.class)
+        .mapper();
+    mapper = Mapping.from(Customer.class)
+        .to(CustomerDto.class)
+        .useMapper(addressMapper)
+        .mapper();
+    customer = BenchmarkData.customer(42);
+  }
+
+  @Benchmark
+  public CustomerDto remap() {
+    return mapper.map(customer);
+  }
+
+  @Benchmark
+  public CustomerDto handWritten() {
+    return HandWrittenMappers.toDto(customer);
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Address;
+import com.remondis.remap.jmh.beans.AddressDto;
+import com.remondis.remap.jmh.beans.Customer;
+import com.remondis.remap.jmh.beans.CustomerDto;
+import com.remondis.remap.jmh.beans.Invoice;
+import com.remondis.remap.jmh.beans.InvoiceDto;
+
+/**
+ * Compares the mapping into new destination objects with the mapping into recycled destination objects using
+ * {@link Mapper#mapPooled(Object)}. Compare the <code>gc.alloc.rate.norm</code> reported by the GC profiler to see the
+ * allocations saved per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolingBenchmark {
+
+  private Mapper<Customer, CustomerDto> customerMapper;
+
+  private Mapper<Invoice, InvoiceDto> invoiceMapper;
+
+  private Customer customer;
+
+  private Invoice invoice;
+
+  @Setup
+  public void setup() {
+    Mapper<Address, AddressDto> addressMapper = Mapping.from(Address.class)
+        .to(AddressDto.class)
+        .pooled(16)
+        .mapper();
+    customerMapper = Mapping.from(Customer.class)
+        .to(CustomerDto.class)
+        .useMapper(addressMapper)
+        .pooled(16)
+        .mapper();
+    invoiceMapper = Mapping.from(Invoice.class)
+        .to(InvoiceDto.class)
+        .useMapper(addressMapper)
+        .pooled(16)
+        .mapper();
+    customer = BenchmarkData.customer(42);
+    invoice = BenchmarkData.invoice(42, 10);
+  }
+
+  @Benchmark
+  public CustomerDto nestedBean() {
+    return customerMapper.map(customer);
+  }
+
+  @Benchmark
+  public CustomerDto nestedBeanPooled() {
+    CustomerDto dto = customerMapper.mapPooled(customer);
+    customerMapper.release(dto);
+    return dto;
+  }
+
+  @Benchmark
+  public InvoiceDto collections() {
+    return invoiceMapper.map(invoice);
+  }
+
+  @Benchmark
+  public InvoiceDto collectionsPooled() {
+    InvoiceDto dto = invoiceMapper.mapPooled(invoice);
+    invoiceMapper.release(dto);
+    return dto;
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.remondis.remap.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.jmh.beans.Reading;
+import com.remondis.remap.jmh.beans.ReadingDto;
+
+/**
+ * Measures the <code>replace</code> and <code>replaceCollection</code> operations using transform functions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplaceBenchmark {
+
+  private Mapper<Reading, ReadingDto> mapper;
+
+  private Reading reading;
+
+  @Setup
+  public void setup() {
+    mapper = Mapping.from(Reading.class)
+        .to(ReadingDto.class)
+        .replace(Reading::getValue, ReadingDto::getValue)
+        .withSkipWhenNull(String::valueOf)
+        .replaceCollection(Reading::getSamples, ReadingDto::getSamples)
+        .withSkipWhenNull(String::valueOf)
+        .mapper();
+    reading = BenchmarkData.reading(42, 10);
+  }
+
+  @Benchmark
+  public ReadingDto remap() {
+    return mapper.map(reading);
+  }
+
+  @Benchmark
+  public ReadingDto handWritten() {
+    return HandWrittenMappers.toDto(reading);
+  }
+
+}
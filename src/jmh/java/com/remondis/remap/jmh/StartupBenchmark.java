@@ -0,0 +1,131 @@
+package com.remondis.remap.jmh;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingBuildReport;
+import com.remondis.remap.TypedSelector;
+
+/**
+ * Measures the startup cost of building a catalog of mappers in a fresh JVM. Every fork generates the configured
+ * number of source and destination bean classes and measures a single build of all mappers, so the result contains the
+ * cold costs of proxy generation, bean introspection, strict mapping inference and validation.
+ *
+ * <p>
+ * Every mapping declares a <code>reassign</code> and an <code>omitInSource</code> operation, so that selector sensing
+ * is part of the measurement. The selectors invoke the get-methods reflectively, because the bean classes do not exist
+ * at compile time. After each fork, the accumulated {@link MappingBuildReport}s are printed to break down where the
+ * build time was spent.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+  private static final String PACKAGE = "com.remondis.remap.jmh.generated.";
+
+  @Param({
+      "1000"
+  })
+  private int mappers;
+
+  @Param({
+      "20", "300"
+  })
+  private int properties;
+
+  private List<Class<?>> sourceTypes;
+  private List<Class<?>> destinationTypes;
+  private List<Mapper<?, ?>> catalog;
+
+  @Setup
+  public void generateBeans() {
+    BeanClassGenerator generator = new BeanClassGenerator();
+    List<String> sourceProperties = BeanClassGenerator.propertyNames(properties);
+    // The source has an additional property to omit, the destination names the first property differently.
+    sourceProperties.add("omitted");
+    List<String> destinationProperties = BeanClassGenerator.propertyNames(properties);
+    destinationProperties.set(0, "renamed");
+    sourceTypes = new ArrayList<>(mappers);
+    destinationTypes = new ArrayList<>(mappers);
+    for (int i = 0; i < mappers; i++) {
+      sourceTypes.add(generator.generate(PACKAGE + "Source" + i, sourceProperties));
+      destinationTypes.add(generator.generate(PACKAGE + "Destination" + i, destinationProperties));
+    }
+  }
+
+  @Benchmark
+  public List<Mapper<?, ?>> buildCatalog() throws Exception {
+    catalog = new ArrayList<>(mappers);
+    for (int i = 0; i < mappers; i++) {
+      catalog.add(buildMapper(sourceTypes.get(i), destinationTypes.get(i)));
+    }
+    return catalog;
+  }
+
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  private Mapper<?, ?> buildMapper(Class<?> sourceType, Class<?> destinationType) throws Exception {
+    Method sourceGetter = sourceType.getMethod("getProperty0");
+    Method omittedGetter = sourceType.getMethod("getOmitted");
+    Method destinationGetter = destinationType.getMethod("getRenamed");
+    Mapping mapping = Mapping.from(sourceType)
+        .to(destinationType);
+    return mapping.reassign(selector(sourceGetter))
+        .to(selector(destinationGetter))
+        .omitInSource(selector(omittedGetter)::selectField)
+        .mapper();
+  }
+
+  private static TypedSelector<Object, Object> selector(Method getter) {
+    return bean -> {
+      try {
+        return getter.invoke(bean);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+
+  @TearDown
+  public void printBuildReport() {
+    long introspection = 0;
+    long selectorSensing = 0;
+    long strictMapping = 0;
+    long validation = 0;
+    for (Mapper<?, ?> mapper : catalog) {
+      MappingBuildReport report = mapper.getBuildReport();
+      introspection += report.getIntrospectionNanos();
+      selectorSensing += report.getSelectorSensingNanos();
+      strictMapping += report.getStrictMappingNanos();
+      validation += report.getValidationNanos();
+    }
+    System.out.printf("%nBuild time breakdown for %d mappers: introspection %d ms, selector sensing %d ms, "
+        + "strict mapping %d ms, validation %d ms%n", catalog.size(), TimeUnit.NANOSECONDS.toMillis(introspection),
+        TimeUnit.NANOSECONDS.toMillis(selectorSensing), TimeUnit.NANOSECONDS.toMillis(strictMapping),
+        TimeUnit.NANOSECONDS.toMillis(validation));
+  }
+
+}
@@ -0,0 +1,33 @@
+package com.remondis.remap.jmh.beans;
+
+public class Customer {
+
+  private long id;
+  private String name;
+  private Address address;
+
+  public long getId() {
+    return id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public void setAddress(Address address) {
+    this.address = address;
+  }
+
+}
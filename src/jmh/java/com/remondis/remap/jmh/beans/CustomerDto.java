@@ -0,0 +1,33 @@
+package com.remondis.remap.jmh.beans;
+
+public class CustomerDto {
+
+  private long id;
+  private String name;
+  private AddressDto address;
+
+  public long getId() {
+    return id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public AddressDto getAddress() {
+    return address;
+  }
+
+  public void setAddress(AddressDto address) {
+    this.address = address;
+  }
+
+}
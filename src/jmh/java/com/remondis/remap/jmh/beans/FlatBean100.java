@@ -0,0 +1,906 @@
+package com.remondis.remap.jmh.beans;
+
+public class FlatBean100 {
+
+  private String string0;
+  private int int1;
+  private long long2;
+  private Integer boxed3;
+  private boolean flag4;
+  private double double5;
+  private String string6;
+  private int int7;
+  private long long8;
+  private Integer boxed9;
+  private boolean flag10;
+  private double double11;
+  private String string12;
+  private int int13;
+  private long long14;
+  private Integer boxed15;
+  private boolean flag16;
+  private double double17;
+  private String string18;
+  private int int19;
+  private long long20;
+  private Integer boxed21;
+  private boolean flag22;
+  private double double23;
+  private String string24;
+  private int int25;
+  private long long26;
+  private Integer boxed27;
+  private boolean flag28;
+  private double double29;
+  private String string30;
+  private int int31;
+  private long long32;
+  private Integer boxed33;
+  private boolean flag34;
+  private double double35;
+  private String string36;
+  private int int37;
+  private long long38;
+  private Integer boxed39;
+  private boolean flag40;
+  private double double41;
+  private String string42;
+  private int int43;
+  private long long44;
+  private Integer boxed45;
+  private boolean flag46;
+  private double double47;
+  private String string48;
+  private int int49;
+  private long long50;
+  private Integer boxed51;
+  private boolean flag52;
+  private double double53;
+  private String string54;
+  private int int55;
+  private long long56;
+  private Integer boxed57;
+  private boolean flag58;
+  private double double59;
+  private String string60;
+  private int int61;
+  private long long62;
+  private Integer boxed63;
+  private boolean flag64;
+  private double double65;
+  private String string66;
+  private int int67;
+  private long long68;
+  private Integer boxed69;
+  private boolean flag70;
+  private double double71;
+  private String string72;
+  private int int73;
+  private long long74;
+  private Integer boxed75;
+  private boolean flag76;
+  private double double77;
+  private String string78;
+  private int int79;
+  private long long80;
+  private Integer boxed81;
+  private boolean flag82;
+  private double double83;
+  private String string84;
+  private int int85;
+  private long long86;
+  private Integer boxed87;
+  private boolean flag88;
+  private double double89;
+  private String string90;
+  private int int91;
+  private long long92;
+  private Integer boxed93;
+  private boolean flag94;
+  private double double95;
+  private String string96;
+  private int int97;
+  private long long98;
+  private Integer boxed99;
+
+  public String getString0() {
+    return string0;
+  }
+
+  public void setString0(String string0) {
+    this.string0 = string0;
+  }
+
+  public int getInt1() {
+    return int1;
+  }
+
+  public void setInt1(int int1) {
+    this.int1 = int1;
+  }
+
+  public long getLong2() {
+    return long2;
+  }
+
+  public void setLong2(long long2) {
+    this.long2 = long2;
+  }
+
+  public Integer getBoxed3() {
+    return boxed3;
+  }
+
+  public void setBoxed3(Integer boxed3) {
+    this.boxed3 = boxed3;
+  }
+
+  public boolean isFlag4() {
+    return flag4;
+  }
+
+  public void setFlag4(boolean flag4) {
+    this.flag4 = flag4;
+  }
+
+  public double getDouble5() {
+    return double5;
+  }
+
+  public void setDouble5(double double5) {
+    this.double5 = double5;
+  }
+
+  public String getString6() {
+    return string6;
+  }
+
+  public void setString6(String string6) {
+    this.string6 = string6;
+  }
+
+  public int getInt7() {
+    return int7;
+  }
+
+  public void setInt7(int int7) {
+    this.int7 = int7;
+  }
+
+  public long getLong8() {
+    return long8;
+  }
+
+  public void setLong8(long long8) {
+    this.long8 = long8;
+  }
+
+  public Integer getBoxed9() {
+    return boxed9;
+  }
+
+  public void setBoxed9(Integer boxed9) {
+    this.boxed9 = boxed9;
+  }
+
+  public boolean isFlag10() {
+    return flag10;
+  }
+
+  public void setFlag10(boolean flag10) {
+    this.flag10 = flag10;
+  }
+
+  public double getDouble11() {
+    return double11;
+  }
+
+  public void setDouble11(double double11) {
+    this.double11 = double11;
+  }
+
+  public String getString12() {
+    return string12;
+  }
+
+  public void setString12(String string12) {
+    this.string12 = string12;
+  }
+
+  public int getInt13() {
+    return int13;
+  }
+
+  public void setInt13(int int13) {
+    this.int13 = int13;
+  }
+
+  public long getLong14() {
+    return long14;
+  }
+
+  public void setLong14(long long14) {
+    this.long14 = long14;
+  }
+
+  public Integer getBoxed15() {
+    return boxed15;
+  }
+
+  public void setBoxed15(Integer boxed15) {
+    this.boxed15 = boxed15;
+  }
+
+  public boolean isFlag16() {
+    return flag16;
+  }
+
+  public void setFlag16(boolean flag16) {
+    this.flag16 = flag16;
+  }
+
+  public double getDouble17() {
+    return double17;
+  }
+
+  public void setDouble17(double double17) {
+    this.double17 = double17;
+  }
+
+  public String getString18() {
+    return string18;
+  }
+
+  public void setString18(String string18) {
+    this.string18 = string18;
+  }
+
+  public int getInt19() {
+    return int19;
+  }
+
+  public void setInt19(int int19) {
+    this.int19 = int19;
+  }
+
+  public long getLong20() {
+    return long20;
+  }
+
+  public void setLong20(long long20) {
+    this.long20 = long20;
+  }
+
+  public Integer getBoxed21() {
+    return boxed21;
+  }
+
+  public void setBoxed21(Integer boxed21) {
+    this.boxed21 = boxed21;
+  }
+
+  public boolean isFlag22() {
+    return flag22;
+  }
+
+  public void setFlag22(boolean flag22) {
+    this.flag22 = flag22;
+  }
+
+  public double getDouble23() {
+    return double23;
+  }
+
+  public void setDouble23(double double23) {
+    this.double23 = double23;
+  }
+
+  public String getString24() {
+    return string24;
+  }
+
+  public void setString24(String string24) {
+    this.string24 = string24;
+  }
+
+  public int getInt25() {
+    return int25;
+  }
+
+  public void setInt25(int int25) {
+    this.int25 = int25;
+  }
+
+  public long getLong26() {
+    return long26;
+  }
+
+  public void setLong26(long long26) {
+    this.long26 = long26;
+  }
+
+  public Integer getBoxed27() {
+    return boxed27;
+  }
+
+  public void setBoxed27(Integer boxed27) {
+    this.boxed27 = boxed27;
+  }
+
+  public boolean isFlag28() {
+    return flag28;
+  }
+
+  public void setFlag28(boolean flag28) {
+    this.flag28 = flag28;
+  }
+
+  public double getDouble29() {
+    return double29;
+  }
+
+  public void setDouble29(double double29) {
+    this.double29 = double29;
+  }
+
+  public String getString30() {
+    return string30;
+  }
+
+  public void setString30(String string30) {
+    this.string30 = string30;
+  }
+
+  public int getInt31() {
+    return int31;
+  }
+
+  public void setInt31(int int31) {
+    this.int31 = int31;
+  }
+
+  public long getLong32() {
+    return long32;
+  }
+
+  public void setLong32(long long32) {
+    this.long32 = long32;
+  }
+
+  public Integer getBoxed33() {
+    return boxed33;
+  }
+
+  public void setBoxed33(Integer boxed33) {
+    this.boxed33 = boxed33;
+  }
+
+  public boolean isFlag34() {
+    return flag34;
+  }
+
+  public void setFlag34(boolean flag34) {
+    this.flag34 = flag34;
+  }
+
+  public double getDouble35() {
+    return double35;
+  }
+
+  public void setDouble35(double double35) {
+    this.double35 = double35;
+  }
+
+  public String getString36() {
+    return string36;
+  }
+
+  public void setString36(String string36) {
+    this.string36 = string36;
+  }
+
+  public int getInt37() {
+    return int37;
+  }
+
+  public void setInt37(int int37) {
+    this.int37 = int37;
+  }
+
+  public long getLong38() {
+    return long38;
+  }
+
+  public void setLong38(long long38) {
+    this.long38 = long38;
+  }
+
+  public Integer getBoxed39() {
+    return boxed39;
+  }
+
+  public void setBoxed39(Integer boxed39) {
+    this.boxed39 = boxed39;
+  }
+
+  public boolean isFlag40() {
+    return flag40;
+  }
+
+  public void setFlag40(boolean flag40) {
+    this.flag40 = flag40;
+  }
+
+  public double getDouble41() {
+    return double41;
+  }
+
+  public void setDouble41(double double41) {
+    this.double41 = double41;
+  }
+
+  public String getString42() {
+    return string42;
+  }
+
+  public void setString42(String string42) {
+    this.string42 = string42;
+  }
+
+  public int getInt43() {
+    return int43;
+  }
+
+  public void setInt43(int int43) {
+    this.int43 = int43;
+  }
+
+  public long getLong44() {
+    return long44;
+  }
+
+  public void setLong44(long long44) {
+    this.long44 = long44;
+  }
+
+  public Integer getBoxed45() {
+    return boxed45;
+  }
+
+  public void setBoxed45(Integer boxed45) {
+    this.boxed45 = boxed45;
+  }
+
+  public boolean isFlag46() {
+    return flag46;
+  }
+
+  public void setFlag46(boolean flag46) {
+    this.flag46 = flag46;
+  }
+
+  public double getDouble47() {
+    return double47;
+  }
+
+  public void setDouble47(double double47) {
+    this.double47 = double47;
+  }
+
+  public String getString48() {
+    return string48;
+  }
+
+  public void setString48(String string48) {
+    this.string48 = string48;
+  }
+
+  public int getInt49() {
+    return int49;
+  }
+
+  public void setInt49(int int49) {
+    this.int49 = int49;
+  }
+
+  public long getLong50() {
+    return long50;
+  }
+
+  public void setLong50(long long50) {
+    this.long50 = long50;
+  }
+
+  public Integer getBoxed51() {
+    return boxed51;
+  }
+
+  public void setBoxed51(Integer boxed51) {
+    this.boxed51 = boxed51;
+  }
+
+  public boolean isFlag52() {
+    return flag52;
+  }
+
+  public void setFlag52(boolean flag52) {
+    this.flag52 = flag52;
+  }
+
+  public double getDouble53() {
+    return double53;
+  }
+
+  public void setDouble53(double double53) {
+    this.double53 = double53;
+  }
+
+  public String getString54() {
+    return string54;
+  }
+
+  public void setString54(String string54) {
+    this.string54 = string54;
+  }
+
+  public int getInt55() {
+    return int55;
+  }
+
+  public void setInt55(int int55) {
+    this.int55 = int55;
+  }
+
+  public long getLong56() {
+    return long56;
+  }
+
+  public void setLong56(long long56) {
+    this.long56 = long56;
+  }
+
+  public Integer getBoxed57() {
+    return boxed57;
+  }
+
+  public void setBoxed57(Integer boxed57) {
+    this.boxed57 = boxed57;
+  }
+
+  public boolean isFlag58() {
+    return flag58;
+  }
+
+  public void setFlag58(boolean flag58) {
+    this.flag58 = flag58;
+  }
+
+  public double getDouble59() {
+    return double59;
+  }
+
+  public void setDouble59(double double59) {
+    this.double59 = double59;
+  }
+
+  public String getString60() {
+    return string60;
+  }
+
+  public void setString60(String string60) {
+    this.string60 = string60;
+  }
+
+  public int getInt61() {
+    return int61;
+  }
+
+  public void setInt61(int int61) {
+    this.int61 = int61;
+  }
+
+  public long getLong62() {
+    return long62;
+  }
+
+  public void setLong62(long long62) {
+    this.long62 = long62;
+  }
+
+  public Integer getBoxed63() {
+    return boxed63;
+  }
+
+  public void setBoxed63(Integer boxed63) {
+    this.boxed63 = boxed63;
+  }
+
+  public boolean isFlag64() {
+    return flag64;
+  }
+
+  public void setFlag64(boolean flag64) {
+    this.flag64 = flag64;
+  }
+
+  public double getDouble65() {
+    return double65;
+  }
+
+  public void setDouble65(double double65) {
+    this.double65 = double65;
+  }
+
+  public String getString66() {
+    return string66;
+  }
+
+  public void setString66(String string66) {
+    this.string66 = string66;
+  }
+
+  public int getInt67() {
+    return int67;
+  }
+
+  public void setInt67(int int67) {
+    this.int67 = int67;
+  }
+
+  public long getLong68() {
+    return long68;
+  }
+
+  public void setLong68(long long68) {
+    this.long68 = long68;
+  }
+
+  public Integer getBoxed69() {
+    return boxed69;
+  }
+
+  public void setBoxed69(Integer boxed69) {
+    this.boxed69 = boxed69;
+  }
+
+  public boolean isFlag70() {
+    return flag70;
+  }
+
+  public void setFlag70(boolean flag70) {
+    this.flag70 = flag70;
+  }
+
+  public double getDouble71() {
+    return double71;
+  }
+
+  public void setDouble71(double double71) {
+    this.double71 = double71;
+  }
+
+  public String getString72() {
+    return string72;
+  }
+
+  public void setString72(String string72) {
+    this.string72 = string72;
+  }
+
+  public int getInt73() {
+    return int73;
+  }
+
+  public void setInt73(int int73) {
+    this.int73 = int73;
+  }
+
+  public long getLong74() {
+    return long74;
+  }
+
+  public void setLong74(long long74) {
+    this.long74 = long74;
+  }
+
+  public Integer getBoxed75() {
+    return boxed75;
+  }
+
+  public void setBoxed75(Integer boxed75) {
+    this.boxed75 = boxed75;
+  }
+
+  public boolean isFlag76() {
+    return flag76;
+  }
+
+  public void setFlag76(boolean flag76) {
+    this.flag76 = flag76;
+  }
+
+  public double getDouble77() {
+    return double77;
+  }
+
+  public void setDouble77(double double77) {
+    this.double77 = double77;
+  }
+
+  public String getString78() {
+    return string78;
+  }
+
+  public void setString78(String string78) {
+    this.string78 = string78;
+  }
+
+  public int getInt79() {
+    return int79;
+  }
+
+  public void setInt79(int int79) {
+    this.int79 = int79;
+  }
+
+  public long getLong80() {
+    return long80;
+  }
+
+  public void setLong80(long long80) {
+    this.long80 = long80;
+  }
+
+  public Integer getBoxed81() {
+    return boxed81;
+  }
+
+  public void setBoxed81(Integer boxed81) {
+    this.boxed81 = boxed81;
+  }
+
+  public boolean isFlag82() {
+    return flag82;
+  }
+
+  public void setFlag82(boolean flag82) {
+    this.flag82 = flag82;
+  }
+
+  public double getDouble83() {
+    return double83;
+  }
+
+  public void setDouble83(double double83) {
+    this.double83 = double83;
+  }
+
+  public String getString84() {
+    return string84;
+  }
+
+  public void setString84(String string84) {
+    this.string84 = string84;
+  }
+
+  public int getInt85() {
+    return int85;
+  }
+
+  public void setInt85(int int85) {
+    this.int85 = int85;
+  }
+
+  public long getLong86() {
+    return long86;
+  }
+
+  public void setLong86(long long86) {
+    this.long86 = long86;
+  }
+
+  public Integer getBoxed87() {
+    return boxed87;
+  }
+
+  public void setBoxed87(Integer boxed87) {
+    this.boxed87 = boxed87;
+  }
+
+  public boolean isFlag88() {
+    return flag88;
+  }
+
+  public void setFlag88(boolean flag88) {
+    this.flag88 = flag88;
+  }
+
+  public double getDouble89() {
+    return double89;
+  }
+
+  public void setDouble89(double double89) {
+    this.double89 = double89;
+  }
+
+  public String getString90() {
+    return string90;
+  }
+
+  public void setString90(String string90) {
+    this.string90 = string90;
+  }
+
+  public int getInt91() {
+    return int91;
+  }
+
+  public void setInt91(int int91) {
+    this.int91 = int91;
+  }
+
+  public long getLong92() {
+    return long92;
+  }
+
+  public void setLong92(long long92) {
+    this.long92 = long92;
+  }
+
+  public Integer getBoxed93() {
+    return boxed93;
+  }
+
+  public void setBoxed93(Integer boxed93) {
+    this.boxed93 = boxed93;
+  }
+
+  public boolean isFlag94() {
+    return flag94;
+  }
+
+  public void setFlag94(boolean flag94) {
+    this.flag94 = flag94;
+  }
+
+  public double getDouble95() {
+    return double95;
+  }
+
+  public void setDouble95(double double95) {
+    this.double95 = double95;
+  }
+
+  public String getString96() {
+    return string96;
+  }
+
+  public void setString96(String string96) {
+    this.string96 = string96;
+  }
+
+  public int getInt97() {
+    return int97;
+  }
+
+  public void setInt97(int int97) {
+    this.int97 = int97;
+  }
+
+  public long getLong98() {
+    return long98;
+  }
+
+  public void setLong98(long long98) {
+    this.long98 = long98;
+  }
+
+  public Integer getBoxed99() {
+    return boxed99;
+  }
+
+  public void setBoxed99(Integer boxed99) {
+    this.boxed99 = boxed99;
+  }
+
+}
@@ -0,0 +1,221 @@
+package com.remondis.remap.jmh.beans;
+
+/**
+ * Factory and hand-written mapper for {@link FlatBean100} used as baseline.
+ */
+public final class FlatBean100s {
+
+  private FlatBean100s() {
+  }
+
+  public static FlatBean100 create(int seed) {
+    FlatBean100 bean = new FlatBean100();
+    bean.setString0("value" + seed);
+    bean.setInt1(seed + 1);
+    bean.setLong2(seed * 3L);
+    bean.setBoxed3(seed - 3);
+    bean.setFlag4(seed % 2 == 0);
+    bean.setDouble5(seed / 6.0);
+    bean.setString6("value" + seed);
+    bean.setInt7(seed + 7);
+    bean.setLong8(seed * 9L);
+    bean.setBoxed9(seed - 9);
+    bean.setFlag10(seed % 2 == 0);
+    bean.setDouble11(seed / 12.0);
+    bean.setString12("value" + seed);
+    bean.setInt13(seed + 13);
+    bean.setLong14(seed * 15L);
+    bean.setBoxed15(seed - 15);
+    bean.setFlag16(seed % 2 == 0);
+    bean.setDouble17(seed / 18.0);
+    bean.setString18("value" + seed);
+    bean.setInt19(seed + 19);
+    bean.setLong20(seed * 21L);
+    bean.setBoxed21(seed - 21);
+    bean.setFlag22(seed % 2 == 0);
+    bean.setDouble23(seed / 24.0);
+    bean.setString24("value" + seed);
+    bean.setInt25(seed + 25);
+    bean.setLong26(seed * 27L);
+    bean.setBoxed27(seed - 27);
+    bean.setFlag28(seed % 2 == 0);
+    bean.setDouble29(seed / 30.0);
+    bean.setString30("value" + seed);
+    bean.setInt31(seed + 31);
+    bean.setLong32(seed * 33L);
+    bean.setBoxed33(seed - 33);
+    bean.setFlag34(seed % 2 == 0);
+    bean.setDouble35(seed / 36.0);
+    bean.setString36("value" + seed);
+    bean.setInt37(seed + 37);
+    bean.setLong38(seed * 39L);
+    bean.setBoxed39(seed - 39);
+    bean.setFlag40(seed % 2 == 0);
+    bean.setDouble41(seed / 42.0);
+    bean.setString42("value" + seed);
+    bean.setInt43(seed + 43);
+    bean.setLong44(seed * 45L);
+    bean.setBoxed45(seed - 45);
+    bean.setFlag46(seed % 2 == 0);
+    bean.setDouble47(seed / 48.0);
+    bean.setString48("value" + seed);
+    bean.setInt49(seed + 49);
+    bean.setLong50(seed * 51L);
+    bean.setBoxed51(seed - 51);
+    bean.setFlag52(seed % 2 == 0);
+    bean.setDouble53(seed / 54.0);
+    bean.setString54("value" + seed);
+    bean.setInt55(seed + 55);
+    bean.setLong56(seed * 57L);
+    bean.setBoxed57(seed - 57);
+    bean.setFlag58(seed % 2 == 0);
+    bean.setDouble59(seed / 60.0);
+    bean.setString60("value" + seed);
+    bean.setInt61(seed + 61);
+    bean.setLong62(seed * 63L);
+    bean.setBoxed63(seed - 63);
+    bean.setFlag64(seed % 2 == 0);
+    bean.setDouble65(seed / 66.0);
+    bean.setString66("value" + seed);
+    bean.setInt67(seed + 67);
+    bean.setLong68(seed * 69L);
+    bean.setBoxed69(seed - 69);
+    bean.setFlag70(seed % 2 == 0);
+    bean.setDouble71(seed / 72.0);
+    bean.setString72("value" + seed);
+    bean.setInt73(seed + 73);
+    bean.setLong74(seed * 75L);
+    bean.setBoxed75(seed - 75);
+    bean.setFlag76(seed % 2 == 0);
+    bean.setDouble77(seed / 78.0);
+    bean.setString78("value" + seed);
+    bean.setInt79(seed + 79);
+    bean.setLong80(seed * 81L);
+    bean.setBoxed81(seed - 81);
+    bean.setFlag82(seed % 2 == 0);
+    bean.setDouble83(seed / 84.0);
+    bean.setString84("value" + seed);
+    bean.setInt85(seed + 85);
+    bean.setLong86(seed * 87L);
+    bean.setBoxed87(seed - 87);
+    bean.setFlag88(seed % 2 == 0);
+    bean.setDouble89(seed / 90.0);
+    bean.setString90("value" + seed);
+    bean.setInt91(seed + 91);
+    bean.setLong92(seed * 93L);
+    bean.setBoxed93(seed - 93);
+    bean.setFlag94(seed % 2 == 0);
+    bean.setDouble95(seed / 96.0);
+    bean.setString96("value" + seed);
+    bean.setInt97(seed + 97);
+    bean.setLong98(seed * 99L);
+    bean.setBoxed99(seed - 99);
+    return bean;
+  }
+
+  public static FlatBean100Dto map(FlatBean100 source) {
+    FlatBean100Dto destination = new FlatBean100Dto();
+    destination.setString0(source.getString0());
+    destination.setInt1(source.getInt1());
+    destination.setLong2(source.getLong2());
+    destination.setBoxed3(source.getBoxed3());
+    destination.setFlag4(source.isFlag4());
+    destination.setDouble5(source.getDouble5());
+    destination.setString6(source.getString6());
+    destination.setInt7(source.getInt7());
+    destination.setLong8(source.getLong8());
+    destination.setBoxed9(source.getBoxed9());
+    destination.setFlag10(source.isFlag10());
+    destination.setDouble11(source.getDouble11());
+    destination.setString12(source.getString12());
+    destination.setInt13(source.getInt13());
+    destination.setLong14(source.getLong14());
+    destination.setBoxed15(source.getBoxed15());
+    destination.setFlag16(source.isFlag16());
+    destination.setDouble17(source.getDouble17());
+    destination.setString18(source.getString18());
+    destination.setInt19(source.getInt19());
+    destination.setLong20(source.getLong20());
+    destination.setBoxed21(source.getBoxed21());
+    destination.setFlag22(source.isFlag22());
+    destination.setDouble23(source.getDouble23());
+    destination.setString24(source.getString24());
+    destination.setInt25(source.getInt25());
+    destination.setLong26(source.getLong26());
+    destination.setBoxed27(source.getBoxed27());
+    destination.setFlag28(source.isFlag28());
+    destination.setDouble29(source.getDouble29());
+    destination.setString30(source.getString30());
+    destination.setInt31(source.getInt31());
+    destination.setLong32(source.getLong32());
+    destination.setBoxed33(source.getBoxed33());
+    destination.setFlag34(source.isFlag34());
+    destination.setDouble35(source.getDouble35());
+    destination.setString36(source.getString36());
+    destination.setInt37(source.getInt37());
+    destination.setLong38(source.getLong38());
+    destination.setBoxed39(source.getBoxed39());
+    destination.setFlag40(source.isFlag40());
+    destination.setDouble41(source.getDouble41());
+    destination.setString42(source.getString42());
+    destination.setInt43(source.getInt43());
+    destination.setLong44(source.getLong44());
+    destination.setBoxed45(source.getBoxed45());
+    destination.setFlag46(source.isFlag46());
+    destination.setDouble47(source.getDouble47());
+    destination.setString48(source.getString48());
+    destination.setInt49(source.getInt49());
+    destination.setLong50(source.getLong50());
+    destination.setBoxed51(source.getBoxed51());
+    destination.setFlag52(source.isFlag52());
+    destination.setDouble53(source.getDouble53());
+    destination.setString54(source.getString54());
+    destination.setInt55(source.getInt55());
+    destination.setLong56(source.getLong56());
+    destination.setBoxed57(source.getBoxed57());
+    destination.setFlag58(source.isFlag58());
+    destination.setDouble59(source.getDouble59());
+    destination.setString60(source.getString60());
+    destination.setInt61(source.getInt61());
+    destination.setLong62(source.getLong62());
+    destination.setBoxed63(source.getBoxed63());
+    destination.setFlag64(source.isFlag64());
+    destination.setDouble65(source.getDouble65());
+    destination.setString66(source.getString66());
+    destination.setInt67(source.getInt67());
+    destination.setLong68(source.getLong68());
+    destination.setBoxed69(source.getBoxed69());
+    destination.setFlag70(source.isFlag70());
+    destination.setDouble71(source.getDouble71());
+    destination.setString72(source.getString72());
+    destination.setInt73(source.getInt73());
+    destination.setLong74(source.getLong74());
+    destination.setBoxed75(source.getBoxed75());
+    destination.setFlag76(source.isFlag76());
+    destination.setDouble77(source.getDouble77());
+    destination.setString78(source.getString78());
+    destination.setInt79(source.getInt79());
+    destination.setLong80(source.getLong80());
+    destination.setBoxed81(source.getBoxed81());
+    destination.setFlag82(source.isFlag82());
+    destination.setDouble83(source.getDouble83());
+    destination.setString84(source.getString84());
+    destination.setInt85(source.getInt85());
+    destination.setLong86(source.getLong86());
+    destination.setBoxed87(source.getBoxed87());
+    destination.setFlag88(source.isFlag88());
+    destination.setDouble89(source.getDouble89());
+    destination.setString90(source.getString90());
+    destination.setInt91(source.getInt91());
+    destination.setLong92(source.getLong92());
+    destination.setBoxed93(source.getBoxed93());
+    destination.setFlag94(source.isFlag94());
+    destination.setDouble95(source.getDouble95());
+    destination.setString96(source.getString96());
+    destination.setInt97(source.getInt97());
+    destination.setLong98(source.getLong98());
+    destination.setBoxed99(source.getBoxed99());
+    return destination;
+  }
+
+}
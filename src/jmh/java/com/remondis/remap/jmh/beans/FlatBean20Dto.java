@@ -0,0 +1,186 @@
+package com.remondis.remap.jmh.beans;
+
+public class FlatBean20Dto {
+
+  private String string0;
+  private int int1;
+  private long long2;
+  private Integer boxed3;
+  private boolean flag4;
+  private double double5;
+  private String string6;
+  private int int7;
+  private long long8;
+  private Integer boxed9;
+  private boolean flag10;
+  private double double11;
+  private String string12;
+  private int int13;
+  private long long14;
+  private Integer boxed15;
+  private boolean flag16;
+  private double double17;
+  private String string18;
+  private int int19;
+
+  public String getString0() {
+    return string0;
+  }
+
+  public void setString0(String string0) {
+    this.string0 = string0;
+  }
+
+  public int getInt1() {
+    return int1;
+  }
+
+  public void setInt1(int int1) {
+    this.int1 = int1;
+  }
+
+  public long getLong2() {
+    return long2;
+  }
+
+  public void setLong2(long long2) {
+    this.long2 = long2;
+  }
+
+  public Integer getBoxed3() {
+    return boxed3;
+  }
+
+  public void setBoxed3(Integer boxed3) {
+    this.boxed3 = boxed3;
+  }
+
+  public boolean isFlag4() {
+    return flag4;
+  }
+
+  public void setFlag4(boolean flag4) {
+    this.flag4 = flag4;
+  }
+
+  public double getDouble5() {
+    return double5;
+  }
+
+  public void setDouble5(double double5) {
+    this.double5 = double5;
+  }
+
+  public String getString6() {
+    return string6;
+  }
+
+  public void setString6(String string6) {
+    this.string6 = string6;
+  }
+
+  public int getInt7() {
+    return int7;
+  }
+
+  public void setInt7(int int7) {
+    this.int7 = int7;
+  }
+
+  public long getLong8() {
+    return long8;
+  }
+
+  public void setLong8(long long8) {
+    this.long8 = long8;
+  }
+
+  public Integer getBoxed9() {
+    return boxed9;
+  }
+
+  public void setBoxed9(Integer boxed9) {
+    this.boxed9 = boxed9;
+  }
+
+  public boolean isFlag10() {
+    return flag10;
+  }
+
+  public void setFlag10(boolean flag10) {
+    this.flag10 = flag10;
+  }
+
+  public double getDouble11() {
+    return double11;
+  }
+
+  public void setDouble11(double double11) {
+    this.double11 = double11;
+  }
+
+  public String getString12() {
+    return string12;
+  }
+
+  public void setString12(String string12) {
+    this.string12 = string12;
+  }
+
+  public int getInt13() {
+    return int13;
+  }
+
+  public void setInt13(int int13) {
+    this.int13 = int13;
+  }
+
+  public long getLong14() {
+    return long14;
+  }
+
+  public void setLong14(long long14) {
+    this.long14 = long14;
+  }
+
+  public Integer getBoxed15() {
+    return boxed15;
+  }
+
+  public void setBoxed15(Integer boxed15) {
+    this.boxed15 = boxed15;
+  }
+
+  public boolean isFlag16() {
+    return flag16;
+  }
+
+  public void setFlag16(boolean flag16) {
+    this.flag16 = flag16;
+  }
+
+  public double getDouble17() {
+    return double17;
+  }
+
+  public void setDouble17(double double17) {
+    this.double17 = double17;
+  }
+
+  public String getString18() {
+    return string18;
+  }
+
+  public void setString18(String string18) {
+    this.string18 = string18;
+  }
+
+  public int getInt19() {
+    return int19;
+  }
+
+  public void setInt19(int int19) {
+    this.int19 = int19;
+  }
+
+}
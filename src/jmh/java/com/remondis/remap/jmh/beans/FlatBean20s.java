@@ -0,0 +1,61 @@
+package com.remondis.remap.jmh.beans;
+
+/**
+ * Factory and hand-written mapper for {@link FlatBean20} used as baseline.
+ */
+public final class FlatBean20s {
+
+  private FlatBean20s() {
+  }
+
+  public static FlatBean20 create(int seed) {
+    FlatBean20 bean = new FlatBean20();
+    bean.setString0("value" + seed);
+    bean.setInt1(seed + 1);
+    bean.setLong2(seed * 3L);
+    bean.setBoxed3(seed - 3);
+    bean.setFlag4(seed % 2 == 0);
+    bean.setDouble5(seed / 6.0);
+    bean.setString6("value" + seed);
+    bean.setInt7(seed + 7);
+    bean.setLong8(seed * 9L);
+    bean.setBoxed9(seed - 9);
+    bean.setFlag10(seed % 2 == 0);
+    bean.setDouble11(seed / 12.0);
+    bean.setString12("value" + seed);
+    bean.setInt13(seed + 13);
+    bean.setLong14(seed * 15L);
+    bean.setBoxed15(seed - 15);
+    bean.setFlag16(seed % 2 == 0);
+    bean.setDouble17(seed / 18.0);
+    bean.setString18("value" + seed);
+    bean.setInt19(seed + 19);
+    return bean;
+  }
+
+  public static FlatBean20Dto map(FlatBean20 source) {
+    FlatBean20Dto destination = new FlatBean20Dto();
+    destination.setString0(source.getString0());
+    destination.setInt1(source.getInt1());
+    destination.setLong2(source.getLong2());
+    destination.setBoxed3(source.getBoxed3());
+    destination.setFlag4(source.isFlag4());
+    destination.setDouble5(source.getDouble5());
+    destination.setString6(source.getString6());
+    destination.setInt7(source.getInt7());
+    destination.setLong8(source.getLong8());
+    destination.setBoxed9(source.getBoxed9());
+    destination.setFlag10(source.isFlag10());
+    destination.setDouble11(source.getDouble11());
+    destination.setString12(source.getString12());
+    destination.setInt13(source.getInt13());
+    destination.setLong14(source.getLong14());
+    destination.setBoxed15(source.getBoxed15());
+    destination.setFlag16(source.isFlag16());
+    destination.setDouble17(source.getDouble17());
+    destination.setString18(source.getString18());
+    destination.setInt19(source.getInt19());
+    return destination;
+  }
+
+}
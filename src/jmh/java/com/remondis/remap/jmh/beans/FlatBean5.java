@@ -0,0 +1,51 @@
+package com.remondis.remap.jmh.beans;
+
+public class FlatBean5 {
+
+  private String string0;
+  private int int1;
+  private long long2;
+  private Integer boxed3;
+  private boolean flag4;
+
+  public String getString0() {
+    return string0;
+  }
+
+  public void setString0(String string0) {
+    this.string0 = string0;
+  }
+
+  public int getInt1() {
+    return int1;
+  }
+
+  public void setInt1(int int1) {
+    this.int1 = int1;
+  }
+
+  public long getLong2() {
+    return long2;
+  }
+
+  public void setLong2(long long2) {
+    this.long2 = long2;
+  }
+
+  public Integer getBoxed3() {
+    return boxed3;
+  }
+
+  public void setBoxed3(Integer boxed3) {
+    this.boxed3 = boxed3;
+  }
+
+  public boolean isFlag4() {
+    return flag4;
+  }
+
+  public void setFlag4(boolean flag4) {
+    this.flag4 = flag4;
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.remondis.remap.jmh.beans;
+
+/**
+ * Factory and hand-written mapper for {@link FlatBean5} used as baseline.
+ */
+public final class FlatBean5s {
+
+  private FlatBean5s() {
+  }
+
+  public static FlatBean5 create(int seed) {
+    FlatBean5 bean = new FlatBean5();
+    bean.setString0("value" + seed);
+    bean.setInt1(seed + 1);
+    bean.setLong2(seed * 3L);
+    bean.setBoxed3(seed - 3);
+    bean.setFlag4(seed % 2 == 0);
+    return bean;
+  }
+
+  public static FlatBean5Dto map(FlatBean5 source) {
+    FlatBean5Dto destination = new FlatBean5Dto();
+    destination.setString0(source.getString0());
+    destination.setInt1(source.getInt1());
+    destination.setLong2(source.getLong2());
+    destination.setBoxed3(source.getBoxed3());
+    destination.setFlag4(source.isFlag4());
+    return destination;
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.remondis.remap.jmh.beans;
+
+import java.util.List;
+import java.util.Set;
+
+public class Invoice {
+
+  private String number;
+  private List<Address> addresses;
+  private Set<String> tags;
+
+  public String getNumber() {
+    return number;
+  }
+
+  public void setNumber(String number) {
+    this.number = number;
+  }
+
+  public List<Address> getAddresses() {
+    return addresses;
+  }
+
+  public void setAddresses(List<Address> addresses) {
+    this.addresses = addresses;
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  public void setTags(Set<String> tags) {
+    this.tags = tags;
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.remondis.remap.jmh.beans;
+
+import java.util.List;
+import java.util.Set;
+
+public class InvoiceDto {
+
+  private String number;
+  private List<AddressDto> addresses;
+  private Set<String> tags;
+
+  public String getNumber() {
+    return number;
+  }
+
+  public void setNumber(String number) {
+    this.number = number;
+  }
+
+  public List<AddressDto> getAddresses() {
+    return addresses;
+  }
+
+  public void setAddresses(List<AddressDto> addresses) {
+    this.addresses = addresses;
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  public void setTags(Set<String> tags) {
+    this.tags = tags;
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.remondis.remap.jmh.beans;
+
+import java.util.List;
+
+public class Reading {
+
+  private String name;
+  private Integer value;
+  private List<Long> samples;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Integer getValue() {
+    return value;
+  }
+
+  public void setValue(Integer value) {
+    this.value = value;
+  }
+
+  public List<Long> getSamples() {
+    return samples;
+  }
+
+  public void setSamples(List<Long> samples) {
+    this.samples = samples;
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.remondis.remap.jmh.beans;
+
+import java.util.List;
+
+public class ReadingDto {
+
+  private String name;
+  private String value;
+  private List<String> samples;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public void setValue(String value) {
+    this.value = value;
+  }
+
+  public List<String> getSamples() {
+    return samples;
+  }
+
+  public void setSamples(List<String> samples) {
+    this.samples = samples;
+  }
+
+}
@@ -0,0 +1,31 @@
+package com.remondis.remap;
+
+/**
+ * Detects whether ReMap runs in ahead-of-time mode. In this mode selectors are resolved without generating proxy
+ * classes at runtime, which is not supported by closed-world compilers like GraalVM native-image. The mode is enabled
+ * automatically inside a native image and can be enabled explicitly with the system property
+ * <code>com.remondis.remap.aot=true</code>, for example to test an application on the JVM before building the image.
+ */
+final class AotSupport {
+
+  /**
+   * The system property enabling the ahead-of-time mode.
+   */
+  static final String AOT_PROPERTY = "com.remondis.remap.aot";
+
+  /**
+   * The system property set by GraalVM native-image at image build time and at image runtime.
+   */
+  static final String IMAGE_CODE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+  private AotSupport() {
+  }
+
+  /**
+   * @return Returns <code>true</code> if the ahead-of-time mode is enabled, otherwise <code>false</code>.
+   */
+  static boolean isEnabled() {
+    return Boolean.getBoolean(AOT_PROPERTY) || System.getProperty(IMAGE_CODE_PROPERTY) != null;
+  }
+
+}
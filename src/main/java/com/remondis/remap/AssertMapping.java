@@ -11,8 +11,10 @@ import static com.remondis.remap.ReassignBuilder.ASSIGN;
 import static com.remondis.remap.ReplaceBuilder.TRANSFORM;
 
 import java.beans.PropertyDescriptor;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -108,6 +110,60 @@ public class AssertMapping<S, D> {
     return builder;
   }
 
+  /**
+   * Specifies an assertion for a replace operation with two source properties.
+   *
+   * @param firstSourceSelector
+   *        The first source field selector.
+   * @param secondSourceSelector
+   *        The second source field selector.
+   * @param destinationSelector
+   *        The destination field selector.
+   * @return Returns a {@link ReplaceBiAssertBuilder} for further configuration.
+   */
+  public <RD, RS1, RS2> ReplaceBiAssertBuilder<S, D, RD, RS1, RS2> expectReplace(
+      TypedSelector<RS1, S> firstSourceSelector, TypedSelector<RS2, S> secondSourceSelector,
+      TypedSelector<RD, D> destinationSelector) {
+    denyNull("firstSourceSelector", firstSourceSelector);
+    denyNull("secondSourceSelector", secondSourceSelector);
+    denyNull("destinationSelector", destinationSelector);
+    List<PropertyDescriptor> sourceProperties = Arrays.asList(
+        getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getSource(), firstSourceSelector).property,
+        getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getSource(), secondSourceSelector).property);
+    PropertyDescriptor destProperty = getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getDestination(),
+        destinationSelector).property;
+    return new ReplaceBiAssertBuilder<>(sourceProperties, destProperty, this);
+  }
+
+  /**
+   * Specifies an assertion for a replace operation with three source properties.
+   *
+   * @param firstSourceSelector
+   *        The first source field selector.
+   * @param secondSourceSelector
+   *        The second source field selector.
+   * @param thirdSourceSelector
+   *        The third source field selector.
+   * @param destinationSelector
+   *        The destination field selector.
+   * @return Returns a {@link ReplaceTriAssertBuilder} for further configuration.
+   */
+  public <RD, RS1, RS2, RS3> ReplaceTriAssertBuilder<S, D, RD, RS1, RS2, RS3> expectReplace(
+      TypedSelector<RS1, S> firstSourceSelector, TypedSelector<RS2, S> secondSourceSelector,
+      TypedSelector<RS3, S> thirdSourceSelector, TypedSelector<RD, D> destinationSelector) {
+    denyNull("firstSourceSelector", firstSourceSelector);
+    denyNull("secondSourceSelector", secondSourceSelector);
+    denyNull("thirdSourceSelector", thirdSourceSelector);
+    denyNull("destinationSelector", destinationSelector);
+    List<PropertyDescriptor> sourceProperties = Arrays.asList(
+        getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getSource(), firstSourceSelector).property,
+        getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getSource(), secondSourceSelector).property,
+        getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getSource(), thirdSourceSelector).property);
+    PropertyDescriptor destProperty = getTypedPropertyFromFieldSelector(TRANSFORM, getMapping().getDestination(),
+        destinationSelector).property;
+    return new ReplaceTriAssertBuilder<>(sourceProperties, destProperty, this);
+  }
+
   /**
    * Specifies an assertion for a replace operation for collections.
    *
@@ -193,7 +249,6 @@ public class AssertMapping<S, D> {
    * <li>The function is null-safe if null strategy is not skip-when-null</li>
    * </ol>
    */
-  @SuppressWarnings("rawtypes")
   private void checkReplaceFunctions() {
     Set<Transformation> mappings = mapper.getMapping()
         .getMappings();
@@ -205,10 +260,10 @@ public class AssertMapping<S, D> {
           return (SkipWhenNullTransformation) t;
         })
         .forEach(r -> {
-          Transform<?, ?> transformation = r.getTransformation();
-          if (!r.isSkipWhenNull()) {
+          // Transformations with default values are not invoked on null input.
+          if (!r.isSkipWhenNull() && !r.hasDefault()) {
             try {
-              transformation.transform(null);
+              r.transformNull();
             } catch (NullPointerException t) {
               throw new AssertionError(NOT_NULL_SAFE + r.toString(), t);
             } catch (Throwable t) {
@@ -222,7 +277,6 @@ public class AssertMapping<S, D> {
    * This method checks that the expected replace transformations and the actual replace transformations have equal null
    * strategies.
    */
-  @SuppressWarnings("rawtypes")
   private void checkReplaceTransformations() {
     Set<Transformation> mappings = mapper.getMapping()
         .getMappings();
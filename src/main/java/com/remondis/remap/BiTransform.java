@@ -0,0 +1,23 @@
+package com.remondis.remap;
+
+/**
+ * This interface defines a transformation from the values of two properties to another object.
+ *
+ * @param <S1> the type of the first source value
+ * @param <S2> the type of the second source value
+ * @param <D> the destination type
+ */
+@FunctionalInterface
+public interface BiTransform<S1, S2, D> {
+
+  /**
+   * Transforms the source values into a destination object.
+   *
+   * @param first The first source value
+   * @param second The second source value
+   * @return The destination object.
+   * @throws MappingException Thrown on any error while performing the transformation.
+   */
+  D transform(S1 first, S2 second) throws MappingException;
+
+}
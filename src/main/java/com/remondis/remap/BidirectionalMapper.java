@@ -38,6 +38,23 @@ public class BidirectionalMapper<S, D> {
     return new BidirectionalMapper<>(to, from);
   }
 
+  /**
+   * Creates a {@link BidirectionalMapper} from the specified {@link Mapping}. The mapping for the opposite direction
+   * is derived using {@link Mapping#inverse()}, so the operations are only declared once. Use this method if the
+   * mapping does not declare <code>replace</code> operations and does not map nested types. Otherwise derive the
+   * inverse mapping using {@link Mapping#inverse()}, declare the inverse transformations and nested mappers and use
+   * {@link #of(Mapper, Mapper)}.
+   *
+   * @param mapping The configured {@link Mapping} from source to destination type.
+   * @return Returns a {@link BidirectionalMapper}.
+   * @throws MappingException Thrown if one of the mappings is invalid.
+   */
+  public static <S, D> BidirectionalMapper<S, D> derive(Mapping<S, D> mapping) {
+    denyNull("mapping", mapping);
+    Mapping<D, S> inverse = mapping.inverse();
+    return new BidirectionalMapper<>(mapping.mapper(), inverse.mapper());
+  }
+
   /**
    * Performs the mapping from the source to destination type.
    *
@@ -0,0 +1,25 @@
+package com.remondis.remap;
+
+/**
+ * This interface defines a transformation from one object to another that depends on a mapping context, for example
+ * the locale or the tenant of the current request. The context is specified when calling
+ * {@link Mapper#map(Object, Object)} and passed to all transformations of the mapper and its nested mappers.
+ *
+ * @param <S> the source type
+ * @param <D> the destination type
+ * @param <C> the context type
+ */
+@FunctionalInterface
+public interface ContextTransform<S, D, C> {
+
+  /**
+   * Transforms the source into a destination object.
+   *
+   * @param source The source object
+   * @param context The mapping context or <code>null</code> if the mapper was called without a context.
+   * @return The destination object.
+   * @throws MappingException Thrown on any error while performing the transformation.
+   */
+  D transform(S source, C context) throws MappingException;
+
+}
@@ -0,0 +1,132 @@
+package com.remondis.remap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The registry of built-in conversions between primitive types, their object versions, {@link String}s and
+ * enumeration values. A conversion is selected once when a mapper is built, so mapping only applies the function.
+ *
+ * <p>
+ * The following conversions are supported:
+ * </p>
+ * <ul>
+ * <li>boxing and unboxing of primitive values, for example <code>int</code> to {@link Integer} and vice versa</li>
+ * <li>widening of primitive values and their object versions, for example <code>int</code> to <code>long</code> or
+ * {@link Integer} to {@link Double}</li>
+ * <li>numbers and {@link Boolean}s to {@link String} and vice versa</li>
+ * <li>enumeration values to {@link String} and vice versa using the name of the enumeration value</li>
+ * </ul>
+ */
+final class Conversions {
+
+  private static final Function<Object, Object> IDENTITY = value -> value;
+
+  private static final Function<Object, Object> TO_STRING = String::valueOf;
+
+  private static final Function<Object, Object> ENUM_NAME = value -> ((Enum<?>) value).name();
+
+  private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+
+  private static final Map<Projection<?, ?>, Function<Object, Object>> CONVERSIONS = new HashMap<>();
+
+  static {
+    WRAPPERS.put(boolean.class, Boolean.class);
+    WRAPPERS.put(char.class, Character.class);
+    WRAPPERS.put(byte.class, Byte.class);
+    WRAPPERS.put(short.class, Short.class);
+    WRAPPERS.put(int.class, Integer.class);
+    WRAPPERS.put(long.class, Long.class);
+    WRAPPERS.put(float.class, Float.class);
+    WRAPPERS.put(double.class, Double.class);
+
+    // Widening conversions as specified by JLS 5.1.2
+    widening(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+    widening(Short.class, Integer.class, Long.class, Float.class, Double.class);
+    widening(Integer.class, Long.class, Float.class, Double.class);
+    widening(Long.class, Float.class, Double.class);
+    widening(Float.class, Double.class);
+    register(Character.class, Integer.class, value -> (int) (Character) value);
+    register(Character.class, Long.class, value -> (long) (Character) value);
+    register(Character.class, Float.class, value -> (float) (Character) value);
+    register(Character.class, Double.class, value -> (double) (Character) value);
+
+    for (Class<?> type : WRAPPERS.values()) {
+      register(type, String.class, TO_STRING);
+    }
+    register(String.class, Boolean.class, value -> Boolean.valueOf((String) value));
+    register(String.class, Byte.class, value -> Byte.valueOf((String) value));
+    register(String.class, Short.class, value -> Short.valueOf((String) value));
+    register(String.class, Integer.class, value -> Integer.valueOf((String) value));
+    register(String.class, Long.class, value -> Long.valueOf((String) value));
+    register(String.class, Float.class, value -> Float.valueOf((String) value));
+    register(String.class, Double.class, value -> Double.valueOf((String) value));
+  }
+
+  private Conversions() {
+  }
+
+  private static void widening(Class<?> sourceType, Class<?>... destinationTypes) {
+    for (Class<?> destinationType : destinationTypes) {
+      register(sourceType, destinationType, widening(destinationType));
+    }
+  }
+
+  private static Function<Object, Object> widening(Class<?> destinationType) {
+    if (destinationType == Short.class) {
+      return value -> ((Number) value).shortValue();
+    } else if (destinationType == Integer.class) {
+      return value -> ((Number) value).intValue();
+    } else if (destinationType == Long.class) {
+      return value -> ((Number) value).longValue();
+    } else if (destinationType == Float.class) {
+      return value -> ((Number) value).floatValue();
+    } else {
+      return value -> ((Number) value).doubleValue();
+    }
+  }
+
+  private static void register(Class<?> sourceType, Class<?> destinationType, Function<Object, Object> conversion) {
+    CONVERSIONS.put(new Projection<>(sourceType, destinationType), conversion);
+  }
+
+  /**
+   * Finds the built-in conversion from the specified source type to the specified destination type.
+   *
+   * @param sourceType The source type.
+   * @param destinationType The destination type.
+   * @return Returns the function converting non-<code>null</code> values or <code>null</code> if the types are equal
+   *         or no conversion is available.
+   */
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  static Function<Object, Object> find(Class<?> sourceType, Class<?> destinationType) {
+    if (sourceType.equals(destinationType)) {
+      return null;
+    }
+    Class<?> source = wrap(sourceType);
+    Class<?> destination = wrap(destinationType);
+    if (source.equals(destination)) {
+      // Values are boxed and unboxed by the reflective invocation of the get- and set-methods.
+      return IDENTITY;
+    } else if (sourceType.isEnum() && destination == String.class) {
+      return ENUM_NAME;
+    } else if (source == String.class && destinationType.isEnum()) {
+      Class<? extends Enum> enumType = (Class<? extends Enum>) destinationType;
+      return value -> Enum.valueOf(enumType, (String) value);
+    } else {
+      return CONVERSIONS.get(new Projection<>(source, destination));
+    }
+  }
+
+  /**
+   * @param type The type.
+   * @return Returns the object version of the specified type if it is a primitive type, otherwise the type itself.
+   */
+  static Class<?> wrap(Class<?> type) {
+    return type.isPrimitive() ? WRAPPERS.get(type) : type;
+  }
+
+}
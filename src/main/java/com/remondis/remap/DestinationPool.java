@@ -0,0 +1,159 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Properties.asString;
+import static com.remondis.remap.ReflectionUtil.isBuildInType;
+import static com.remondis.remap.ReflectionUtil.newInstance;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Recycles the destination objects of a mapper. Destination objects released by the caller are kept in a pool per
+ * thread and reused by the next pooled mapping performed on the same thread, see {@link Mapper#mapPooled(Object)}.
+ *
+ * <p>
+ * A recycled object is reset by performing the transformations of the mapping onto it. Destination properties that
+ * are not written by a transformation, because the source value is <code>null</code>, a condition is not met or the
+ * property is omitted, are reset to the value a new destination object holds. Therefore the initial values of the
+ * destination properties must be <code>null</code>, built-in values or empty collections or maps, which are replaced
+ * by new empty instances on reset.
+ * </p>
+ *
+ * <p>
+ * The objects held by a recycled object are recycled as well: Nested objects are recycled by their mappers if these
+ * mappers are pooled. The elements of lists are recycled by position and arrays of the same length are refilled in
+ * place. Sets and maps of the same implementation are cleared and refilled, the values of maps whose keys are copied
+ * by reference are recycled per key, except for a {@link java.util.LinkedHashMap} that keeps the order of the source
+ * map.
+ * </p>
+ *
+ * @param <D> The destination type.
+ */
+final class DestinationPool<D> {
+
+  private final Class<D> type;
+  private final int capacity;
+  private final Transformation[] transformations;
+  private final Consumer<Object>[] resets;
+  private final ThreadLocal<ArrayDeque<D>> pools = ThreadLocal.withInitial(ArrayDeque::new);
+
+  private DestinationPool(Class<D> type, int capacity, List<Transformation> transformations,
+      List<Consumer<Object>> resets) {
+    this.type = type;
+    this.capacity = capacity;
+    this.transformations = transformations.toArray(new Transformation[transformations.size()]);
+    this.resets = toArray(resets);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Consumer<Object>[] toArray(List<Consumer<Object>> resets) {
+    return resets.toArray((Consumer<Object>[]) new Consumer<?>[resets.size()]);
+  }
+
+  /**
+   * Creates the pool for the destination objects of the specified mapping.
+   *
+   * @param mapping The mapping.
+   * @param capacity The maximum number of destination objects kept per thread.
+   * @return Returns the pool.
+   * @throws MappingException Thrown if the destination objects of the mapping cannot be reset.
+   */
+  static <D> DestinationPool<D> create(Mapping<?, D> mapping, int capacity) {
+    if (mapping.isCompiled()) {
+      throw MappingException.notPoolable(mapping.getSource(), mapping.getDestination(),
+          "it is performed by a compiled mapping");
+    }
+    D template = newInstance(mapping.getDestination());
+    List<Transformation> transformations = new ArrayList<>();
+    List<Consumer<Object>> resets = new ArrayList<>();
+    for (Transformation t : mapping.getMappings()) {
+      if (t instanceof PathTransformation) {
+        throw MappingException.notPoolable(mapping.getSource(), mapping.getDestination(), "it maps property paths");
+      }
+      if (t.getDestinationProperty() != null) {
+        transformations.add(t);
+        resets.add(reset(mapping, t, template));
+      }
+    }
+    return new DestinationPool<>(mapping.getDestination(), capacity, transformations, resets);
+  }
+
+  private static Consumer<Object> reset(Mapping<?, ?> mapping, Transformation t, Object template) {
+    Object initialValue = t.readDestinationValue(template);
+    if (initialValue == null || isBuildInType(initialValue.getClass()) || initialValue instanceof Enum) {
+      return destination -> t.writeValue(destination, initialValue);
+    } else if (isEmptyContainer(initialValue) && isInstantiable(initialValue.getClass())) {
+      Class<?> containerType = initialValue.getClass();
+      return destination -> t.writeValue(destination, newInstance(containerType));
+    } else {
+      throw MappingException.notPoolable(mapping.getSource(), mapping.getDestination(), String.format("the initial "
+          + "value of the %s is neither null, a built-in value nor an empty collection or map",
+          asString(t.getDestinationProperty())));
+    }
+  }
+
+  private static boolean isEmptyContainer(Object value) {
+    return (value instanceof Collection && ((Collection<?>) value).isEmpty())
+        || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+  }
+
+  private static boolean isInstantiable(Class<?> type) {
+    try {
+      return Modifier.isPublic(type.getModifiers()) && Modifier.isPublic(type.getConstructor()
+          .getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return Returns a released destination object of the current thread or <code>null</code> if the pool is empty.
+   */
+  D acquire() {
+    return pools.get()
+        .pollFirst();
+  }
+
+  /**
+   * Returns the specified destination object to the pool of the current thread. The object is discarded if the pool
+   * is full or the object is not exactly of the destination type.
+   *
+   * @param destination The destination object.
+   */
+  void release(D destination) {
+    if (accepts(destination)) {
+      ArrayDeque<D> pool = pools.get();
+      if (pool.size() < capacity) {
+        pool.addFirst(destination);
+      }
+    }
+  }
+
+  /**
+   * @param destination An object or <code>null</code>.
+   * @return Returns <code>true</code> if the specified object is exactly of the destination type and can therefore be
+   *         recycled, otherwise <code>false</code>.
+   */
+  boolean accepts(Object destination) {
+    return destination != null && destination.getClass() == type;
+  }
+
+  /**
+   * Performs the transformations onto the specified recycled destination object.
+   *
+   * @param source The source object.
+   * @param destination The recycled destination object.
+   * @param context The mapping context or <code>null</code>.
+   */
+  void recycle(Object source, D destination, Object context) {
+    for (int i = 0; i < transformations.length; i++) {
+      transformations[i].performRecycled(source, destination, context, resets[i]);
+    }
+  }
+
+}
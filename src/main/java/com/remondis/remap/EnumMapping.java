@@ -0,0 +1,107 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.lang.reflect.Array;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link EnumMapping} object is used to specify the mapping of the constants of an enumeration to the constants of
+ * another enumeration. Constants are mapped to the destination constants of the same name, other pairs are declared
+ * using {@link #map(Enum, Enum)}:
+ *
+ * <pre>
+ * Mapper&lt;Status, StatusResource&gt; statusMapper = EnumMapping.from(Status.class)
+ *     .to(StatusResource.class)
+ *     .map(Status.NEW, StatusResource.OPEN)
+ *     .mapper();
+ * </pre>
+ *
+ * <p>
+ * The resulting {@link Mapper} can be registered on a {@link Mapping} using {@link Mapping#useMapper(Mapper)} to map
+ * properties holding the enumeration values. The mapping is compiled into a table indexed by the ordinal of the
+ * source constants when the mapper is created, so mapping a value is a single array access.
+ * </p>
+ *
+ * @param <S> The source enumeration type.
+ * @param <D> The destination enumeration type.
+ */
+public final class EnumMapping<S extends Enum<S>, D extends Enum<D>> {
+
+  private final Class<S> source;
+  private final Class<D> destination;
+
+  /**
+   * The explicitly declared pairs of constants.
+   */
+  private final Map<S, D> mappings;
+
+  EnumMapping(Class<S> source, Class<D> destination) {
+    this.source = source;
+    this.destination = destination;
+    this.mappings = new EnumMap<>(source);
+  }
+
+  /**
+   * Specifies the source enumeration type to map from.
+   *
+   * @param source The source enumeration type.
+   * @return Returns a {@link EnumTypes} object for further mapping configuration.
+   */
+  public static <S extends Enum<S>> EnumTypes<S> from(Class<S> source) {
+    return new EnumTypes<>(source);
+  }
+
+  /**
+   * Maps the specified source constant to the specified destination constant instead of the destination constant of
+   * the same name.
+   *
+   * @param sourceConstant The source constant.
+   * @param destinationConstant The destination constant.
+   * @return Returns this object for method chaining.
+   */
+  public EnumMapping<S, D> map(S sourceConstant, D destinationConstant) {
+    denyNull("sourceConstant", sourceConstant);
+    denyNull("destinationConstant", destinationConstant);
+    if (mappings.containsKey(sourceConstant)) {
+      throw MappingException.alreadyMappedConstant(sourceConstant);
+    }
+    mappings.put(sourceConstant, destinationConstant);
+    return this;
+  }
+
+  /**
+   * Returns a {@link Mapper} object that maps the source constants to the destination constants. Source constants that
+   * are not explicitly mapped are mapped to the destination constant of the same name.
+   *
+   * @return Returns a {@link Mapper}.
+   * @throws MappingException Thrown if source constants are neither explicitly mapped nor have a destination constant
+   *         of the same name.
+   */
+  @SuppressWarnings("unchecked")
+  public Mapper<S, D> mapper() {
+    Map<String, D> destinationConstants = new HashMap<>();
+    for (D constant : destination.getEnumConstants()) {
+      destinationConstants.put(constant.name(), constant);
+    }
+    S[] sourceConstants = source.getEnumConstants();
+    D[] table = (D[]) Array.newInstance(destination, sourceConstants.length);
+    List<S> unmapped = new LinkedList<>();
+    for (S constant : sourceConstants) {
+      D mapped = mappings.containsKey(constant) ? mappings.get(constant) : destinationConstants.get(constant.name());
+      if (mapped == null) {
+        unmapped.add(constant);
+      }
+      table[constant.ordinal()] = mapped;
+    }
+    if (!unmapped.isEmpty()) {
+      throw MappingException.unmappedConstants(source, destination, unmapped);
+    }
+    return new Mapping<>(source, destination).compiled(constant -> table[constant.ordinal()]);
+  }
+
+}
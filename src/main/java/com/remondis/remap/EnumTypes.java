@@ -0,0 +1,30 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+/**
+ * Specifies the destination type of an {@link EnumMapping}.
+ *
+ * @param <S> The source enumeration type.
+ */
+public final class EnumTypes<S extends Enum<S>> {
+
+  private Class<S> source;
+
+  EnumTypes(Class<S> source) {
+    denyNull("source", source);
+    this.source = source;
+  }
+
+  /**
+   * Specifies the destination type of the specified enum mapping.
+   *
+   * @param destination The destination enumeration type to map to.
+   * @return Returns {@link EnumMapping} for further mapping configurations.
+   */
+  public <D extends Enum<D>> EnumMapping<S, D> to(Class<D> destination) {
+    denyNull("destination", destination);
+    return new EnumMapping<>(source, destination);
+  }
+
+}
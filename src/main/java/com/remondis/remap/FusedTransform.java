@@ -0,0 +1,174 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.ReflectionUtil.isBuildInType;
+import static com.remondis.remap.ReflectionUtil.newInstance;
+
+import java.beans.PropertyDescriptor;
+import java.util.Hashtable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Performs the mappings of two chained mappers from <code>S</code> to <code>D</code> and from <code>D</code> to
+ * <code>E</code> in a single pass without creating the intermediate object of type <code>D</code>. For every property
+ * of <code>E</code> the value of the source property in <code>S</code> is passed through the transformations of both
+ * mappings directly. If a property is reassigned in both mappings, nested objects are mapped by the fused nested
+ * mappers, so no intermediate objects are created on any level.
+ *
+ * <p>
+ * The intermediate object is only created if the second mapping reads a property of <code>D</code> the first mapping
+ * does not write and the default value of this property, as initialized by the constructor of <code>D</code>, is a
+ * mutable object.
+ * </p>
+ *
+ * @param <S> The source type
+ * @param <D> The intermediate type
+ * @param <E> The destination type
+ */
+class FusedTransform<S, D, E> implements ContextTransform<S, E, Object> {
+
+  private final Class<D> intermediate;
+  private final Class<E> destination;
+  private final List<Step> steps;
+
+  /**
+   * @param first The mapping from the source type to the intermediate type.
+   * @param second The mapping from the intermediate type to the destination type.
+   */
+  FusedTransform(Mapping<S, D> first, Mapping<D, E> second) {
+    super();
+    this.intermediate = first.getDestination();
+    this.destination = second.getDestination();
+    this.steps = new LinkedList<>();
+
+    Map<PropertyDescriptor, Transformation> producers = new Hashtable<>();
+    for (Transformation t : first.getMappings()) {
+      if (t.getSourceProperty() != null && t.getDestinationProperty() != null) {
+        producers.put(t.getDestinationProperty(), t);
+      }
+    }
+    D prototype = null;
+    for (Transformation consumer : second.getMappings()) {
+      if (consumer.getSourceProperty() == null || consumer.getDestinationProperty() == null) {
+        // Omitted properties are not transformed.
+        continue;
+      }
+      if (prototype == null) {
+        prototype = newInstance(intermediate);
+      }
+      Transformation producer = producers.get(consumer.getSourceProperty());
+      steps.add(new Step(producer, consumer, consumer.readOrFail(consumer.getSourceProperty(), prototype)));
+    }
+  }
+
+  @Override
+  public E transform(S source, Object context) {
+    E destinationObject = newInstance(destination);
+    Object[] intermediateObject = new Object[1];
+    for (Step step : steps) {
+      step.perform(source, context, intermediateObject, destinationObject);
+    }
+    return destinationObject;
+  }
+
+  /**
+   * Performs the transformations of both mappings for a single property of the destination type.
+   */
+  private class Step {
+
+    private final Transformation producer;
+    private final Transformation consumer;
+    private final Object defaultValue;
+    private final boolean mutableDefault;
+    private final boolean reassignedTwice;
+
+    /**
+     * The fused nested mappers by the mapper of the first mapping.
+     */
+    private final Map<Mapper<?, ?>, Mapper<?, ?>> fusedMappers = new ConcurrentHashMap<>();
+
+    Step(Transformation producer, Transformation consumer, Object defaultValue) {
+      this.producer = producer;
+      this.consumer = consumer;
+      this.defaultValue = defaultValue;
+      this.mutableDefault = !isImmutable(consumer.getSourceProperty()
+          .getPropertyType(), defaultValue);
+      this.reassignedTwice = producer instanceof ReassignTransformation && consumer instanceof ReassignTransformation
+          && ReassignTransformation.isCollection(producer.getSourceType()) == ReassignTransformation
+              .isCollection(consumer.getSourceType())
+          && !ReassignTransformation.isMap(producer.getSourceType()) && !producer.getSourceType()
+              .isArray();
+    }
+
+    void perform(Object source, Object context, Object[] intermediateObject, Object destinationObject) {
+      Object value = Transformation.SKIP;
+      if (producer != null) {
+        Object sourceValue = producer.readOrFail(producer.getSourceProperty(), source);
+        if (reassignedTwice && sourceValue != null) {
+          Object destinationValue = reassign(sourceValue, context);
+          consumer.writeOrFail(consumer.getDestinationProperty(), destinationObject, destinationValue);
+          return;
+        }
+        value = producer.transformOrDefault(sourceValue, context);
+      }
+      if (value == Transformation.SKIP) {
+        // The first mapping does not write the property, so the second mapping reads the default value.
+        value = mutableDefault ? readDefault(intermediateObject) : defaultValue;
+      }
+      Object destinationValue = consumer.transformOrDefault(value, context);
+      if (destinationValue != Transformation.SKIP) {
+        consumer.writeOrFail(consumer.getDestinationProperty(), destinationObject, destinationValue);
+      }
+    }
+
+    private Object reassign(Object sourceValue, Object context) {
+      if (ReassignTransformation.isCollection(producer.getSourceType())) {
+        return ReassignTransformation.convertCollection(sourceValue, context, this::reassignValue);
+      } else {
+        return reassignValue(sourceValue, context);
+      }
+    }
+
+    @SuppressWarnings({
+        "unchecked", "rawtypes"
+    })
+    private Object reassignValue(Object value, Object context) {
+      ReassignTransformation first = (ReassignTransformation) producer;
+      ReassignTransformation second = (ReassignTransformation) consumer;
+      if (value == null || first.getDispatcher() == null || second.getDispatcher() == null) {
+        return second.convertValue(first.convertValue(value, context), context);
+      }
+      Mapper<?, ?> firstMapper = first.getDispatcher()
+          .getMapper(value.getClass());
+      Mapper fused = fusedMappers.computeIfAbsent(firstMapper, mapper -> {
+        Mapper<?, ?> secondMapper = second.getDispatcher()
+            .getMapper(mapper.getMapping()
+                .getDestination());
+        return fuse(mapper, secondMapper);
+      });
+      return fused.map(value, context);
+    }
+
+    private Object readDefault(Object[] intermediateObject) {
+      if (intermediateObject[0] == null) {
+        intermediateObject[0] = newInstance(intermediate);
+      }
+      return consumer.readOrFail(consumer.getSourceProperty(), intermediateObject[0]);
+    }
+
+  }
+
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  private static Mapper<?, ?> fuse(Mapper first, Mapper second) {
+    return first.andThen(second);
+  }
+
+  private static boolean isImmutable(Class<?> type, Object value) {
+    return value == null || type.isPrimitive() || isBuildInType(value.getClass()) || value instanceof Enum;
+  }
+
+}
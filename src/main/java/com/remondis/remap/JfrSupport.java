@@ -0,0 +1,27 @@
+package com.remondis.remap;
+
+/**
+ * Detects whether the JDK Flight Recorder API is available in the running JVM. This class must not reference any type
+ * of the <code>jdk.jfr</code> package, so that ReMap can be used on JVMs without Flight Recorder support. All event
+ * related code is located in {@link MapperEvents}, which is only loaded if {@link #AVAILABLE} is <code>true</code>.
+ */
+final class JfrSupport {
+
+  /**
+   * <code>true</code> if the JDK Flight Recorder API is available, otherwise <code>false</code>.
+   */
+  static final boolean AVAILABLE = isAvailable();
+
+  private JfrSupport() {
+  }
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, JfrSupport.class.getClassLoader());
+      return true;
+    } catch (Throwable t) {
+      return false;
+    }
+  }
+
+}
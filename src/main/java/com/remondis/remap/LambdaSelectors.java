@@ -0,0 +1,68 @@
+package com.remondis.remap;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+
+/**
+ * Resolves selectors specified as method references like <code>Person::getName</code> by decoding their
+ * {@link SerializedLambda}. This does not require invoking the selector on a proxy object and therefore works without
+ * generating classes at runtime. Selectors implemented as lambda expressions cannot be resolved this way.
+ */
+final class LambdaSelectors {
+
+  private static final String WRITE_REPLACE = "writeReplace";
+
+  private LambdaSelectors() {
+  }
+
+  /**
+   * Returns the {@link SerializedLambda} of the specified selector.
+   *
+   * @param selector The selector.
+   * @return Returns the {@link SerializedLambda} or <code>null</code> if the selector is not a serializable lambda.
+   */
+  static SerializedLambda getSerializedLambda(Object selector) {
+    if (!(selector instanceof Serializable)) {
+      return null;
+    }
+    try {
+      Method writeReplace = selector.getClass()
+          .getDeclaredMethod(WRITE_REPLACE);
+      writeReplace.setAccessible(true);
+      Object replacement = writeReplace.invoke(selector);
+      if (replacement instanceof SerializedLambda) {
+        return (SerializedLambda) replacement;
+      } else {
+        return null;
+      }
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the get-method referenced by the specified {@link SerializedLambda}.
+   *
+   * @param sensorType The type the selector is applied on.
+   * @param lambda The serialized selector.
+   * @return Returns the referenced method or <code>null</code> if the lambda is not an unbound reference to a public
+   *         method without arguments of the specified type.
+   */
+  static Method getReferencedMethod(Class<?> sensorType, SerializedLambda lambda) {
+    int kind = lambda.getImplMethodKind();
+    // Lambda expressions are compiled to static or private methods, bound method references capture their receiver.
+    if ((kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface)
+        || lambda.getCapturedArgCount() != 0 || !lambda.getImplMethodSignature()
+            .startsWith("()")) {
+      return null;
+    }
+    try {
+      return sensorType.getMethod(lambda.getImplMethodName());
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+}
@@ -1,7 +1,9 @@
 package com.remondis.remap;
 
+import static com.remondis.remap.Lang.denyNull;
 import static com.remondis.remap.ReflectionUtil.getCollector;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -20,15 +22,44 @@ public class Mapper<S, D> {
 
   private Mapping<S, D> mapping;
 
+  /**
+   * The listener to notify about mappings or <code>null</code> if no listener was registered. In the latter case no
+   * time measurement is performed.
+   */
+  private final MappingListener listener;
+
+  /**
+   * Whether {@link MappingException}s created by this mapper should not capture a stack trace.
+   */
+  private final boolean stackTracesSuppressed;
+
+  /**
+   * The pool recycling destination objects or <code>null</code> if destination objects are not recycled.
+   */
+  private final DestinationPool<D> pool;
+
   Mapper(Mapping<S, D> mapping) {
     super();
     this.mapping = mapping;
+    this.listener = mapping.getListener();
+    this.stackTracesSuppressed = mapping.isStackTracesSuppressed();
+    this.pool = (mapping.getPoolCapacity() > 0) ? DestinationPool.create(mapping, mapping.getPoolCapacity()) : null;
   }
 
   Mapping<S, D> getMapping() {
     return mapping;
   }
 
+  /**
+   * Returns the report about the time spent to build this mapper. The report breaks down the time spent in bean
+   * introspection, selector sensing, the inference of implicit mappings and the validation.
+   *
+   * @return Returns the {@link MappingBuildReport} of this mapper.
+   */
+  public MappingBuildReport getBuildReport() {
+    return mapping.getBuildReport();
+  }
+
   /**
    * Performs the mapping from the source to destination type.
    *
@@ -36,7 +67,30 @@ public class Mapper<S, D> {
    * @return Returns a newly created destination object.
    */
   public <Source extends S> D map(Source source) {
-    return mapping.map(source);
+    return map(source, null);
+  }
+
+  /**
+   * Performs the mapping from the source to destination type using the specified mapping context. The context is
+   * passed to all {@link ContextTransform} functions of this mapper and of the mappers used to map nested objects,
+   * collections, maps and arrays, so context-dependent conversions do not have to look up thread-bound state.
+   *
+   * @param source The source object to map to a new destination object.
+   * @param context The mapping context, may be <code>null</code>.
+   * @return Returns a newly created destination object.
+   */
+  public <Source extends S> D map(Source source, Object context) {
+    if (JfrSupport.AVAILABLE) {
+      Object event = MapperEvents.beginMap(mapping);
+      if (event != null) {
+        try {
+          return mapObject(source, context);
+        } finally {
+          MapperEvents.commitMap(event, -1);
+        }
+      }
+    }
+    return mapObject(source, context);
   }
 
   /**
@@ -77,16 +131,374 @@ public class Mapper<S, D> {
    * @return Returns a newly set list of destination objects.
    */
   public List<D> map(Iterable<? extends S> iterable) {
-    Stream<? extends S> stream = StreamSupport.stream(iterable.spliterator(), false);
-    return stream.map(this::map)
-        .collect(Collectors.toList());
+    if (JfrSupport.AVAILABLE) {
+      Object event = MapperEvents.beginMap(mapping);
+      if (event != null) {
+        List<D> destination = null;
+        try {
+          destination = mapIterable(iterable);
+          return destination;
+        } finally {
+          MapperEvents.commitMap(event, (destination == null) ? 0 : destination.size());
+        }
+      }
+    }
+    return mapIterable(iterable);
   }
 
+  /**
+   * Performs the mapping like {@link #map(Object)}, but reuses a destination object released by
+   * {@link #release(Object)} on the current thread if the mapping was declared with {@link Mapping#pooled(int)}. A
+   * destination object is only created if no released object is available.
+   *
+   * <p>
+   * The caller owns the returned object until it is released. After releasing, neither the object nor the objects,
+   * collections, maps and arrays it holds must be used or modified, because they are reused by subsequent pooled
+   * mappings. If the mapping was not declared with {@link Mapping#pooled(int)} this method behaves like
+   * {@link #map(Object)}.
+   * </p>
+   *
+   * @param source The source object to map to a destination object.
+   * @return Returns the recycled or newly created destination object.
+   */
+  public D mapPooled(S source) {
+    return mapPooled(source, null);
+  }
+
+  /**
+   * Performs the mapping like {@link #mapPooled(Object)} using the specified mapping context.
+   *
+   * @param source The source object to map to a destination object.
+   * @param context The mapping context, may be <code>null</code>.
+   * @return Returns the recycled or newly created destination object.
+   */
+  public D mapPooled(S source, Object context) {
+    D destination = (pool == null || source == null) ? null : pool.acquire();
+    if (destination == null) {
+      return map(source, context);
+    }
+    return recycle(source, destination, context);
+  }
+
+  /**
+   * Maps a nested source value onto the destination object currently held by a recycled object. The destination
+   * object is reused if this mapper recycles destination objects and the object is exactly of the destination type,
+   * otherwise a new destination object is created.
+   *
+   * @param source The source object.
+   * @param destination The destination object held by the recycled object or <code>null</code>.
+   * @param context The mapping context, may be <code>null</code>.
+   * @return Returns the recycled or newly created destination object.
+   */
   @SuppressWarnings("unchecked")
+  D mapRecycled(S source, Object destination, Object context) {
+    if (pool == null || source == null || !pool.accepts(destination)) {
+      return map(source, context);
+    }
+    return recycle(source, (D) destination, context);
+  }
+
+  private D recycle(S source, D destination, Object context) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    beginSuppression();
+    try {
+      // A destination object is discarded if the mapping fails, because it may be partially mapped.
+      pool.recycle(source, destination, context);
+    } finally {
+      endSuppression();
+    }
+    if (listener != null) {
+      listener.mapped(this, 1, System.nanoTime() - start);
+    }
+    return destination;
+  }
+
+  /**
+   * Returns a destination object created by {@link #mapPooled(Object)} or {@link #map(Object)} to this mapper for
+   * reuse by subsequent pooled mappings on the current thread. If the mapping was not declared with
+   * {@link Mapping#pooled(int)} or the pool of the current thread is full, the object is discarded.
+   *
+   * @param destination The destination object that is no longer used.
+   */
+  public void release(D destination) {
+    denyNull("destination", destination);
+    if (pool != null) {
+      pool.release(destination);
+    }
+  }
+
+  /**
+   * Maps the source object onto the specified existing destination object, but writes only the destination properties
+   * whose current values do not equal the mapped values. Use this to update objects whose set-methods have side
+   * effects, for example entities that are marked dirty by every set-method invocation.
+   *
+   * <p>
+   * The values are compared using the equality specified for the property type with
+   * {@link Mapping#equality(Class, java.util.function.BiPredicate)}, otherwise using
+   * {@link java.util.Objects#deepEquals(Object, Object)}. Nested objects, collections, maps and arrays are mapped to
+   * new values and written as a whole if they do not equal the current value. Properties of mapped property paths are
+   * reported with their path, for example <code>address.city</code>.
+   * </p>
+   *
+   * @param source The source object to map from.
+   * @param destination The existing destination object to update.
+   * @return Returns the names of the destination properties that were written.
+   * @throws MappingException Thrown if this mapper uses a compiled mapping.
+   */
+  public Set<String> mapChanged(S source, D destination) {
+    return mapChanged(source, destination, null);
+  }
+
+  /**
+   * Maps the source object onto the specified existing destination object like {@link #mapChanged(Object, Object)}
+   * using the specified mapping context.
+   *
+   * @param source The source object to map from.
+   * @param destination The existing destination object to update.
+   * @param context The mapping context, may be <code>null</code>.
+   * @return Returns the names of the destination properties that were written.
+   * @throws MappingException Thrown if this mapper uses a compiled mapping.
+   */
+  public Set<String> mapChanged(S source, D destination, Object context) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    Set<String> changed;
+    beginSuppression();
+    try {
+      changed = mapping.mapChanged(source, destination, context);
+    } finally {
+      endSuppression();
+    }
+    if (listener != null) {
+      listener.mapped(this, 1, System.nanoTime() - start);
+    }
+    return changed;
+  }
+
+  /**
+   * Re-maps the changed properties of the source object onto the destination object created by a previous mapping of
+   * the same source object. Only the transformations reading the changed source properties are performed, all other
+   * destination properties keep their values. Use this to refresh large objects that are re-mapped repeatedly while
+   * only a few properties change.
+   *
+   * <p>
+   * A changed property is specified by its name, for example <code>address</code>, which performs the
+   * transformations reading this property as a whole. A property of a nested object may be specified as path, for
+   * example <code>address.city</code>. In this case the change is applied to the nested destination object using
+   * the mapper registered for the nested type. If the nested destination object is missing, the nested value is
+   * mapped as a whole.
+   * </p>
+   *
+   * @param source The source object to map from.
+   * @param destination The destination object of a previous mapping of the source object.
+   * @param changedProperties The names or paths of the changed source properties.
+   * @return Returns the specified destination object.
+   * @throws MappingException Thrown if a changed property is not a property of the source type or if this mapper
+   *         uses a compiled mapping.
+   */
+  public D mapIncremental(S source, D destination, Set<String> changedProperties) {
+    return mapIncremental(source, destination, changedProperties, null);
+  }
+
+  /**
+   * Re-maps the changed properties of the source object like {@link #mapIncremental(Object, Object, Set)} using the
+   * specified mapping context.
+   *
+   * @param source The source object to map from.
+   * @param destination The destination object of a previous mapping of the source object.
+   * @param changedProperties The names or paths of the changed source properties.
+   * @param context The mapping context, may be <code>null</code>.
+   * @return Returns the specified destination object.
+   * @throws MappingException Thrown if a changed property is not a property of the source type or if this mapper
+   *         uses a compiled mapping.
+   */
+  public D mapIncremental(S source, D destination, Set<String> changedProperties, Object context) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    beginSuppression();
+    try {
+      mapping.mapIncremental(source, destination, changedProperties, context);
+    } finally {
+      endSuppression();
+    }
+    if (listener != null) {
+      listener.mapped(this, 1, System.nanoTime() - start);
+    }
+    return destination;
+  }
+
+  /**
+   * Maps the elements provided by the specified {@link Iterable} in an error-collecting batch. In contrast to
+   * {@link #map(Iterable)} a source object that cannot be mapped does not abort the batch: The exception is collected
+   * as {@link MappingFailure} and the mapping continues with the next source object.
+   *
+   * <p>
+   * {@link MappingException}s created while the batch is performed do not capture a stack trace and format their
+   * message only if it is requested, so inputs containing many invalid source objects are mapped at nearly the same
+   * cost as valid ones.
+   * </p>
+   *
+   * @param iterable The source objects to map.
+   * @return Returns the {@link MappingResult} holding the destination objects and the failures.
+   */
+  public MappingResult<S, D> mapAll(Iterable<? extends S> iterable) {
+    denyNull("iterable", iterable);
+    if (JfrSupport.AVAILABLE) {
+      Object event = MapperEvents.beginMap(mapping);
+      if (event != null) {
+        MappingResult<S, D> result = null;
+        try {
+          result = mapBatch(iterable);
+          return result;
+        } finally {
+          MapperEvents.commitMap(event, (result == null) ? 0
+              : result.getResults()
+                  .size());
+        }
+      }
+    }
+    return mapBatch(iterable);
+  }
+
+  /**
+   * Returns a mapper performing the mapping of this mapper followed by the mapping of the specified mapper. The
+   * resulting mapper does not create the intermediate objects of type <code>D</code>: The values of the properties are
+   * passed through the transformations of both mappers directly, properties reassigned by both mappers are copied
+   * directly from the source to the destination object. This way chained conversions like entity to model to API
+   * object allocate only the resulting objects.
+   *
+   * <p>
+   * If one of the mappers uses a compiled mapping, maps property paths, declares conditional operations or notifies a
+   * {@link MappingListener}, the mappings cannot be fused. In this case the resulting mapper performs both mappings one
+   * after another.
+   * </p>
+   *
+   * @param <E> The destination type of the resulting mapper.
+   * @param next The mapper mapping the destination objects of this mapper.
+   * @return Returns the mapper from <code>S</code> to <code>E</code>.
+   */
+  public <E> Mapper<S, E> andThen(Mapper<D, E> next) {
+    denyNull("next", next);
+    Mapping<D, E> nextMapping = next.getMapping();
+    ContextTransform<S, E, Object> transform;
+    if (!mapping.isFusable() || !nextMapping.isFusable() || listener != null || next.listener != null) {
+      transform = (source, context) -> next.map(map(source, context), context);
+    } else {
+      transform = new FusedTransform<>(mapping, nextMapping);
+    }
+    return new Mapping<>(mapping.getSource(), nextMapping.getDestination()).compiled(transform, transform.getClass());
+  }
+
+  private D mapObject(S source, Object context) {
+    beginSuppression();
+    try {
+      if (listener == null) {
+        return mapping.map(source, context);
+      } else {
+        long start = System.nanoTime();
+        D destination = mapping.map(source, context, this, listener);
+        listener.mapped(this, 1, System.nanoTime() - start);
+        return destination;
+      }
+    } finally {
+      endSuppression();
+    }
+  }
+
+  private List<D> mapIterable(Iterable<? extends S> iterable) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    Stream<? extends S> stream = StreamSupport.stream(iterable.spliterator(), false);
+    List<D> destination;
+    beginSuppression();
+    try {
+      destination = stream.map(this::mapElement)
+          .collect(Collectors.toList());
+    } finally {
+      endSuppression();
+    }
+    if (listener != null) {
+      listener.mapped(this, destination.size(), System.nanoTime() - start);
+    }
+    return destination;
+  }
+
+  private MappingResult<S, D> mapBatch(Iterable<? extends S> iterable) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    List<D> results = (iterable instanceof Collection) ? new ArrayList<>(((Collection<?>) iterable).size())
+        : new ArrayList<>();
+    List<MappingFailure<S>> failures = new ArrayList<>();
+    int index = 0;
+    MappingException.suppressStackTraces();
+    try {
+      for (S source : iterable) {
+        try {
+          results.add(mapElement(source));
+        } catch (RuntimeException e) {
+          failures.add(new MappingFailure<>(index, source, e));
+        }
+        index++;
+      }
+    } finally {
+      MappingException.restoreStackTraces();
+    }
+    if (listener != null) {
+      listener.mapped(this, index, System.nanoTime() - start);
+    }
+    return new MappingResult<>(results, failures);
+  }
+
   private Collection<D> _mapCollection(Collection<? extends S> source) {
-    return (Collection<D>) source.stream()
-        .map(this::map)
-        .collect(getCollector(source));
+    if (JfrSupport.AVAILABLE) {
+      Object event = MapperEvents.beginMap(mapping);
+      if (event != null) {
+        try {
+          return mapCollection(source);
+        } finally {
+          MapperEvents.commitMap(event, source.size());
+        }
+      }
+    }
+    return mapCollection(source);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection<D> mapCollection(Collection<? extends S> source) {
+    long start = (listener == null) ? 0 : System.nanoTime();
+    Collection<D> destination;
+    beginSuppression();
+    try {
+      destination = (Collection<D>) source.stream()
+          .map(this::mapElement)
+          .collect(getCollector(source));
+    } finally {
+      endSuppression();
+    }
+    if (listener != null) {
+      listener.mapped(this, source.size(), System.nanoTime() - start);
+    }
+    return destination;
+  }
+
+  /**
+   * Maps a single element of a collection. In contrast to {@link #map(Object)} the listener is not notified about the
+   * element, because the collection mapping is reported as a whole.
+   */
+  private D mapElement(S source) {
+    if (listener == null) {
+      return mapping.map(source, null);
+    } else {
+      return mapping.map(source, null, this, listener);
+    }
+  }
+
+  private void beginSuppression() {
+    if (stackTracesSuppressed) {
+      MappingException.suppressStackTraces();
+    }
+  }
+
+  private void endSuppression() {
+    if (stackTracesSuppressed) {
+      MappingException.restoreStackTraces();
+    }
   }
 
   @Override
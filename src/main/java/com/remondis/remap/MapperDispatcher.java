@@ -0,0 +1,107 @@
+package com.remondis.remap;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Selects the mapper for a nested value by the runtime class of the value. The properties of a mapping are declared
+ * with a type like <code>Animal</code>, while the values may be instances of subtypes like <code>Dog</code> or
+ * <code>Cat</code>. If mappers for the subtypes are registered using {@link Mapping#useMapper(Mapper)}, the mapper
+ * registered for the most specific class in the superclass hierarchy of the value is used. A mapper registered for
+ * exactly the declared types is used for all values no subtype mapper was found for.
+ *
+ * <p>
+ * The mapper selected for a concrete class is cached in a {@link ClassValue}, so dispatching a value only costs a
+ * single lookup once the class was seen.
+ * </p>
+ */
+class MapperDispatcher {
+
+  private final Class<?> sourceType;
+  private final Class<?> destinationType;
+  private final Map<Projection<?, ?>, Mapper<?, ?>> mappers;
+
+  private final ClassValue<Mapper<?, ?>> mapperByClass = new ClassValue<Mapper<?, ?>>() {
+    @Override
+    protected Mapper<?, ?> computeValue(Class<?> type) {
+      return selectMapper(type);
+    }
+  };
+
+  /**
+   * @param sourceType The declared source type.
+   * @param destinationType The declared destination type.
+   * @param mappers The mappers registered on the mapping.
+   */
+  MapperDispatcher(Class<?> sourceType, Class<?> destinationType, Map<Projection<?, ?>, Mapper<?, ?>> mappers) {
+    super();
+    this.sourceType = sourceType;
+    this.destinationType = destinationType;
+    this.mappers = mappers;
+  }
+
+  /**
+   * Returns the mapper for values of the specified runtime class.
+   *
+   * @param type The runtime class of the value to map.
+   * @return Returns the mapper.
+   * @throws MappingException Thrown if no mapper is registered for the class or one of its superclasses.
+   */
+  Mapper<?, ?> getMapper(Class<?> type) {
+    return mapperByClass.get(type);
+  }
+
+  /**
+   * Checks if at least one mapper is registered that can map values of the declared types.
+   *
+   * @throws MappingException Thrown if no suitable mapper was registered.
+   */
+  void validate() {
+    for (Projection<?, ?> projection : mappers.keySet()) {
+      if (sourceType.isAssignableFrom(projection.getSource())
+          && destinationType.isAssignableFrom(projection.getDestination())) {
+        return;
+      }
+    }
+    throw MappingException.noMapperFound(sourceType, destinationType);
+  }
+
+  private Mapper<?, ?> selectMapper(Class<?> type) {
+    Class<?> current = type;
+    while (current != null && sourceType.isAssignableFrom(current)) {
+      Mapper<?, ?> mapper = findMapper(current);
+      if (mapper != null) {
+        return mapper;
+      }
+      current = current.getSuperclass();
+    }
+    // Interfaces are not part of the superclass hierarchy, so check the declared type explicitly.
+    Mapper<?, ?> mapper = findMapper(sourceType);
+    if (mapper == null) {
+      throw MappingException.noMapperFound(type, destinationType);
+    }
+    return mapper;
+  }
+
+  private Mapper<?, ?> findMapper(Class<?> source) {
+    Mapper<?, ?> exact = mappers.get(new Projection<>(source, destinationType));
+    if (exact != null) {
+      return exact;
+    }
+    List<Mapper<?, ?>> candidates = new LinkedList<>();
+    for (Entry<Projection<?, ?>, Mapper<?, ?>> entry : mappers.entrySet()) {
+      Projection<?, ?> projection = entry.getKey();
+      if (projection.getSource()
+          .equals(source) && destinationType.isAssignableFrom(projection.getDestination())) {
+        candidates.add(entry.getValue());
+      }
+    }
+    if (candidates.size() > 1) {
+      throw MappingException.ambiguousMappers(source, destinationType);
+    }
+    return candidates.isEmpty() ? null : candidates.get(0);
+  }
+
+}
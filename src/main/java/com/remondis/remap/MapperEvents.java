@@ -0,0 +1,168 @@
+package com.remondis.remap;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Defines the JDK Flight Recorder events emitted by ReMap. The events are disabled by default and can be enabled and
+ * thresholded using standard JFR settings, for example:
+ *
+ * <pre>
+ * &lt;event name="com.remondis.remap.Map"&gt;
+ *   &lt;setting name="enabled"&gt;true&lt;/setting&gt;
+ *   &lt;setting name="threshold"&gt;1 ms&lt;/setting&gt;
+ * &lt;/event&gt;
+ * </pre>
+ *
+ * <b>This class must only be used if {@link JfrSupport#AVAILABLE} is <code>true</code>.</b> Events are passed around
+ * as {@link Object} so that callers do not have to reference the event types.
+ */
+final class MapperEvents {
+
+  static final String CATEGORY = "ReMap";
+
+  /**
+   * Holds the nesting depth of the map events currently in progress on this thread. The depth is only tracked while
+   * the map event is enabled.
+   */
+  private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+  private MapperEvents() {
+  }
+
+  /**
+   * Begins a map event if the event is enabled.
+   *
+   * @param mapping The mapping that is performed.
+   * @return Returns the event to pass to {@link #commitMap(Object, int)} or <code>null</code> if the event is
+   *         disabled.
+   */
+  static Object beginMap(Mapping<?, ?> mapping) {
+    MapEvent event = new MapEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    int[] depth = DEPTH.get();
+    event.depth = depth[0]++;
+    event.sourceType = mapping.getSource();
+    event.destinationType = mapping.getDestination();
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits a map event started with {@link #beginMap(Mapping)}.
+   *
+   * @param event The event returned by {@link #beginMap(Mapping)}.
+   * @param collectionSize The size of the mapped collection or <code>-1</code> if a single object was mapped.
+   */
+  static void commitMap(Object event, int collectionSize) {
+    MapEvent mapEvent = (MapEvent) event;
+    mapEvent.end();
+    DEPTH.get()[0]--;
+    if (mapEvent.shouldCommit()) {
+      mapEvent.collectionSize = collectionSize;
+      mapEvent.commit();
+    }
+  }
+
+  /**
+   * Begins a mapper build event if the event is enabled.
+   *
+   * @return Returns the event to pass to {@link #commitBuild(Object, Mapping, MappingBuildReport)} or
+   *         <code>null</code> if the event is disabled.
+   */
+  static Object beginBuild() {
+    MapperBuildEvent event = new MapperBuildEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits a mapper build event started with {@link #beginBuild()}.
+   *
+   * @param event The event returned by {@link #beginBuild()}.
+   * @param mapping The mapping the mapper was built for.
+   * @param report The build report of the mapping.
+   */
+  static void commitBuild(Object event, Mapping<?, ?> mapping, MappingBuildReport report) {
+    MapperBuildEvent buildEvent = (MapperBuildEvent) event;
+    buildEvent.end();
+    if (buildEvent.shouldCommit()) {
+      buildEvent.sourceType = mapping.getSource();
+      buildEvent.destinationType = mapping.getDestination();
+      buildEvent.transformations = report.getTransformations();
+      buildEvent.introspectionTime = report.getIntrospectionNanos();
+      buildEvent.selectorSensingTime = report.getSelectorSensingNanos();
+      buildEvent.strictMappingTime = report.getStrictMappingNanos();
+      buildEvent.validationTime = report.getValidationNanos();
+      buildEvent.commit();
+    }
+  }
+
+  @Name("com.remondis.remap.Map")
+  @Label("Map")
+  @Category(CATEGORY)
+  @Description("An invocation of a map method of a mapper.")
+  @StackTrace(false)
+  static class MapEvent extends Event {
+
+    @Label("Source Type")
+    Class<?> sourceType;
+
+    @Label("Destination Type")
+    Class<?> destinationType;
+
+    @Label("Depth")
+    @Description("The nesting depth of this mapping. Top-level invocations have a depth of 0.")
+    int depth;
+
+    @Label("Collection Size")
+    @Description("The size of the mapped collection or -1 if a single object was mapped.")
+    int collectionSize;
+
+  }
+
+  @Name("com.remondis.remap.MapperBuild")
+  @Label("Mapper Build")
+  @Category(CATEGORY)
+  @Description("The creation of a mapper using Mapping.mapper().")
+  @StackTrace(false)
+  static class MapperBuildEvent extends Event {
+
+    @Label("Source Type")
+    Class<?> sourceType;
+
+    @Label("Destination Type")
+    Class<?> destinationType;
+
+    @Label("Transformations")
+    int transformations;
+
+    @Label("Introspection Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long introspectionTime;
+
+    @Label("Selector Sensing Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long selectorSensingTime;
+
+    @Label("Strict Mapping Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long strictMappingTime;
+
+    @Label("Validation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long validationTime;
+
+  }
+
+}
@@ -0,0 +1,138 @@
+package com.remondis.remap;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the runtime metrics of a single {@link Mapper} collected by {@link MappingMetrics}. Latencies are recorded in
+ * a histogram with power-of-two buckets, so percentiles are approximations that are accurate within a factor of two.
+ */
+public class MapperStatistics {
+
+  private static final int BUCKETS = 64;
+
+  private final Mapper<?, ?> mapper;
+
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder objects = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+
+  /**
+   * Bucket <code>i</code> counts the invocations with a duration in the range <code>[2^(i-1), 2^i)</code>
+   * nanoseconds.
+   */
+  private final AtomicLongArray latencyHistogram = new AtomicLongArray(BUCKETS);
+
+  private final Map<String, TransformationStatistics> transformations = new ConcurrentHashMap<>();
+
+  MapperStatistics(Mapper<?, ?> mapper) {
+    this.mapper = mapper;
+  }
+
+  void recordInvocation(int objectCount, long durationNanos) {
+    invocations.increment();
+    objects.add(objectCount);
+    totalNanos.add(durationNanos);
+    latencyHistogram.incrementAndGet(bucketOf(durationNanos));
+  }
+
+  void recordTransformation(PropertyDescriptor sourceProperty, PropertyDescriptor destinationProperty,
+      String destinationPath, long durationNanos) {
+    // Keyed by the destination path, because paths ending in the same property share the destination property.
+    TransformationStatistics statistics = transformations.get(destinationPath);
+    if (statistics == null) {
+      TransformationStatistics newStatistics = new TransformationStatistics(sourceProperty, destinationProperty,
+          destinationPath);
+      statistics = transformations.computeIfAbsent(destinationPath, path -> newStatistics);
+    }
+    statistics.record(durationNanos);
+  }
+
+  private static int bucketOf(long durationNanos) {
+    return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(Math.max(0L, durationNanos)));
+  }
+
+  /**
+   * @return Returns the mapper these statistics were collected for.
+   */
+  public Mapper<?, ?> getMapper() {
+    return mapper;
+  }
+
+  /**
+   * @return Returns the number of invocations of the <code>map</code> methods of the mapper.
+   */
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  /**
+   * @return Returns the number of objects mapped. Mapping a collection counts every element.
+   */
+  public long getObjectsMapped() {
+    return objects.sum();
+  }
+
+  /**
+   * @return Returns the total time spent in the <code>map</code> methods in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * @return Returns the average duration of an invocation in nanoseconds or <code>0</code> if the mapper was not
+   *         invoked yet.
+   */
+  public long getAverageNanos() {
+    long count = getInvocations();
+    return (count == 0) ? 0 : getTotalNanos() / count;
+  }
+
+  /**
+   * Returns an approximation of the specified latency percentile. The returned value is the upper bound of the
+   * histogram bucket the percentile falls into.
+   *
+   * @param percentile The percentile in the range <code>(0, 100]</code>, for example <code>99.9</code>.
+   * @return Returns the approximated latency in nanoseconds or <code>0</code> if the mapper was not invoked yet.
+   */
+  public long getPercentileNanos(double percentile) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException("The percentile must be in the range (0, 100].");
+    }
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = latencyHistogram.get(i);
+      total += counts[i];
+    }
+    long threshold = (long) Math.ceil(total * percentile / 100d);
+    long cumulated = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulated += counts[i];
+      if (cumulated >= threshold && cumulated > 0) {
+        return (i == BUCKETS - 1) ? Long.MAX_VALUE : (1L << i) - 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * @return Returns the statistics of the transformation steps performed by the mapper.
+   */
+  public Collection<TransformationStatistics> getTransformationStatistics() {
+    return Collections.unmodifiableCollection(transformations.values());
+  }
+
+  @Override
+  public String toString() {
+    return "MapperStatistics [invocations=" + getInvocations() + ", objectsMapped=" + getObjectsMapped()
+        + ", totalNanos=" + getTotalNanos() + ", transformations=" + transformations.values() + "]";
+  }
+
+}
@@ -1,22 +1,35 @@
 package com.remondis.remap;
 
 import static com.remondis.remap.Lang.denyNull;
+import static com.remondis.remap.LambdaSelectors.getReferencedMethod;
+import static com.remondis.remap.LambdaSelectors.getSerializedLambda;
 import static com.remondis.remap.MappingException.alreadyMappedProperty;
 import static com.remondis.remap.MappingException.multipleInteractions;
 import static com.remondis.remap.MappingException.notAProperty;
 import static com.remondis.remap.MappingException.zeroInteractions;
 import static com.remondis.remap.Properties.createUnmappedMessage;
+import static com.remondis.remap.ReflectionUtil.isBuildInType;
+import static com.remondis.remap.ReflectionUtil.isGetter;
 import static com.remondis.remap.ReflectionUtil.newInstance;
+import static com.remondis.remap.ReflectionUtil.toPropertyName;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiPredicate;
 
 /**
  * The {@link Mapping} object is used to specify the mapping of the fields from a source object/type
@@ -61,6 +74,11 @@ public final class Mapping<S, D> {
    */
   private Map<Projection<?, ?>, Mapper<?, ?>> mappers;
 
+  /**
+   * Holds the dispatchers selecting the registered mappers by the runtime type of nested values.
+   */
+  private Map<Projection<?, ?>, MapperDispatcher> dispatchers;
+
   /**
    * Holds the list of mapping operations.
    */
@@ -76,13 +94,92 @@ public final class Mapping<S, D> {
    */
   private Set<PropertyDescriptor> mappedDestinationProperties;
 
+  /**
+   * This set keeps track of the source properties that were omitted.
+   */
+  private Set<PropertyDescriptor> omittedSourceProperties;
+
+  /**
+   * This set keeps track of the destination properties that are written by paths to nested properties.
+   */
+  private Set<PropertyDescriptor> pathDestinationProperties;
+
+  /**
+   * The destination paths to nested properties that were mapped.
+   */
+  private List<List<PropertyDescriptor>> mappedDestinationPaths;
+
+  /**
+   * The classes declaring the selectors of this mapping that were specified as serializable lambdas.
+   */
+  private Set<String> selectorCapturingTypes;
+
+  /**
+   * The replace operations of the mapping this mapping was derived from using {@link #inverse()}. This mapping must
+   * declare inverse transformations for them.
+   */
+  private Set<Transformation> requiredInverseTransformations;
+
+  /**
+   * The optional listener notified about the runtime behaviour of the resulting mapper.
+   */
+  private MappingListener listener;
+
+  /**
+   * Whether the {@link MappingException}s created by the resulting mapper should not capture a stack trace.
+   */
+  private boolean stackTracesSuppressed;
+
+  /**
+   * The maximum number of destination objects the resulting mapper keeps per thread for recycling or <code>0</code> if
+   * destination objects are not recycled.
+   */
+  private int poolCapacity;
+
+  /**
+   * The equalities used by {@link Mapper#mapChanged(Object, Object)} to compare the values of destination properties
+   * of the respective types.
+   */
+  private Map<Class<?>, BiPredicate<Object, Object>> equalities;
+
+  /**
+   * The transformations indexed by the names of the source properties they read. Used by
+   * {@link Mapper#mapIncremental(Object, Object, Set)} to select the transformations affected by changed source
+   * properties. Initialized on validation.
+   */
+  private Map<String, List<Transformation>> dependencies;
+
+  /**
+   * Collects the time spent in the different phases of building the mapper.
+   */
+  private MappingBuildReport buildReport;
+
+  /**
+   * The compiled mapping function performing the mapping instead of the transformations or <code>null</code> if this
+   * mapping is configured at runtime.
+   */
+  private ContextTransform<S, D, Object> compiled;
+
+  /**
+   * The type of the compiled mapping function or <code>null</code> if the mapping is configured at runtime.
+   */
+  private Class<?> compiledType;
+
   Mapping(Class<S> source, Class<D> destination) {
     this.source = source;
     this.destination = destination;
     this.mappings = new HashSet<>();
     this.mappedSourceProperties = new HashSet<>();
     this.mappedDestinationProperties = new HashSet<>();
+    this.omittedSourceProperties = new HashSet<>();
+    this.pathDestinationProperties = new HashSet<>();
+    this.mappedDestinationPaths = new LinkedList<>();
+    this.selectorCapturingTypes = new HashSet<>();
+    this.requiredInverseTransformations = new HashSet<>();
     this.mappers = new Hashtable<>();
+    this.dispatchers = new Hashtable<>();
+    this.equalities = new LinkedHashMap<>();
+    this.buildReport = new MappingBuildReport();
   }
 
   /**
@@ -108,8 +205,7 @@ public final class Mapping<S, D> {
   public Mapping<S, D> omitInDestination(FieldSelector<D> destinationSelector) {
     denyNull("destinationSelector", destinationSelector);
 
-    PropertyDescriptor propertyDescriptor = getPropertyFromFieldSelector(OMIT_FIELD_DEST, destination,
-        destinationSelector);
+    PropertyDescriptor propertyDescriptor = senseProperty(OMIT_FIELD_DEST, destination, destinationSelector);
     OmitTransformation omitDestination = OmitTransformation.omitDestination(this, propertyDescriptor);
     omitMapping(mappedDestinationProperties, propertyDescriptor, omitDestination);
     return this;
@@ -136,10 +232,10 @@ public final class Mapping<S, D> {
   public Mapping<S, D> omitInSource(FieldSelector<S> sourceSelector) {
     denyNull("sourceSelector", sourceSelector);
     // Omit in destination
-    PropertyDescriptor propertyDescriptor = getPropertyFromFieldSelector(OMIT_FIELD_SOURCE, this.source,
-        sourceSelector);
+    PropertyDescriptor propertyDescriptor = senseProperty(OMIT_FIELD_SOURCE, this.source, sourceSelector);
     OmitTransformation omitSource = OmitTransformation.omitSource(this, propertyDescriptor);
     omitMapping(mappedSourceProperties, propertyDescriptor, omitSource);
+    omittedSourceProperties.add(propertyDescriptor);
     return this;
   }
 
@@ -154,12 +250,28 @@ public final class Mapping<S, D> {
   public <RS> ReassignBuilder<S, D, RS> reassign(TypedSelector<RS, S> sourceSelector) {
     denyNull("sourceSelector", sourceSelector);
 
-    TypedPropertyDescriptor<RS> typedSourceProperty = getTypedPropertyFromFieldSelector(ReassignBuilder.ASSIGN,
-        this.source, sourceSelector);
-    ReassignBuilder<S, D, RS> reassignBuilder = new ReassignBuilder<>(typedSourceProperty, destination, this);
+    TypedPropertyDescriptor<RS> typedSourceProperty = senseTypedProperty(ReassignBuilder.ASSIGN, this.source,
+        sourceSelector);
+    ReassignBuilder<S, D, RS> reassignBuilder = new ReassignBuilder<>(
+        Collections.singletonList(typedSourceProperty.property), destination, this);
     return reassignBuilder;
   }
 
+  /**
+   * Reassigns a property of a nested bean in the source to the specified property of the destination object. This
+   * flattens the nested property into the destination. The get-methods of the path are invoked one after another, if
+   * one of them returns <code>null</code>, the destination property is not touched. Only the first property of the
+   * path is marked as mapped in the source.
+   *
+   * @param sourcePath
+   *        The {@link PropertyPath} selecting the nested source property.
+   * @return Returns a {@link ReassignBuilder} to specify the destination field.
+   */
+  public <RS> ReassignBuilder<S, D, RS> reassignPath(PropertyPath<S, RS> sourcePath) {
+    denyNull("sourcePath", sourcePath);
+    return new ReassignBuilder<>(sensePath(ReassignBuilder.ASSIGN, this.source, sourcePath), destination, this);
+  }
+
   /**
    * Maps a property from the source to the specified property of the destination object with
    * transforming the source value using the specified transform lambda. <b>Note: The mapping
@@ -179,15 +291,74 @@ public final class Mapping<S, D> {
     denyNull("sourceSelector", sourceSelector);
     denyNull("destinationSelector", destinationSelector);
 
-    TypedPropertyDescriptor<RS> sourceProperty = getTypedPropertyFromFieldSelector(ReplaceBuilder.TRANSFORM,
-        this.source, sourceSelector);
-    TypedPropertyDescriptor<RD> destProperty = getTypedPropertyFromFieldSelector(ReplaceBuilder.TRANSFORM,
-        this.destination, destinationSelector);
+    TypedPropertyDescriptor<RS> sourceProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source,
+        sourceSelector);
+    TypedPropertyDescriptor<RD> destProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM, this.destination,
+        destinationSelector);
 
     ReplaceBuilder<S, D, RD, RS> builder = new ReplaceBuilder<>(sourceProperty, destProperty, this);
     return builder;
   }
 
+  /**
+   * Maps two properties from the source to the specified property of the destination object with transforming the
+   * source values using the specified transform lambda. Both source values are read once and passed to the function.
+   * Both source properties are marked as mapped. <b>Note: Using this method requires the client to test the
+   * transformation function!</b>
+   *
+   * @param firstSourceSelector
+   *        The {@link TypedSelector} selecting the first source property.
+   * @param secondSourceSelector
+   *        The {@link TypedSelector} selecting the second source property.
+   * @param destinationSelector
+   *        The {@link TypedSelector} selecting the destination property.
+   * @return Returns {@link ReplaceBiBuilder} to specify the transform function and null-strategy.
+   */
+  public <RD, RS1, RS2> ReplaceBiBuilder<S, D, RD, RS1, RS2> replace(TypedSelector<RS1, S> firstSourceSelector,
+      TypedSelector<RS2, S> secondSourceSelector, TypedSelector<RD, D> destinationSelector) {
+    denyNull("firstSourceSelector", firstSourceSelector);
+    denyNull("secondSourceSelector", secondSourceSelector);
+    denyNull("destinationSelector", destinationSelector);
+    List<PropertyDescriptor> sourceProperties = Arrays.asList(
+        senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source, firstSourceSelector).property,
+        senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source, secondSourceSelector).property);
+    PropertyDescriptor destProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM, this.destination,
+        destinationSelector).property;
+    return new ReplaceBiBuilder<>(sourceProperties, destProperty, this);
+  }
+
+  /**
+   * Maps three properties from the source to the specified property of the destination object with transforming the
+   * source values using the specified transform lambda. All source values are read once and passed to the function.
+   * All source properties are marked as mapped. <b>Note: Using this method requires the client to test the
+   * transformation function!</b>
+   *
+   * @param firstSourceSelector
+   *        The {@link TypedSelector} selecting the first source property.
+   * @param secondSourceSelector
+   *        The {@link TypedSelector} selecting the second source property.
+   * @param thirdSourceSelector
+   *        The {@link TypedSelector} selecting the third source property.
+   * @param destinationSelector
+   *        The {@link TypedSelector} selecting the destination property.
+   * @return Returns {@link ReplaceTriBuilder} to specify the transform function and null-strategy.
+   */
+  public <RD, RS1, RS2, RS3> ReplaceTriBuilder<S, D, RD, RS1, RS2, RS3> replace(
+      TypedSelector<RS1, S> firstSourceSelector, TypedSelector<RS2, S> secondSourceSelector,
+      TypedSelector<RS3, S> thirdSourceSelector, TypedSelector<RD, D> destinationSelector) {
+    denyNull("firstSourceSelector", firstSourceSelector);
+    denyNull("secondSourceSelector", secondSourceSelector);
+    denyNull("thirdSourceSelector", thirdSourceSelector);
+    denyNull("destinationSelector", destinationSelector);
+    List<PropertyDescriptor> sourceProperties = Arrays.asList(
+        senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source, firstSourceSelector).property,
+        senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source, secondSourceSelector).property,
+        senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source, thirdSourceSelector).property);
+    PropertyDescriptor destProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM, this.destination,
+        destinationSelector).property;
+    return new ReplaceTriBuilder<>(sourceProperties, destProperty, this);
+  }
+
   /**
    * Maps a property holding a collection from the source to the specified property holding a collection of the
    * destination object. The specified transform function will be applied on every item in the source value to convert
@@ -206,9 +377,9 @@ public final class Mapping<S, D> {
       TypedSelector<Collection<RS>, S> sourceSelector, TypedSelector<Collection<RD>, D> destinationSelector) {
     denyNull("sourceSelector", sourceSelector);
     denyNull("destinationSelector", destinationSelector);
-    TypedPropertyDescriptor<Collection<RS>> sourceProperty = getTypedPropertyFromFieldSelector(ReplaceBuilder.TRANSFORM,
-        this.source, sourceSelector);
-    TypedPropertyDescriptor<Collection<RD>> destProperty = getTypedPropertyFromFieldSelector(ReplaceBuilder.TRANSFORM,
+    TypedPropertyDescriptor<Collection<RS>> sourceProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM, this.source,
+        sourceSelector);
+    TypedPropertyDescriptor<Collection<RD>> destProperty = senseTypedProperty(ReplaceBuilder.TRANSFORM,
         this.destination, destinationSelector);
 
     ReplaceCollectionBuilder<S, D, RD, RS> builder = new ReplaceCollectionBuilder<>(sourceProperty, destProperty, this);
@@ -227,16 +398,58 @@ public final class Mapping<S, D> {
     mappings.add(transformation);
   }
 
+  /**
+   * Adds an operation reading multiple source properties. All source properties are marked as mapped.
+   */
+  void addMultiSourceMapping(List<PropertyDescriptor> sourceProperties, PropertyDescriptor destProperty,
+      Transformation transformation) {
+    for (PropertyDescriptor sourceProperty : sourceProperties) {
+      denyAlreadyOmittedProperty(sourceProperty);
+    }
+    denyAlreadyMappedProperty(mappedDestinationProperties, destProperty);
+    mappedSourceProperties.addAll(sourceProperties);
+    mappedDestinationProperties.add(destProperty);
+    mappings.add(transformation);
+  }
+
+  /**
+   * Adds a reassign operation from a source path to a destination path. The first property of the source path is
+   * marked as mapped. Multiple destination paths may start with the same property, because they write different
+   * properties of the same nested bean, but no destination path may be a prefix of another one. Returns the created
+   * transformation.
+   */
+  PathTransformation addPathMapping(List<PropertyDescriptor> sourcePath, List<PropertyDescriptor> destinationPath) {
+    PathTransformation transformation = new PathTransformation(this, sourcePath, destinationPath);
+    PropertyDescriptor sourceProperty = sourcePath.get(0);
+    PropertyDescriptor destinationProperty = destinationPath.get(0);
+    if (destinationPath.size() == 1) {
+      addMapping(sourceProperty, destinationProperty, transformation);
+      return transformation;
+    }
+    denyAlreadyOmittedProperty(sourceProperty);
+    if (!pathDestinationProperties.contains(destinationProperty)) {
+      denyAlreadyMappedProperty(mappedDestinationProperties, destinationProperty);
+    }
+    for (List<PropertyDescriptor> mappedPath : mappedDestinationPaths) {
+      if (isPrefix(mappedPath, destinationPath) || isPrefix(destinationPath, mappedPath)) {
+        throw alreadyMappedProperty(destinationPath.get(Math.min(mappedPath.size(), destinationPath.size()) - 1));
+      }
+    }
+    mappedSourceProperties.add(sourceProperty);
+    mappedDestinationProperties.add(destinationProperty);
+    pathDestinationProperties.add(destinationProperty);
+    mappedDestinationPaths.add(destinationPath);
+    mappings.add(transformation);
+    return transformation;
+  }
+
+  private static boolean isPrefix(List<PropertyDescriptor> prefix, List<PropertyDescriptor> path) {
+    return prefix.size() <= path.size() && prefix.equals(path.subList(0, prefix.size()));
+  }
+
   private void denyAlreadyOmittedProperty(PropertyDescriptor sourceProperty) {
-    if (mappedSourceProperties.contains(sourceProperty)) {
-      // Search for omit-Operations
-      mappings.stream()
-          .forEach(t -> {
-            if (t instanceof OmitTransformation && t.getSourceProperty()
-                .equals(sourceProperty)) {
-              throw alreadyMappedProperty(sourceProperty);
-            }
-          });
+    if (omittedSourceProperties.contains(sourceProperty)) {
+      throw alreadyMappedProperty(sourceProperty);
     }
   }
 
@@ -244,52 +457,165 @@ public final class Mapping<S, D> {
    * @return Returns the mapper configured with this builder.
    */
   public Mapper<S, D> mapper() {
+    final Object event = JfrSupport.AVAILABLE ? MapperEvents.beginBuild() : null;
+    long start = System.nanoTime();
+    long introspection = buildReport.getIntrospectionNanos();
+    denyMissingInverseTransformations();
     addStrictMapping();
+    long strictMappingDone = System.nanoTime();
+    buildReport.addStrictMapping(strictMappingDone - start - (buildReport.getIntrospectionNanos() - introspection));
+    introspection = buildReport.getIntrospectionNanos();
     validateMapping();
+    long end = System.nanoTime();
+    buildReport.addValidation(end - strictMappingDone - (buildReport.getIntrospectionNanos() - introspection));
+    buildReport.setMapper(end - start, mappings.size());
+    Mapper<S, D> mapper = new Mapper<>(this);
+    if (event != null) {
+      MapperEvents.commitBuild(event, this, buildReport);
+    }
+    return mapper;
+  }
+
+  /**
+   * Returns a mapper that delegates to a mapping function generated at compile time, for example by the annotation
+   * processor of the module <code>remap-processor</code>. The generated code was already validated by the compiler, so
+   * this method does not perform any introspection, selector sensing or validation. The resulting mapper supports the
+   * same API as a mapper configured at runtime, so callers do not need to know how the mapper was created.
+   *
+   * @param compiledMapping The mapping function generated at compile time.
+   * @return Returns the mapper delegating to the specified function.
+   * @throws MappingException Thrown if mapping operations were declared on this {@link Mapping}.
+   */
+  public Mapper<S, D> compiled(Transform<S, D> compiledMapping) {
+    denyNull("compiledMapping", compiledMapping);
+    return compiled((source, context) -> compiledMapping.transform(source), compiledMapping.getClass());
+  }
+
+  /**
+   * Returns a mapper that delegates to the specified mapping function like {@link #compiled(Transform)}, but passes the
+   * mapping context to the function.
+   *
+   * @param compiledMapping The mapping function.
+   * @param compiledType The type of the mapping function reported by {@link #toString()}.
+   * @return Returns the mapper delegating to the specified function.
+   */
+  Mapper<S, D> compiled(ContextTransform<S, D, Object> compiledMapping, Class<?> compiledType) {
+    if (!mappings.isEmpty()) {
+      throw MappingException.denyOperationsOnCompiledMapping(source, destination);
+    }
+    this.compiled = compiledMapping;
+    this.compiledType = compiledType;
     return new Mapper<>(this);
   }
 
+  /**
+   * Derives the mapping for the opposite direction from this mapping. The operations of this mapping are reversed:
+   * Properties omitted in the source are omitted in the destination and vice versa, reassigned properties are
+   * reassigned back. The properties of this mapping were already resolved, so the inverse mapping does not perform any
+   * selector sensing and shares the bean introspection with this mapping.
+   *
+   * <p>
+   * A transformation function cannot be inverted automatically. For every <code>replace</code> or
+   * <code>replaceCollection</code> operation of this mapping, the inverse mapping must declare the inverse
+   * transformation, otherwise building the mapper fails. Mappers for nested types must be registered on the inverse
+   * mapping using {@link #useMapper(Mapper)} as usual.
+   * </p>
+   *
+   * <p>
+   * Conditions and default values of <code>reassign</code> operations refer to the source objects and destination
+   * values of this mapping and cannot be reversed. A mapping declaring a <code>reassign</code> operation with
+   * <code>when</code>, <code>withDefault</code> or <code>orElse</code> cannot be inverted, declare the mapping for the
+   * opposite direction instead.
+   * </p>
+   *
+   * <pre>
+   * Mapping&lt;Person, PersonResource&gt; mapping = Mapping.from(Person.class)
+   *     .to(PersonResource.class)
+   *     .reassign(Person::getName)
+   *     .to(PersonResource::getFullName)
+   *     .replace(Person::getAge, PersonResource::getAge)
+   *     .with(String::valueOf);
+   * Mapper&lt;PersonResource, Person&gt; inverse = mapping.inverse()
+   *     .replace(PersonResource::getAge, Person::getAge)
+   *     .with(Integer::parseInt)
+   *     .mapper();
+   * </pre>
+   *
+   * @return Returns a new {@link Mapping} from the destination to the source type for further configuration.
+   * @throws MappingException Thrown if this mapping is performed by a compiled mapping or declares a
+   *         <code>reassign</code> operation with a condition or a default value.
+   */
+  public Mapping<D, S> inverse() {
+    if (compiled != null) {
+      throw MappingException.denyInverseOfCompiledMapping(source, destination);
+    }
+    Mapping<D, S> inverse = new Mapping<>(destination, source);
+    for (Transformation t : mappings) {
+      PropertyDescriptor sourceProperty = t.getSourceProperty();
+      PropertyDescriptor destinationProperty = t.getDestinationProperty();
+      if (t instanceof OmitTransformation) {
+        if (sourceProperty != null) {
+          inverse.omitMapping(inverse.mappedDestinationProperties, sourceProperty,
+              OmitTransformation.omitDestination(inverse, sourceProperty));
+        } else {
+          inverse.omitMapping(inverse.mappedSourceProperties, destinationProperty,
+              OmitTransformation.omitSource(inverse, destinationProperty));
+          inverse.omittedSourceProperties.add(destinationProperty);
+        }
+      } else if (t instanceof ReassignTransformation && (t.isConditional() || t.hasDefault())) {
+        // The reversed reassign operation would silently lose the condition or the default value.
+        throw MappingException.denyInverseOfConditionalOperation(source, destination, t);
+      } else if (t instanceof PathTransformation) {
+        PathTransformation path = (PathTransformation) t;
+        inverse.addPathMapping(Arrays.asList(path.getDestinationPath()), Arrays.asList(path.getSourcePath()));
+      } else if (t instanceof MapTransformation) {
+        // Implicit mappings are inferred by the inverse mapping itself.
+        continue;
+      } else if (t instanceof ReassignTransformation) {
+        inverse.addMapping(destinationProperty, sourceProperty,
+            new ReassignTransformation(inverse, destinationProperty, sourceProperty));
+      } else {
+        inverse.requiredInverseTransformations.add(t);
+      }
+    }
+    return inverse;
+  }
+
   /**
    * This method adds a strict mapping for all unmapped properties of source that have a
    * corresponding property in the destination type.
    */
   private void addStrictMapping() {
-    // Get all unmapped properties from destination because this will be the only properties that can be mapped from
-    // source.
-    Set<PropertyDescriptor> unmappedDestinationProperties = getUnmappedProperties(destination,
-        mappedDestinationProperties);
-    // Get the set of property names
-    Set<String> unmappedDestinationPropertyNames = unmappedDestinationProperties.stream()
-        .map(PropertyDescriptor::getName)
-        .collect(Collectors.toSet());
-    // Add a reassign for all properties of source that are unmapped properties in the destination
-    getUnmappedProperties(source, mappedSourceProperties).stream()
-        .filter(pd -> unmappedDestinationPropertyNames.contains(pd.getName()))
-        .forEach(pd -> {
-          // find the corresponding PropertyDescriptor in the unmapped
-          // destination properties and add reassign
-          // transformation
-          PropertyDescriptor destinationProperty = getPropertyDescriptorByPropertyName(unmappedDestinationProperties,
-              pd.getName());
-          MapTransformation transformation = new MapTransformation(this, pd, destinationProperty);
-          addMapping(pd, destinationProperty, transformation);
-        });
-
-  }
-
-  private PropertyDescriptor getPropertyDescriptorByPropertyName(Set<PropertyDescriptor> descriptors,
-      String propertyName) {
-    Set<PropertyDescriptor> matchedPropertiesByName = descriptors.stream()
-        .filter(pd -> pd.getName()
-            .equals(propertyName))
-        .collect(Collectors.toSet());
-    if (matchedPropertiesByName.isEmpty() || matchedPropertiesByName.size() > 1) {
-      throw new MappingException(
-          String.format("Cannot assign source property '%s' to destination, but this was determined "
-              + "to be possible - this is an implementation fault.", propertyName));
-    } else {
-      return matchedPropertiesByName.iterator()
-          .next();
+    Map<String, PropertyDescriptor> sourceProperties = getPropertyIndex(source);
+    Map<String, PropertyDescriptor> destinationProperties = getPropertyIndex(destination);
+    // Add a map transformation for all unmapped properties of source that are unmapped properties in the destination
+    for (PropertyDescriptor sourceProperty : sourceProperties.values()) {
+      if (mappedSourceProperties.contains(sourceProperty)) {
+        continue;
+      }
+      PropertyDescriptor destinationProperty = destinationProperties.get(sourceProperty.getName());
+      if (destinationProperty != null && !mappedDestinationProperties.contains(destinationProperty)) {
+        MapTransformation transformation = new MapTransformation(this, sourceProperty, destinationProperty);
+        addMapping(sourceProperty, destinationProperty, transformation);
+      }
+    }
+  }
+
+  /**
+   * Checks that the inverse transformations of a mapping derived using {@link #inverse()} were declared. This must be
+   * checked before the implicit mappings are added, because those would try to map the properties implicitly.
+   */
+  private void denyMissingInverseTransformations() {
+    for (Transformation t : requiredInverseTransformations) {
+      List<PropertyDescriptor> sourceProperties = (t instanceof MultiReplaceTransformation)
+          ? Arrays.asList(((MultiReplaceTransformation) t).getSourceProperties())
+          : Collections.singletonList(t.getSourceProperty());
+      for (PropertyDescriptor sourceProperty : sourceProperties) {
+        if (!mappedSourceProperties.contains(t.getDestinationProperty())
+            || !mappedDestinationProperties.contains(sourceProperty)) {
+          throw MappingException.noInverseTransformation(t.getDestinationProperty(), sourceProperty, t);
+        }
+      }
     }
   }
 
@@ -301,9 +627,35 @@ public final class Mapping<S, D> {
     }
 
     // check if all mappers are available to perform nested mapping
+    Map<String, List<Transformation>> index = new HashMap<>();
     for (Transformation t : mappings) {
       t.validateTransformation();
+      for (String name : t.getSourceNames()) {
+        index.computeIfAbsent(name, key -> new ArrayList<>(1))
+            .add(t);
+      }
+      if (!equalities.isEmpty() && t.getDestinationProperty() != null) {
+        BiPredicate<Object, Object> equality = getEqualityFor(t.getDestinationType());
+        if (equality != null) {
+          t.setEquality(equality);
+        }
+      }
+    }
+    this.dependencies = index;
+  }
+
+  private BiPredicate<Object, Object> getEqualityFor(Class<?> type) {
+    Class<?> wrapped = Conversions.wrap(type);
+    BiPredicate<Object, Object> equality = equalities.get(wrapped);
+    if (equality == null) {
+      for (Map.Entry<Class<?>, BiPredicate<Object, Object>> entry : equalities.entrySet()) {
+        if (entry.getKey()
+            .isAssignableFrom(wrapped)) {
+          return entry.getValue();
+        }
+      }
     }
+    return equality;
   }
 
   private Set<PropertyDescriptor> getUnmappedProperties() {
@@ -327,14 +679,98 @@ public final class Mapping<S, D> {
    */
   private <T> Set<PropertyDescriptor> getUnmappedProperties(Class<T> type,
       Set<PropertyDescriptor> mappedSourceProperties) {
-    Set<PropertyDescriptor> allSourceProperties = Properties.getProperties(type);
-    allSourceProperties.removeAll(mappedSourceProperties);
-    return allSourceProperties;
+    Set<PropertyDescriptor> unmappedProperties = new HashSet<>();
+    for (PropertyDescriptor pd : getPropertyIndex(type).values()) {
+      if (!mappedSourceProperties.contains(pd)) {
+        unmappedProperties.add(pd);
+      }
+    }
+    return unmappedProperties;
+  }
+
+  /**
+   * Returns the properties of the specified type indexed by name and records the time spent in the build report of
+   * this mapping.
+   */
+  private Map<String, PropertyDescriptor> getPropertyIndex(Class<?> type) {
+    long start = System.nanoTime();
+    Map<String, PropertyDescriptor> index = Properties.getPropertyIndex(type);
+    buildReport.addIntrospection(System.nanoTime() - start);
+    return index;
+  }
+
+  /**
+   * Senses the property selected by the specified {@link TypedSelector} like
+   * {@link #getTypedPropertyFromFieldSelector(String, Class, TypedSelector)} and records the time spent in the build
+   * report of this mapping.
+   */
+  <R, T> TypedPropertyDescriptor<R> senseTypedProperty(String configurationMethod, Class<T> sensorType,
+      TypedSelector<R, T> selector) {
+    TypedPropertyDescriptor<R> tpd = new TypedPropertyDescriptor<R>();
+    tpd.property = senseProperty(configurationMethod, sensorType, selector, selector::selectField);
+    return tpd;
+  }
+
+  /**
+   * Senses the properties selected by the specified {@link PropertyPath} starting on the specified type. The type of
+   * each property is the type the next property is sensed on.
+   *
+   * @return Returns the properties of the path.
+   */
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  List<PropertyDescriptor> sensePath(String configurationMethod, Class<?> sensorType, PropertyPath<?, ?> path) {
+    List<PropertyDescriptor> properties = new LinkedList<>();
+    Class<?> type = sensorType;
+    for (TypedSelector selector : path.getSelectors()) {
+      if (!properties.isEmpty()) {
+        denyNoBean(properties.get(properties.size() - 1));
+      }
+      PropertyDescriptor property = senseTypedProperty(configurationMethod, type, selector).property;
+      properties.add(property);
+      type = property.getPropertyType();
+    }
+    return properties;
+  }
+
+  private static void denyNoBean(PropertyDescriptor property) {
+    Class<?> type = property.getPropertyType();
+    if (type.isPrimitive() || type.isArray() || type.isEnum() || isBuildInType(type)
+        || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+      throw MappingException.notABeanOnPath(property);
+    }
+  }
+
+  /**
+   * Senses the property selected by the specified {@link FieldSelector} like
+   * {@link #getPropertyFromFieldSelector(String, Class, FieldSelector)} and records the time spent in the build report
+   * of this mapping.
+   */
+  <T> PropertyDescriptor senseProperty(String configurationMethod, Class<T> sensorType, FieldSelector<T> selector) {
+    return senseProperty(configurationMethod, sensorType, selector, selector);
+  }
+
+  private <T> PropertyDescriptor senseProperty(String configurationMethod, Class<T> sensorType, Object selector,
+      FieldSelector<T> invocation) {
+    long start = System.nanoTime();
+    SerializedLambda lambda = getSerializedLambda(selector);
+    if (lambda != null) {
+      // Native images must register the classes declaring the selectors for lambda serialization.
+      selectorCapturingTypes.add(lambda.getCapturingClass()
+          .replace('/', '.'));
+    }
+    String propertyName = getPropertyName(configurationMethod, sensorType, lambda, invocation);
+    long sensed = System.nanoTime();
+    buildReport.addSelectorSensing(sensed - start);
+    PropertyDescriptor property = getPropertyDescriptorOrFail(sensorType, propertyName);
+    buildReport.addIntrospection(System.nanoTime() - sensed);
+    return property;
   }
 
   /**
-   * Executes a {@link FieldSelector} lambda on a proxy object of the specified type and returns the
-   * {@link PropertyDescriptor} of the property selected.
+   * Resolves the property selected by a {@link TypedSelector} like {@link #getPropertyName(String, Class,
+   * SerializedLambda, FieldSelector)} and returns its {@link PropertyDescriptor}.
    *
    * @param configurationMethod
    *        The configuration method this {@link PropertyDescriptor} is used for. Only needed for exception messages.
@@ -348,31 +784,14 @@ public final class Mapping<S, D> {
    */
   static <R, T> TypedPropertyDescriptor<R> getTypedPropertyFromFieldSelector(String configurationMethod,
       Class<T> sensorType, TypedSelector<R, T> selector) {
-    InvocationSensor<T> invocationSensor = new InvocationSensor<T>(sensorType);
-    T sensor = invocationSensor.getSensor();
-    // perform the selector lambda on the sensor
-    R returnValue = selector.selectField(sensor);
-    // if any property interaction was tracked...
-    if (invocationSensor.hasTrackedProperties()) {
-      // ...make sure it was exactly one property interaction
-      List<String> trackedPropertyNames = invocationSensor.getTrackedPropertyNames();
-      denyMultipleInteractions(configurationMethod, trackedPropertyNames);
-      // get the property name
-      String propertyName = trackedPropertyNames.get(0);
-      // find the property descriptor or fail with an exception
-      PropertyDescriptor property = getPropertyDescriptorOrFail(sensorType, propertyName);
-      TypedPropertyDescriptor<R> tpd = new TypedPropertyDescriptor<R>();
-      tpd.returnValue = returnValue;
-      tpd.property = property;
-      return tpd;
-    } else {
-      throw zeroInteractions(configurationMethod);
-    }
+    TypedPropertyDescriptor<R> tpd = new TypedPropertyDescriptor<R>();
+    tpd.property = getPropertyFromSelector(configurationMethod, sensorType, selector, selector::selectField);
+    return tpd;
   }
 
   /**
-   * Executes a {@link FieldSelector} lambda on a proxy object of the specified type and returns the
-   * {@link PropertyDescriptor} of the property selected.
+   * Resolves the property selected by a {@link FieldSelector} like {@link #getPropertyName(String, Class,
+   * SerializedLambda, FieldSelector)} and returns its {@link PropertyDescriptor}.
    *
    * @param configurationMethod
    *        The configuration method this {@link PropertyDescriptor} is used
@@ -387,6 +806,65 @@ public final class Mapping<S, D> {
    */
   static <T> PropertyDescriptor getPropertyFromFieldSelector(String configurationMethod, Class<T> sensorType,
       FieldSelector<T> selector) {
+    return getPropertyFromSelector(configurationMethod, sensorType, selector, selector);
+  }
+
+  private static <T> PropertyDescriptor getPropertyFromSelector(String configurationMethod, Class<T> sensorType,
+      Object selector, FieldSelector<T> invocation) {
+    String propertyName = getPropertyName(configurationMethod, sensorType, getSerializedLambda(selector), invocation);
+    // find the property descriptor or fail with an exception
+    return getPropertyDescriptorOrFail(sensorType, propertyName);
+  }
+
+  /**
+   * Returns the name of the property selected by a selector. If the selector is a method reference to a get-method,
+   * the property is resolved from its {@link SerializedLambda}. Otherwise the selector is invoked on a proxy object,
+   * which is not supported in ahead-of-time mode.
+   *
+   * @param configurationMethod
+   *        The configuration method this property is used for. Only needed for exception messages.
+   * @param sensorType
+   *        The type of sensor object.
+   * @param lambda
+   *        The {@link SerializedLambda} of the selector or <code>null</code> if the selector is not serializable.
+   * @param invocation
+   *        The selector as {@link FieldSelector} to invoke on a proxy object.
+   * @return Returns the name of the property selected.
+   * @throws MappingException
+   *         if a property was specified for mapping but not invoked.
+   */
+  static <T> String getPropertyName(String configurationMethod, Class<T> sensorType, SerializedLambda lambda,
+      FieldSelector<T> invocation) {
+    Method method = (lambda == null) ? null : getReferencedMethod(sensorType, lambda);
+    if (method != null && isGetter(method)) {
+      return toPropertyName(method);
+    }
+    if (AotSupport.isEnabled()) {
+      if (method != null) {
+        throw MappingException.notAGetter(method);
+      }
+      throw MappingException.noMethodReference(configurationMethod);
+    }
+    // Lambda expressions and references to other methods are invoked on a proxy object to report the usual errors.
+    return getPropertyNameFromFieldSelector(configurationMethod, sensorType, invocation);
+  }
+
+  /**
+   * Executes a {@link FieldSelector} lambda on a proxy object of the specified type and returns the name of the
+   * property selected.
+   *
+   * @param configurationMethod
+   *        The configuration method this property is used for. Only needed for exception messages.
+   * @param sensorType
+   *        The type of sensor object.
+   * @param selector
+   *        The selector lambda.
+   * @return Returns the name of the property selected with the lambda.
+   * @throws MappingException
+   *         if a property was specified for mapping but not invoked.
+   */
+  static <T> String getPropertyNameFromFieldSelector(String configurationMethod, Class<T> sensorType,
+      FieldSelector<T> selector) {
     InvocationSensor<T> invocationSensor = new InvocationSensor<T>(sensorType);
     T sensor = invocationSensor.getSensor();
     // perform the selector lambda on the sensor
@@ -397,9 +875,7 @@ public final class Mapping<S, D> {
       List<String> trackedPropertyNames = invocationSensor.getTrackedPropertyNames();
       denyMultipleInteractions(configurationMethod, trackedPropertyNames);
       // get the property name
-      String propertyName = trackedPropertyNames.get(0);
-      // find the property descriptor or fail with an exception
-      return getPropertyDescriptorOrFail(sensorType, propertyName);
+      return trackedPropertyNames.get(0);
     } else {
       throw zeroInteractions(configurationMethod);
     }
@@ -415,18 +891,12 @@ public final class Mapping<S, D> {
    *        The property name
    */
   static PropertyDescriptor getPropertyDescriptorOrFail(Class<?> type, String propertyName) {
-    Optional<PropertyDescriptor> property;
-    property = Properties.getProperties(type)
-        .stream()
-        .filter(pd -> pd.getName()
-            .equals(propertyName))
-        .findFirst();
-    if (property.isPresent()) {
-      return property.get();
-    } else {
+    PropertyDescriptor property = Properties.getPropertyIndex(type)
+        .get(propertyName);
+    if (property == null) {
       throw notAProperty(type, propertyName);
     }
-
+    return property;
   }
 
   static void denyMultipleInteractions(String configurationMethod, List<String> trackedPropertyNames) {
@@ -447,6 +917,13 @@ public final class Mapping<S, D> {
    * tries to map the specified types. <b>Note: Only one mapper can be added for a combination of
    * source and destination type!</b>
    *
+   * <p>
+   * Mappers registered for subtypes of a property type are selected by the runtime type of the property value. For
+   * example, if a property is declared as <code>Animal</code>, values of type <code>Dog</code> are mapped by a
+   * registered mapper from <code>Dog</code> to a subtype of the destination property type. A mapper registered for
+   * exactly the declared types maps all values no more specific mapper was registered for.
+   * </p>
+   *
    * @param mapper
    *        A mapper
    * @return Returns this {@link Mapping} object for further configuration.
@@ -463,7 +940,79 @@ public final class Mapping<S, D> {
       throw MappingException.duplicateMapper(source, destination);
     } else {
       mappers.put(projection, mapper);
+      dispatchers.clear();
+    }
+    return this;
+  }
+
+  /**
+   * Registers a {@link MappingListener} that is notified whenever the resulting mapper performs a mapping. Use this to
+   * collect runtime metrics, for example with {@link MappingMetrics}. If no listener is registered, the mapper does not
+   * perform any time measurement.
+   *
+   * @param listener The listener to notify.
+   * @return Returns this {@link Mapping} object for further configuration.
+   */
+  public Mapping<S, D> listener(MappingListener listener) {
+    denyNull("listener", listener);
+    this.listener = listener;
+    return this;
+  }
+
+  /**
+   * Declares that the resulting mapper does not capture the stack traces of the {@link MappingException}s it creates
+   * while mapping objects, for example if a value cannot be converted. Use this if mapping failures are expected and
+   * recovered by the caller, for example in validation pipelines, where capturing the stack trace would dominate the
+   * cost of a failure. The messages of the exceptions are formatted only when they are requested in any case.
+   *
+   * @return Returns this {@link Mapping} object for further configuration.
+   */
+  public Mapping<S, D> suppressStackTraces() {
+    this.stackTracesSuppressed = true;
+    return this;
+  }
+
+  /**
+   * Declares that the resulting mapper recycles destination objects. Destination objects created by
+   * {@link Mapper#mapPooled(Object)} can be returned to the mapper using {@link Mapper#release(Object)} when they are
+   * no longer used. The released objects are kept per thread and reused by the next pooled mapping on the same thread,
+   * so mapping short-lived objects does not allocate new destination objects in the steady state.
+   *
+   * <p>
+   * A recycled object is reset by performing the mapping onto it, so the initial values of the destination properties
+   * must be <code>null</code>, built-in values or empty collections or maps. Nested objects are recycled if their
+   * mapper is pooled as well, collections, maps and arrays held by a recycled object are refilled. Mappings of property
+   * paths and compiled mappings cannot recycle destination objects.
+   * </p>
+   *
+   * @param capacity The maximum number of released destination objects kept per thread.
+   * @return Returns this {@link Mapping} object for further configuration.
+   */
+  public Mapping<S, D> pooled(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("The capacity must be greater than zero.");
     }
+    this.poolCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * Specifies how {@link Mapper#mapChanged(Object, Object)} compares the values of destination properties of the
+   * specified type. The equality applies to destination properties declared with the specified type or a subtype. If
+   * no equality was specified for a type, values are compared using {@link java.util.Objects#deepEquals(Object,
+   * Object)}. Use this for types whose <code>equals</code> method is not suitable, for example to compare
+   * {@link java.math.BigDecimal}s ignoring their scale.
+   *
+   * @param type The type of destination properties.
+   * @param equality The function returning <code>true</code> if the current value of the destination property equals
+   *        the mapped value. The function is invoked with <code>null</code> values.
+   * @return Returns this {@link Mapping} object for further configuration.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Mapping<S, D> equality(Class<T> type, BiPredicate<? super T, ? super T> equality) {
+    denyNull("type", type);
+    denyNull("equality", equality);
+    equalities.put(Conversions.wrap(type), (BiPredicate<Object, Object>) equality);
     return this;
   }
 
@@ -487,24 +1036,174 @@ public final class Mapping<S, D> {
     }
   }
 
+  /**
+   * Returns the dispatcher selecting the registered mapper for values declared with the specified types by their
+   * runtime class. This way values of subtypes are mapped by the mappers registered for the respective subtypes. If
+   * neither a mapper for the declared types nor for one of their subtypes was registered a {@link MappingException} is
+   * thrown.
+   *
+   * @param sourceType
+   *        The declared source type
+   * @param destinationType
+   *        The declared destination type
+   * @return Returns the dispatcher.
+   */
+  MapperDispatcher getDispatcherFor(Class<?> sourceType, Class<?> destinationType) {
+    Projection<?, ?> projection = new Projection<>(sourceType, destinationType);
+    MapperDispatcher dispatcher = dispatchers.get(projection);
+    if (dispatcher == null) {
+      dispatcher = new MapperDispatcher(sourceType, destinationType, mappers);
+      dispatcher.validate();
+      dispatchers.put(projection, dispatcher);
+    }
+    return dispatcher;
+  }
+
   /**
    * Performs the actual mapping with iteration recursively through the object hierarchy.
    *
    * @param source
    *        The source object to map to a new destination object.
+   * @param context
+   *        The mapping context passed to the transformations or <code>null</code>.
    * @return Returns a newly created destination object.
    */
-  D map(S source) {
+  D map(S source, Object context) {
     if (source == null) {
       throw MappingException.denyMappingOfNull();
     }
+    if (compiled != null) {
+      return compiled.transform(source, context);
+    }
     D destinationObject = createDestination();
     for (Transformation t : mappings) {
-      t.performTransformation(source, destinationObject);
+      t.performTransformation(source, destinationObject, context);
     }
     return destinationObject;
   }
 
+  /**
+   * Performs the actual mapping like {@link #map(Object, Object)} but measures the time spent in every transformation
+   * step and reports it to the specified {@link MappingListener}.
+   *
+   * @param source
+   *        The source object to map to a new destination object.
+   * @param context
+   *        The mapping context passed to the transformations or <code>null</code>.
+   * @param mapper
+   *        The mapper performing this mapping.
+   * @param listener
+   *        The listener to notify.
+   * @return Returns a newly created destination object.
+   */
+  D map(S source, Object context, Mapper<S, D> mapper, MappingListener listener) {
+    if (source == null) {
+      throw MappingException.denyMappingOfNull();
+    }
+    if (compiled != null) {
+      // Compiled mappings do not consist of transformation steps that could be measured.
+      return compiled.transform(source, context);
+    }
+    D destinationObject = createDestination();
+    for (Transformation t : mappings) {
+      if (t instanceof OmitTransformation) {
+        continue;
+      }
+      long start = System.nanoTime();
+      t.performTransformation(source, destinationObject, context);
+      listener.transformed(mapper, t.getSourceProperty(), t.getDestinationProperty(), t.getDestinationName(),
+          System.nanoTime() - start);
+    }
+    return destinationObject;
+  }
+
+  /**
+   * Maps the source object onto the specified existing destination object, but writes only the destination properties
+   * whose current values do not equal the mapped values.
+   *
+   * @param source
+   *        The source object to map from.
+   * @param destination
+   *        The existing destination object to update.
+   * @param context
+   *        The mapping context passed to the transformations or <code>null</code>.
+   * @return Returns the names of the destination properties that were written.
+   */
+  Set<String> mapChanged(S source, D destination, Object context) {
+    if (source == null) {
+      throw MappingException.denyMappingOfNull();
+    }
+    denyNull("destination", destination);
+    if (compiled != null) {
+      throw MappingException.denyChangesOnCompiledMapping(this.source, this.destination);
+    }
+    Set<String> changed = new LinkedHashSet<>();
+    for (Transformation t : mappings) {
+      if (t.performChange(source, destination, context)) {
+        changed.add(t.getDestinationName());
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Re-maps the specified changed properties of the source object onto the destination object of a previous mapping.
+   * Only the transformations reading the changed properties are performed. A changed property may be specified as path
+   * like <code>address.city</code> to apply the change to the nested object instead of replacing it.
+   *
+   * @param source
+   *        The source object to map from.
+   * @param destination
+   *        The destination object of a previous mapping of the source object.
+   * @param changedProperties
+   *        The names or paths of the changed source properties.
+   * @param context
+   *        The mapping context passed to the transformations or <code>null</code>.
+   */
+  void mapIncremental(S source, D destination, Set<String> changedProperties, Object context) {
+    if (source == null) {
+      throw MappingException.denyMappingOfNull();
+    }
+    denyNull("destination", destination);
+    denyNull("changedProperties", changedProperties);
+    if (compiled != null) {
+      throw MappingException.denyChangesOnCompiledMapping(this.source, this.destination);
+    }
+    // Groups the changed properties by the property of the source object. A null value denotes that the property
+    // changed as a whole, otherwise the value holds the changed properties of the nested object.
+    Map<String, Set<String>> changes = new LinkedHashMap<>();
+    for (String property : changedProperties) {
+      int separator = property.indexOf('.');
+      String name = (separator < 0) ? property : property.substring(0, separator);
+      if (!Properties.getPropertyIndex(this.source)
+          .containsKey(name)) {
+        throw MappingException.noSuchProperty(this.source, name);
+      }
+      if (separator < 0) {
+        changes.put(name, null);
+      } else if (!changes.containsKey(name) || changes.get(name) != null) {
+        changes.computeIfAbsent(name, key -> new HashSet<>())
+            .add(property.substring(separator + 1));
+      }
+    }
+    Set<Transformation> performed = new HashSet<>();
+    for (Map.Entry<String, Set<String>> change : changes.entrySet()) {
+      List<Transformation> affected = dependencies.get(change.getKey());
+      if (affected != null) {
+        for (Transformation t : affected) {
+          // Transformations reading multiple changed properties are performed once as a whole.
+          if (performed.add(t)) {
+            t.performTransformation(source, destination, change.getValue(), context);
+          }
+        }
+      }
+    }
+  }
+
+  boolean isCompiled() {
+    return compiled != null;
+  }
+
   private D createDestination() {
     return newInstance(destination);
   }
@@ -517,6 +1216,46 @@ public final class Mapping<S, D> {
     return destination;
   }
 
+  MappingBuildReport getBuildReport() {
+    return buildReport;
+  }
+
+  Collection<Mapper<?, ?>> getMappers() {
+    return mappers.values();
+  }
+
+  Set<String> getSelectorCapturingTypes() {
+    return selectorCapturingTypes;
+  }
+
+  /**
+   * @return Returns <code>true</code> if the transformations of this mapping can be fused with the transformations of
+   *         another mapping by {@link FusedTransform}, otherwise <code>false</code> is returned.
+   */
+  boolean isFusable() {
+    if (compiled != null) {
+      return false;
+    }
+    for (Transformation t : mappings) {
+      if (t instanceof PathTransformation || t instanceof MultiReplaceTransformation || t.isConditional()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int getPoolCapacity() {
+    return poolCapacity;
+  }
+
+  boolean isStackTracesSuppressed() {
+    return stackTracesSuppressed;
+  }
+
+  MappingListener getListener() {
+    return listener;
+  }
+
   Set<Transformation> getMappings() {
     return new HashSet<>(mappings);
   }
@@ -525,8 +1264,13 @@ public final class Mapping<S, D> {
   public String toString() {
     StringBuilder b = new StringBuilder("Mapping from ").append(source.getName())
         .append("\n\t  to ")
-        .append(destination.getName())
-        .append("\n with transformation:\n");
+        .append(destination.getName());
+    if (compiled != null) {
+      return b.append("\n using compiled mapping ")
+          .append(compiledType.getName())
+          .toString();
+    }
+    b.append("\n with transformation:\n");
 
     for (Transformation t : mappings) {
       b.append("- ")
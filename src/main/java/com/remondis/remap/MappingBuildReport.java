@@ -0,0 +1,117 @@
+package com.remondis.remap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breaks down the time spent to build a {@link Mapper}. The report covers the whole mapping configuration, starting
+ * with {@link Mapping#from(Class)} up to {@link Mapping#mapper()}, and distinguishes the following phases:
+ * <ul>
+ * <li><b>introspection</b>: reading the Java Bean properties of the source and destination types,</li>
+ * <li><b>selector sensing</b>: invoking the field selectors on proxy objects to determine the selected
+ * properties,</li>
+ * <li><b>strict mapping</b>: inferring the implicit mappings of properties with equal names,</li>
+ * <li><b>validation</b>: validating the mapping configuration.</li>
+ * </ul>
+ * The time spent in introspection is not included in the times of the other phases. The report of a mapper is
+ * available via {@link Mapper#getBuildReport()}.
+ */
+public class MappingBuildReport {
+
+  private long introspectionNanos;
+  private long selectorSensingNanos;
+  private long strictMappingNanos;
+  private long validationNanos;
+  private long mapperNanos;
+  private int selectors;
+  private int transformations;
+
+  MappingBuildReport() {
+    super();
+  }
+
+  void addIntrospection(long nanos) {
+    this.introspectionNanos += nanos;
+  }
+
+  void addSelectorSensing(long nanos) {
+    this.selectorSensingNanos += nanos;
+    this.selectors++;
+  }
+
+  void addStrictMapping(long nanos) {
+    this.strictMappingNanos += nanos;
+  }
+
+  void addValidation(long nanos) {
+    this.validationNanos += nanos;
+  }
+
+  void setMapper(long nanos, int transformations) {
+    this.mapperNanos = nanos;
+    this.transformations = transformations;
+  }
+
+  /**
+   * @return Returns the time spent in bean introspection in nanoseconds.
+   */
+  public long getIntrospectionNanos() {
+    return introspectionNanos;
+  }
+
+  /**
+   * @return Returns the time spent in sensing the properties selected by field selectors in nanoseconds.
+   */
+  public long getSelectorSensingNanos() {
+    return selectorSensingNanos;
+  }
+
+  /**
+   * @return Returns the time spent in inferring the implicit mappings in nanoseconds.
+   */
+  public long getStrictMappingNanos() {
+    return strictMappingNanos;
+  }
+
+  /**
+   * @return Returns the time spent in validating the mapping in nanoseconds.
+   */
+  public long getValidationNanos() {
+    return validationNanos;
+  }
+
+  /**
+   * @return Returns the total duration of {@link Mapping#mapper()} in nanoseconds. The time spent in the configuration
+   *         methods before is not included.
+   */
+  public long getMapperNanos() {
+    return mapperNanos;
+  }
+
+  /**
+   * @return Returns the number of field selectors that were sensed.
+   */
+  public int getSelectors() {
+    return selectors;
+  }
+
+  /**
+   * @return Returns the number of transformations of the resulting mapper.
+   */
+  public int getTransformations() {
+    return transformations;
+  }
+
+  @Override
+  public String toString() {
+    return "Mapper build report:\n" + "- introspection:    " + micros(introspectionNanos) + "\n"
+        + "- selector sensing: " + micros(selectorSensingNanos) + " (" + selectors + " selectors)\n"
+        + "- strict mapping:   " + micros(strictMappingNanos) + "\n" + "- validation:       "
+        + micros(validationNanos) + "\n" + "- mapper():         " + micros(mapperNanos) + " (" + transformations
+        + " transformations)";
+  }
+
+  private static String micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos) + " us";
+  }
+
+}
@@ -8,14 +8,33 @@ import static com.remondis.remap.Properties.getPropertyClass;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public class MappingException extends RuntimeException {
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Holds the number of mappings in progress on this thread that suppress stack traces. This is the case for
+   * error-collecting batches, where exceptions are collected as {@link MappingFailure}s, and for mappers declared with
+   * {@link Mapping#suppressStackTraces()}, where failures are expected and handled by the caller.
+   */
+  private static final ThreadLocal<int[]> SUPPRESSIONS = ThreadLocal.withInitial(() -> new int[1]);
+
+  /**
+   * Formats the message on the first call to {@link #getMessage()} or <code>null</code> if the message was already
+   * formatted or specified directly.
+   */
+  private transient Supplier<String> messageSupplier;
+
+  private String formattedMessage;
+
   public MappingException() {
     super();
   }
@@ -36,66 +55,160 @@ public class MappingException extends RuntimeException {
     super(cause);
   }
 
+  /**
+   * Creates a {@link MappingException} whose message is formatted on demand. This constructor is used for exceptions
+   * whose message may never be read, for example if failures are collected or recovered by the caller. The stack
+   * trace is not captured if the exception is created while stack traces are suppressed, see
+   * {@link #suppressStackTraces()}.
+   */
+  MappingException(Supplier<String> messageSupplier) {
+    this(messageSupplier, null);
+  }
+
+  /**
+   * Creates a {@link MappingException} with a cause whose message is formatted on demand.
+   */
+  MappingException(Supplier<String> messageSupplier, Throwable cause) {
+    super(null, cause, true, SUPPRESSIONS.get()[0] == 0);
+    this.messageSupplier = messageSupplier;
+  }
+
+  @Override
+  public synchronized String getMessage() {
+    if (messageSupplier != null) {
+      formattedMessage = messageSupplier.get();
+      messageSupplier = null;
+    }
+    return (formattedMessage == null) ? super.getMessage() : formattedMessage;
+  }
+
+  private synchronized void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    // The message supplier is transient, so the message is formatted before serialization.
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * Suppresses the stack traces of {@link MappingException}s created on the current thread while mapping objects.
+   * Must be followed by {@link #restoreStackTraces()}.
+   */
+  static void suppressStackTraces() {
+    SUPPRESSIONS.get()[0]++;
+  }
+
+  /**
+   * Ends a suppression started by {@link #suppressStackTraces()}.
+   */
+  static void restoreStackTraces() {
+    SUPPRESSIONS.get()[0]--;
+  }
+
   static MappingException zeroInteractions(String configurationMethod) {
-    return new MappingException(String
+    return new MappingException(() -> String
         .format("The field selector for method '%s' tracked zero interactions with properties.", configurationMethod));
   }
 
   static MappingException multipleInteractions(String configurationMethod, List<String> trackedPropertyNames) {
-    return new MappingException(String.format(
+    List<String> names = new ArrayList<>(trackedPropertyNames);
+    return new MappingException(() -> String.format(
         "The field selector for method '%s' tracked multiple interactions with the following properties: %s."
             + " Only one interaction perfield selector is allowed!",
-        configurationMethod, String.join(",", trackedPropertyNames)));
+        configurationMethod, String.join(",", names)));
+  }
+
+  static MappingException noMethodReference(String configurationMethod) {
+    return new MappingException(() -> String.format("In ahead-of-time mode the selector of the operation '%s' must "
+        + "be a method reference to a get-method like 'Person::getName', because proxy objects cannot be created.",
+        configurationMethod));
   }
 
   static MappingException notAProperty(Class<?> type, String property) {
-    return new MappingException(String.format(
+    return new MappingException(() -> String.format(
         "The get-method for property '%s' in type %s is not a valid Java Bean property.", property, type.getName()));
   }
 
+  static MappingException noSuchProperty(Class<?> type, String property) {
+    return new MappingException(() -> String.format("The type %s does not declare a property '%s' with get- and "
+        + "set-method.", type.getName(), property));
+  }
+
   static MappingException notAGetter(Method method) {
-    return new MappingException(
-        String.format("The method '%s' in type %s is not a valid Java Bean property get-method.", method.getName(),
-            method.getDeclaringClass()
-                .getName()));
+    return new MappingException(() -> String.format("The method '%s' in type %s is not a valid Java Bean property "
+        + "get-method.", method.getName(), method.getDeclaringClass()
+            .getName()));
   }
 
   static MappingException noReturnTypeOnGetter(Method method) {
-    return new MappingException(
-        String.format("The method '%s' in type '%s' is not a valid getter because it has no return type.",
-            method.getName(), method.getDeclaringClass()
-                .getName()));
+    return new MappingException(() -> String.format("The method '%s' in type '%s' is not a valid getter because it "
+        + "has no return type.", method.getName(), method.getDeclaringClass()
+            .getName()));
+  }
+
+  static MappingException notABeanOnPath(PropertyDescriptor property) {
+    return new MappingException(() -> String.format("The %s is followed by further properties on a property path, "
+        + "but is not a Java Bean.", asStringWithType(property)));
   }
 
   static MappingException alreadyMappedProperty(PropertyDescriptor propertyDescriptor) {
-    return new MappingException(
-        String.format("The property '%s' in '%s' is already mapped an cannot be selected more than once.",
-            propertyDescriptor.getName(), getPropertyClass(propertyDescriptor)));
+    return new MappingException(() -> String.format("The property '%s' in '%s' is already mapped an cannot be "
+        + "selected more than once.", propertyDescriptor.getName(), getPropertyClass(propertyDescriptor)));
+  }
+
+  static MappingException alreadyMappedConstant(Enum<?> constant) {
+    return new MappingException(() -> String.format("The constant '%s' of %s is already mapped and cannot be mapped "
+        + "more than once.", constant.name(), constant.getDeclaringClass()
+            .getName()));
+  }
+
+  static MappingException unmappedConstants(Class<?> source, Class<?> destination, List<? extends Enum<?>> unmapped) {
+    List<? extends Enum<?>> constants = new ArrayList<>(unmapped);
+    return new MappingException(() -> String.format("The constants %s of %s are not mapped to constants of %s. Map "
+        + "them explicitly or declare constants of the same name.", constants, source.getName(),
+        destination.getName()));
   }
 
   static MappingException unmappedProperties(Set<PropertyDescriptor> unmapped) {
-    return new MappingException(createUnmappedMessage(unmapped));
+    Set<PropertyDescriptor> properties = new LinkedHashSet<>(unmapped);
+    return new MappingException(() -> createUnmappedMessage(properties));
   }
 
   static MappingException noMapperFound(Class<?> sourceType, Class<?> destinationType) {
-    return new MappingException(String.format("No mapper found for type mapping from %s to %s.", sourceType.getName(),
-        destinationType.getName()));
+    return new MappingException(() -> String.format("No mapper found for type mapping from %s to %s.",
+        sourceType.getName(), destinationType.getName()));
+  }
+
+  static MappingException ambiguousMappers(Class<?> sourceType, Class<?> destinationType) {
+    return new MappingException(() -> String.format("Multiple mappers found for type mapping from %s to subtypes of "
+        + "%s. Register a mapper for exactly %s to resolve the ambiguity.", sourceType.getName(),
+        destinationType.getName(), destinationType.getName()));
   }
 
   static MappingException duplicateMapper(Class<?> source, Class<?> destination) {
-    return new MappingException(String.format("A mapper mapping the type %s to type %s was already registered.",
+    return new MappingException(() -> String.format("A mapper mapping the type %s to type %s was already registered.",
         source.getName(), destination.getName()));
   }
 
+  static MappingException conversionFailed(Object value, Class<?> destinationType, Throwable cause) {
+    return new MappingException(() -> String.format("The value '%s' of type %s cannot be converted to %s.", value,
+        value.getClass()
+            .getName(),
+        destinationType.getName()), cause);
+  }
+
   static MappingException incompatiblePropertyTypes(Transformation t, PropertyDescriptor sourceProperty,
       PropertyDescriptor destinationProperty) {
-    return new MappingException(String
+    return new MappingException(() -> String
         .format("The transformation %s cannot be applied on the incompatible property types\n%s\nand %s", t.getClass()
             .getSimpleName(), asStringWithType(sourceProperty), asStringWithType(destinationProperty)));
   }
 
+  static MappingException unsupportedGenericType(Method method, Type type) {
+    return new MappingException(() -> String.format("The type argument %s of the return type of method %s cannot be "
+        + "resolved to a class. Use a replace operation to map this property.", type.getTypeName(), method));
+  }
+
   static MappingException invocationFailed(PropertyDescriptor property, Exception e) {
-    return new MappingException(String.format("Invoking access method for property %s failed.", property), e);
+    return new MappingException(() -> String.format("Invoking access method for property %s failed.", property), e);
   }
 
   static MappingException invocationTarget(PropertyDescriptor property, InvocationTargetException e) {
@@ -106,40 +219,71 @@ public class MappingException extends RuntimeException {
       // If the cause is null, set InvocationTargetException as cause.
       cause = e;
     }
-    return new MappingException(
-        String.format("An access method for property %s threw an exception.", asString(property)), e);
+    return new MappingException(() -> String.format("An access method for property %s threw an exception.",
+        asString(property)), cause);
   }
 
   static MappingException noDefaultConstructor(Class<?> type) {
-    return new MappingException(String.format(
+    return new MappingException(() -> String.format(
         "The type %s does not have a public no-args constructor and cannot be used for mapping.", type.getName()));
   }
 
   static MappingException noDefaultConstructor(Class<?> type, Exception e) {
-    return new MappingException(String.format(
+    return new MappingException(() -> String.format(
         "The type %s does not have a public no-args constructor and cannot be used for mapping.", type.getName()), e);
   }
 
   static MappingException newInstanceFailed(Class<?> type, Exception e) {
-    return new MappingException(String.format("Creating a new instance of type %s failed.", type.getName()), e);
+    return new MappingException(() -> String.format("Creating a new instance of type %s failed.", type.getName()),
+        e);
   }
 
   static MappingException unsupportedCollection(Collection<?> collection) {
-    return new MappingException(String.format(
+    return new MappingException(() -> String.format(
         "The collection '%s' is currently not supported. Only java.util.Set and java.util.List"
             + " are supported collections.",
         collection.getClass()
             .getName()));
   }
 
-  static MappingException denyReassignOnMaps(PropertyDescriptor source, PropertyDescriptor dest) {
-    return new MappingException(String
-        .format("The implicit mapping of maps is not supported. Use a replace operation for properties holding maps."
-            + " Invalid reassing was:\n%s\n->%s", asStringWithType(source), asStringWithType(dest)));
+  static MappingException denyOperationsOnCompiledMapping(Class<?> source, Class<?> destination) {
+    return new MappingException(() -> String.format("The mapping from %s to %s declares mapping operations, but is "
+        + "performed by a compiled mapping. Declare the operations in the mapping specification instead.",
+        source.getName(), destination.getName()));
+  }
+
+  static MappingException denyInverseOfCompiledMapping(Class<?> source, Class<?> destination) {
+    return new MappingException(() -> String.format("The mapping from %s to %s is performed by a compiled mapping and "
+        + "cannot be inverted. Declare a mapping specification for the opposite direction instead.", source.getName(),
+        destination.getName()));
+  }
+
+  static MappingException denyInverseOfConditionalOperation(Class<?> source, Class<?> destination,
+      Transformation transformation) {
+    return new MappingException(() -> String.format("The mapping from %s to %s cannot be inverted, because the "
+        + "condition or the default value of the following operation cannot be reversed:\n%s\nDeclare the mapping for "
+        + "the opposite direction instead.", source.getName(), destination.getName(), transformation));
+  }
+
+  static MappingException denyChangesOnCompiledMapping(Class<?> source, Class<?> destination) {
+    return new MappingException(() -> String.format("The mapping from %s to %s is performed by a compiled mapping and "
+        + "cannot map changes onto an existing object.", source.getName(), destination.getName()));
+  }
+
+  static MappingException notPoolable(Class<?> source, Class<?> destination, String reason) {
+    return new MappingException(() -> String.format("The mapping from %s to %s cannot recycle destination objects, "
+        + "because %s.", source.getName(), destination.getName(), reason));
+  }
+
+  static MappingException noInverseTransformation(PropertyDescriptor source, PropertyDescriptor destination,
+      Transformation transformation) {
+    return new MappingException(() -> String.format("The inverse mapping requires a transformation from %s to %s, "
+        + "because the mapping it was derived from performs the following operation:\n%s", asString(source),
+        asString(destination), transformation));
   }
 
   static MappingException denyMappingOfNull() {
-    return new MappingException("Mapper cannot map null object.");
+    return new MappingException(() -> "Mapper cannot map null object.");
   }
 
 }
@@ -0,0 +1,47 @@
+package com.remondis.remap;
+
+/**
+ * Describes a source object that could not be mapped by {@link Mapper#mapAll(Iterable)}.
+ *
+ * @param <S> The source type.
+ */
+public final class MappingFailure<S> {
+
+  private final int index;
+  private final S source;
+  private final RuntimeException exception;
+
+  MappingFailure(int index, S source, RuntimeException exception) {
+    this.index = index;
+    this.source = source;
+    this.exception = exception;
+  }
+
+  /**
+   * @return Returns the position of the source object in the mapped elements.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * @return Returns the source object that could not be mapped.
+   */
+  public S getSource() {
+    return source;
+  }
+
+  /**
+   * @return Returns the exception thrown while mapping the source object. A {@link MappingException} created while
+   *         mapping the batch does not provide a stack trace.
+   */
+  public RuntimeException getException() {
+    return exception;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Mapping element %d failed: %s", index, exception);
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.remondis.remap;
+
+import java.beans.PropertyDescriptor;
+
+/**
+ * Service provider interface to observe the runtime behaviour of a {@link Mapper}. A listener is registered on a
+ * {@link Mapping} using {@link Mapping#listener(MappingListener)} and is notified whenever the resulting mapper
+ * performs a mapping. If no listener is registered, the mapper does not perform any time measurement.
+ *
+ * <p>
+ * Listeners are invoked synchronously on the mapping thread, so implementations must be thread-safe and should
+ * return quickly. See {@link MappingMetrics} for a ready-to-use implementation.
+ * </p>
+ */
+public interface MappingListener {
+
+  /**
+   * Called after an invocation of one of the <code>map</code> methods of a {@link Mapper} completed successfully.
+   *
+   * @param mapper The mapper that performed the mapping.
+   * @param objects The number of objects mapped by this invocation. This is <code>1</code> for single objects and the
+   *        size of the source for collections.
+   * @param durationNanos The duration of the invocation in nanoseconds.
+   */
+  void mapped(Mapper<?, ?> mapper, int objects, long durationNanos);
+
+  /**
+   * Called after a single transformation step was performed while mapping an object. Transformation steps are the
+   * operations declared on the {@link Mapping} like <code>reassign</code> or <code>replace</code> as well as the
+   * implicit mappings of properties with equal names. Omitted properties are not reported. The duration includes
+   * reading the source value, the conversion (for example the {@link Transform} function of a <code>replace</code>
+   * operation) and writing the destination value.
+   *
+   * @param mapper The mapper that performed the transformation.
+   * @param sourceProperty The source property of the transformation. For property paths this is the last property of
+   *        the source path.
+   * @param destinationProperty The destination property of the transformation. For property paths this is the last
+   *        property of the destination path.
+   * @param destinationPath The name of the destination property or the dot-separated names of a destination path,
+   *        for example <code>address.city</code>. A destination is written by a single transformation step, so the
+   *        destination path identifies the step within a mapper.
+   * @param durationNanos The duration of the transformation step in nanoseconds.
+   */
+  default void transformed(Mapper<?, ?> mapper, PropertyDescriptor sourceProperty,
+      PropertyDescriptor destinationProperty, String destinationPath, long durationNanos) {
+  }
+
+}
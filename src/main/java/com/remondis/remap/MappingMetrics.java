@@ -0,0 +1,81 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MappingListener} collecting runtime metrics for every {@link Mapper} it is registered on. The metrics are
+ * collected per mapper and contain the number of invocations, the number of objects mapped, the total and percentile
+ * latencies as well as the time spent in every transformation step. A single instance can be shared by any number of
+ * mappings:
+ *
+ * <pre>
+ * MappingMetrics metrics = new MappingMetrics();
+ * Mapper&lt;Customer, Person&gt; mapper = Mapping.from(Customer.class)
+ *     .to(Person.class)
+ *     .listener(metrics)
+ *     .mapper();
+ * ...
+ * MapperStatistics statistics = metrics.getStatistics(mapper);
+ * </pre>
+ */
+public class MappingMetrics implements MappingListener {
+
+  private final Map<Mapper<?, ?>, MapperStatistics> statistics = new ConcurrentHashMap<>();
+
+  @Override
+  public void mapped(Mapper<?, ?> mapper, int objects, long durationNanos) {
+    statisticsFor(mapper).recordInvocation(objects, durationNanos);
+  }
+
+  @Override
+  public void transformed(Mapper<?, ?> mapper, PropertyDescriptor sourceProperty,
+      PropertyDescriptor destinationProperty, String destinationPath, long durationNanos) {
+    statisticsFor(mapper).recordTransformation(sourceProperty, destinationProperty, destinationPath, durationNanos);
+  }
+
+  private MapperStatistics statisticsFor(Mapper<?, ?> mapper) {
+    MapperStatistics mapperStatistics = statistics.get(mapper);
+    if (mapperStatistics == null) {
+      mapperStatistics = statistics.computeIfAbsent(mapper, MapperStatistics::new);
+    }
+    return mapperStatistics;
+  }
+
+  /**
+   * Returns the statistics collected for the specified mapper.
+   *
+   * @param mapper The mapper.
+   * @return Returns the {@link MapperStatistics} of the specified mapper. If the mapper was not invoked yet, empty
+   *         statistics are returned.
+   */
+  public MapperStatistics getStatistics(Mapper<?, ?> mapper) {
+    denyNull("mapper", mapper);
+    MapperStatistics mapperStatistics = statistics.get(mapper);
+    return (mapperStatistics == null) ? new MapperStatistics(mapper) : mapperStatistics;
+  }
+
+  /**
+   * @return Returns an unmodifiable view on the statistics of all mappers that were invoked so far.
+   */
+  public Map<Mapper<?, ?>, MapperStatistics> getStatistics() {
+    return Collections.unmodifiableMap(statistics);
+  }
+
+  /**
+   * Discards all collected statistics.
+   */
+  public void reset() {
+    statistics.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "MappingMetrics [statistics=" + statistics.values() + "]";
+  }
+
+}
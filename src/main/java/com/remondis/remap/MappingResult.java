@@ -0,0 +1,52 @@
+package com.remondis.remap;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of an error-collecting batch performed by {@link Mapper#mapAll(Iterable)}. The result holds the
+ * destination objects of all source objects that were mapped successfully and a {@link MappingFailure} for every
+ * source object that could not be mapped.
+ *
+ * @param <S> The source type.
+ * @param <D> The destination type.
+ */
+public final class MappingResult<S, D> {
+
+  private final List<D> results;
+  private final List<MappingFailure<S>> failures;
+
+  MappingResult(List<D> results, List<MappingFailure<S>> failures) {
+    this.results = Collections.unmodifiableList(results);
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /**
+   * @return Returns the destination objects of the source objects that were mapped successfully in the order of the
+   *         source objects.
+   */
+  public List<D> getResults() {
+    return results;
+  }
+
+  /**
+   * @return Returns the failures in the order of the source objects.
+   */
+  public List<MappingFailure<S>> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return Returns <code>true</code> if at least one source object could not be mapped, otherwise
+   *         <code>false</code> is returned.
+   */
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MappingResult [results=%d, failures=%d]", results.size(), failures.size());
+  }
+
+}
@@ -0,0 +1,180 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Properties.asString;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A replace transformation computing the value of a destination property from the values of two or three source
+ * properties by applying a transform function on the source values. The source values are read once and passed to the
+ * function directly, so this transformation performs the whole conversion in {@link #readValue(Object, Object)}. If one
+ * of the source values is <code>null</code>, a declared default value is written instead of invoking the function.
+ */
+class MultiReplaceTransformation extends SkipWhenNullTransformation {
+
+  private static final String REPLACE_MSG = "Replacing %s\n           with %s using transformation";
+  private static final String REPLACE_SKIPPED_MSG = "Replacing but skipping when null %s\n"
+      + "           with %s using transformation";
+
+  private final PropertyDescriptor[] sourceProperties;
+  private final Method[] readMethods;
+  private final BiTransform<Object, Object, Object> biTransformation;
+  private final TriTransform<Object, Object, Object, Object> triTransformation;
+  private final boolean skipWhenNull;
+
+  /**
+   * @param mapping The mapping.
+   * @param sourceProperties The two source properties in the order of the function arguments.
+   * @param destProperty The destination property.
+   * @param transformation The function receiving the source values in the order of the source properties or
+   *        <code>null</code> if only the null strategy is specified.
+   * @param skipWhenNull If <code>true</code> the function is not invoked if any source value is <code>null</code>.
+   */
+  @SuppressWarnings("unchecked")
+  MultiReplaceTransformation(Mapping<?, ?> mapping, List<PropertyDescriptor> sourceProperties,
+      PropertyDescriptor destProperty, BiTransform<?, ?, ?> transformation, boolean skipWhenNull) {
+    this(mapping, sourceProperties, destProperty, (BiTransform<Object, Object, Object>) transformation, null,
+        skipWhenNull);
+  }
+
+  /**
+   * @param mapping The mapping.
+   * @param sourceProperties The three source properties in the order of the function arguments.
+   * @param destProperty The destination property.
+   * @param transformation The function receiving the source values in the order of the source properties or
+   *        <code>null</code> if only the null strategy is specified.
+   * @param skipWhenNull If <code>true</code> the function is not invoked if any source value is <code>null</code>.
+   */
+  @SuppressWarnings("unchecked")
+  MultiReplaceTransformation(Mapping<?, ?> mapping, List<PropertyDescriptor> sourceProperties,
+      PropertyDescriptor destProperty, TriTransform<?, ?, ?, ?> transformation, boolean skipWhenNull) {
+    this(mapping, sourceProperties, destProperty, null, (TriTransform<Object, Object, Object, Object>) transformation,
+        skipWhenNull);
+  }
+
+  private MultiReplaceTransformation(Mapping<?, ?> mapping, List<PropertyDescriptor> sourceProperties,
+      PropertyDescriptor destProperty, BiTransform<Object, Object, Object> biTransformation,
+      TriTransform<Object, Object, Object, Object> triTransformation, boolean skipWhenNull) {
+    super(mapping, sourceProperties.get(0), destProperty);
+    this.sourceProperties = sourceProperties.toArray(new PropertyDescriptor[sourceProperties.size()]);
+    this.readMethods = new Method[this.sourceProperties.length];
+    for (int i = 0; i < this.sourceProperties.length; i++) {
+      readMethods[i] = this.sourceProperties[i].getReadMethod();
+      readMethods[i].setAccessible(true);
+    }
+    this.biTransformation = biTransformation;
+    this.triTransformation = triTransformation;
+    this.skipWhenNull = skipWhenNull;
+  }
+
+  @Override
+  Object readValue(Object source, Object context) throws MappingException {
+    // The source values are passed to the function as arguments, so no array is created per mapping.
+    Object first = invokeOrFail(sourceProperties[0], readMethods[0], source);
+    Object second = invokeOrFail(sourceProperties[1], readMethods[1], source);
+    if (sourceProperties.length == 2) {
+      if ((first == null || second == null) && (skipWhenNull || hasDefault())) {
+        return defaultOrSkip();
+      }
+      return biTransformation.transform(first, second);
+    }
+    Object third = invokeOrFail(sourceProperties[2], readMethods[2], source);
+    if ((first == null || second == null || third == null) && (skipWhenNull || hasDefault())) {
+      return defaultOrSkip();
+    }
+    return triTransformation.transform(first, second, third);
+  }
+
+  private Object defaultOrSkip() {
+    return hasDefault() ? getDefault() : SKIP;
+  }
+
+  /**
+   * Not invoked, because {@link #readValue(Object, Object)} reads and transforms the source values at once. There is no
+   * single source value to transform.
+   */
+  @Override
+  Object transformValue(Object sourceValue, Object context) throws MappingException {
+    throw new UnsupportedOperationException("The source values of a multi-source replace are transformed on read.");
+  }
+
+  /**
+   * Denies selecting the same source property more than once, because the function would receive the same value twice.
+   */
+  @Override
+  protected void validateTransformation() throws MappingException {
+    for (int i = 1; i < sourceProperties.length; i++) {
+      for (int j = 0; j < i; j++) {
+        if (sourceProperties[i].equals(sourceProperties[j])) {
+          throw MappingException.alreadyMappedProperty(sourceProperties[i]);
+        }
+      }
+    }
+  }
+
+  @Override
+  Collection<String> getSourceNames() {
+    List<String> names = new ArrayList<>(sourceProperties.length);
+    for (PropertyDescriptor property : sourceProperties) {
+      names.add(property.getName());
+    }
+    return names;
+  }
+
+  PropertyDescriptor[] getSourceProperties() {
+    return sourceProperties;
+  }
+
+  @Override
+  Object transformNull() {
+    if (biTransformation != null) {
+      return biTransformation.transform(null, null);
+    } else {
+      return triTransformation.transform(null, null, null);
+    }
+  }
+
+  @Override
+  boolean isSkipWhenNull() {
+    return skipWhenNull;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + Arrays.hashCode(sourceProperties);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!super.equals(obj)) {
+      return false;
+    }
+    MultiReplaceTransformation other = (MultiReplaceTransformation) obj;
+    return Arrays.equals(sourceProperties, other.sourceProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sources = new StringBuilder();
+    for (PropertyDescriptor property : sourceProperties) {
+      if (sources.length() > 0) {
+        sources.append(", ");
+      }
+      sources.append(asString(property));
+    }
+    if (skipWhenNull) {
+      return String.format(REPLACE_SKIPPED_MSG, sources, asString(destinationProperty));
+    } else {
+      return String.format(REPLACE_MSG, sources, asString(destinationProperty));
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Creates the reflection and serialization metadata GraalVM native-image requires for a set of mappers. Mappers
+ * access the properties of the mapped types reflectively and resolve method reference selectors from their serialized
+ * form. In a closed-world image, the involved types must be registered at image build time.
+ *
+ * <p>
+ * Create the configuration for all mappers of an application, for example in a test, and write it to a directory
+ * picked up by native-image like <code>src/main/resources/META-INF/native-image/&lt;group&gt;/&lt;artifact&gt;</code>:
+ * </p>
+ *
+ * <pre>
+ * NativeImageConfiguration.of(personMapper, addressMapper)
+ *     .writeTo(directory);
+ * </pre>
+ *
+ * <p>
+ * Nested mappers registered with {@link Mapping#useMapper(Mapper)} are included automatically.
+ * </p>
+ */
+public final class NativeImageConfiguration {
+
+  static final String REFLECT_CONFIG = "reflect-config.json";
+  static final String SERIALIZATION_CONFIG = "serialization-config.json";
+
+  private final Set<Mapper<?, ?>> mappers = new LinkedHashSet<>();
+  private final Set<String> types = new TreeSet<>();
+  private final Set<String> capturingTypes = new TreeSet<>();
+
+  private NativeImageConfiguration() {
+  }
+
+  /**
+   * Creates the configuration for the specified mappers.
+   *
+   * @param mappers The mappers.
+   * @return Returns the configuration.
+   */
+  public static NativeImageConfiguration of(Mapper<?, ?>... mappers) {
+    NativeImageConfiguration configuration = new NativeImageConfiguration();
+    for (Mapper<?, ?> mapper : mappers) {
+      configuration.add(mapper);
+    }
+    return configuration;
+  }
+
+  /**
+   * Adds the types used by the specified mapper and its nested mappers to this configuration.
+   *
+   * @param mapper The mapper.
+   * @return Returns this object for method chaining.
+   */
+  public NativeImageConfiguration add(Mapper<?, ?> mapper) {
+    denyNull("mapper", mapper);
+    if (mappers.add(mapper)) {
+      Mapping<?, ?> mapping = mapper.getMapping();
+      types.add(mapping.getSource()
+          .getName());
+      types.add(mapping.getDestination()
+          .getName());
+      capturingTypes.addAll(mapping.getSelectorCapturingTypes());
+      for (Mapper<?, ?> nested : mapping.getMappers()) {
+        add(nested);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @return Returns the content of the <code>reflect-config.json</code> registering the constructors and methods of
+   *         all mapped types.
+   */
+  public String getReflectionConfiguration() {
+    StringBuilder json = new StringBuilder("[\n");
+    Iterator<String> it = types.iterator();
+    while (it.hasNext()) {
+      json.append("  {\n")
+          .append("    \"name\" : \"")
+          .append(it.next())
+          .append("\",\n")
+          .append("    \"allPublicConstructors\" : true,\n")
+          .append("    \"allPublicMethods\" : true\n")
+          .append("  }")
+          .append(it.hasNext() ? ",\n" : "\n");
+    }
+    return json.append("]\n")
+        .toString();
+  }
+
+  /**
+   * @return Returns the content of the <code>serialization-config.json</code> registering the classes declaring
+   *         selectors for lambda serialization.
+   */
+  public String getSerializationConfiguration() {
+    StringBuilder json = new StringBuilder("{\n  \"types\" : [],\n  \"lambdaCapturingTypes\" : [\n");
+    Iterator<String> it = capturingTypes.iterator();
+    while (it.hasNext()) {
+      json.append("    { \"name\" : \"")
+          .append(it.next())
+          .append("\" }")
+          .append(it.hasNext() ? ",\n" : "\n");
+    }
+    return json.append("  ]\n}\n")
+        .toString();
+  }
+
+  /**
+   * Writes the files <code>reflect-config.json</code> and <code>serialization-config.json</code> to the specified
+   * directory.
+   *
+   * @param directory The target directory. The directory is created if it does not exist.
+   * @throws IOException Thrown if the files cannot be written.
+   */
+  public void writeTo(Path directory) throws IOException {
+    denyNull("directory", directory);
+    Files.createDirectories(directory);
+    Files.write(directory.resolve(REFLECT_CONFIG), getReflectionConfiguration().getBytes(StandardCharsets.UTF_8));
+    Files.write(directory.resolve(SERIALIZATION_CONFIG), getSerializationConfiguration()
+        .getBytes(StandardCharsets.UTF_8));
+  }
+
+}
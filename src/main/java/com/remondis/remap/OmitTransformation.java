@@ -4,6 +4,8 @@ import static com.remondis.remap.Lang.denyNull;
 import static com.remondis.remap.Properties.asString;
 
 import java.beans.PropertyDescriptor;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * The omit transformation marks a property as omitted.
@@ -47,7 +49,29 @@ class OmitTransformation extends Transformation {
 
   @Override
   protected void performTransformation(PropertyDescriptor sourceProperty, Object source,
-      PropertyDescriptor destinationProperty, Object destination) throws MappingException {
+      PropertyDescriptor destinationProperty, Object destination, Object context) throws MappingException {
+  }
+
+  @Override
+  boolean performChange(Object source, Object destination, Object context) throws MappingException {
+    return false;
+  }
+
+  @Override
+  Object readRecycledValue(Object source, Object destination, Object context) throws MappingException {
+    // Omitted destination properties are reset on recycled destination objects.
+    return SKIP;
+  }
+
+  @Override
+  Collection<String> getSourceNames() {
+    // Omitted properties do not affect the destination.
+    return Collections.emptySet();
+  }
+
+  @Override
+  Object transformValue(Object sourceValue, Object context) throws MappingException {
+    return SKIP;
   }
 
   @Override
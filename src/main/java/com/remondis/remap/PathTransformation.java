@@ -0,0 +1,188 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Properties.getPropertyClass;
+import static com.remondis.remap.ReflectionUtil.newInstance;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The path transformation reassigns a property of a nested bean in the source to a property of a nested bean in the
+ * destination. Each side is specified as a path of properties, where a single property is a path of length one.
+ * Reading a source path stops at the first <code>null</code> value, in this case the destination is not written.
+ * Writing a destination path creates the missing beans on the path using their no-args constructors.
+ *
+ * <p>
+ * The get- and set-methods of the paths are resolved when the transformation is created, so mapping only invokes the
+ * methods one after another.
+ * </p>
+ */
+class PathTransformation extends ReassignTransformation {
+
+  private static final String REASSIGNING_MSG = "Reassigning %s\n           to %s";
+
+  private final PropertyDescriptor[] sourcePath;
+  private final PropertyDescriptor[] destinationPath;
+
+  private final Method[] sourceReadMethods;
+  private final Method[] destinationReadMethods;
+  private final Method[] destinationWriteMethods;
+
+  private final String destinationName;
+
+  PathTransformation(Mapping<?, ?> mapping, List<PropertyDescriptor> sourcePath,
+      List<PropertyDescriptor> destinationPath) {
+    super(mapping, last(sourcePath), last(destinationPath));
+    this.sourcePath = sourcePath.toArray(new PropertyDescriptor[sourcePath.size()]);
+    this.destinationPath = destinationPath.toArray(new PropertyDescriptor[destinationPath.size()]);
+    this.sourceReadMethods = new Method[this.sourcePath.length];
+    for (int i = 0; i < this.sourcePath.length; i++) {
+      sourceReadMethods[i] = accessible(this.sourcePath[i].getReadMethod());
+    }
+    this.destinationReadMethods = new Method[this.destinationPath.length];
+    this.destinationWriteMethods = new Method[this.destinationPath.length];
+    for (int i = 0; i < this.destinationPath.length; i++) {
+      destinationReadMethods[i] = accessible(this.destinationPath[i].getReadMethod());
+      destinationWriteMethods[i] = accessible(this.destinationPath[i].getWriteMethod());
+    }
+    this.destinationName = names(this.destinationPath).toString();
+  }
+
+  @Override
+  Object readValue(Object source, Object context) throws MappingException {
+    Object value = source;
+    for (int i = 0; i < sourcePath.length && value != null; i++) {
+      value = invokeOrFail(sourcePath[i], sourceReadMethods[i], value);
+    }
+    return transformOrDefault(value, context);
+  }
+
+  @Override
+  Object readDestinationValue(Object destination) throws MappingException {
+    // Missing beans on the path are treated like a null value.
+    Object value = destination;
+    for (int i = 0; i < destinationPath.length && value != null; i++) {
+      value = invokeOrFail(destinationPath[i], destinationReadMethods[i], value);
+    }
+    return value;
+  }
+
+  @Override
+  void writeValue(Object destination, Object value) {
+    Object target = destination;
+    int last = destinationPath.length - 1;
+    for (int i = 0; i < last; i++) {
+      Object next = invokeOrFail(destinationPath[i], destinationReadMethods[i], target);
+      if (next == null) {
+        next = newInstance(destinationPath[i].getPropertyType());
+        invokeOrFail(destinationPath[i], destinationWriteMethods[i], target, next);
+      }
+      target = next;
+    }
+    invokeOrFail(destinationPath[last], destinationWriteMethods[last], target, value);
+  }
+
+  @Override
+  protected void validateTransformation() throws MappingException {
+    super.validateTransformation();
+    // The beans on the destination path are created on demand.
+    for (int i = 0; i < destinationPath.length - 1; i++) {
+      denyNotInstantiable(destinationPath[i].getPropertyType());
+    }
+  }
+
+  private static void denyNotInstantiable(Class<?> type) {
+    try {
+      if (Modifier.isAbstract(type.getModifiers()) || !Modifier.isPublic(type.getConstructor()
+          .getModifiers())) {
+        throw MappingException.noDefaultConstructor(type);
+      }
+    } catch (NoSuchMethodException e) {
+      throw MappingException.noDefaultConstructor(type, e);
+    }
+  }
+
+  @Override
+  boolean performNested(Object source, Object destination, Set<String> changedProperties, Object context) {
+    // Paths are read and written as a whole.
+    return false;
+  }
+
+  @Override
+  Collection<String> getSourceNames() {
+    return Collections.singleton(sourcePath[0].getName());
+  }
+
+  @Override
+  String getDestinationName() {
+    return destinationName;
+  }
+
+  PropertyDescriptor[] getSourcePath() {
+    return sourcePath;
+  }
+
+  PropertyDescriptor[] getDestinationPath() {
+    return destinationPath;
+  }
+
+  private static Method accessible(Method method) {
+    method.setAccessible(true);
+    return method;
+  }
+
+  private static PropertyDescriptor last(List<PropertyDescriptor> path) {
+    return path.get(path.size() - 1);
+  }
+
+  private static StringBuilder names(PropertyDescriptor[] path) {
+    StringBuilder names = new StringBuilder();
+    for (PropertyDescriptor property : path) {
+      if (names.length() > 0) {
+        names.append('.');
+      }
+      names.append(property.getName());
+    }
+    return names;
+  }
+
+  static String asString(PropertyDescriptor[] path) {
+    return String.format("Property '%s' in %s", names(path), getPropertyClass(path[0]));
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + Arrays.hashCode(destinationPath);
+    result = prime * result + Arrays.hashCode(sourcePath);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    PathTransformation other = (PathTransformation) obj;
+    return Arrays.equals(destinationPath, other.destinationPath) && Arrays.equals(sourcePath, other.sourcePath);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(REASSIGNING_MSG, asString(sourcePath), asString(destinationPath));
+  }
+
+}
@@ -4,10 +4,10 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Util class to get a list of all properties of a class.
@@ -17,26 +17,37 @@ import java.util.stream.Collectors;
 class Properties {
 
   /**
-   * A readable string representation for a {@link PropertyDescriptor}.
+   * Caches the properties with read and write access per type, indexed by property name.
+   */
+  private static final ClassValue<Map<String, PropertyDescriptor>> PROPERTY_INDEX = new ClassValue<Map<String,
+      PropertyDescriptor>>() {
+    @Override
+    protected Map<String, PropertyDescriptor> computeValue(Class<?> type) {
+      return introspect(type);
+    }
+  };
+
+  /**
+   * A readable string representation for a {@link PropertyDescriptor}. Used to format messages on demand, so the
+   * string is concatenated directly instead of parsing a format string.
    *
    * @param pd The pd
    * @return Returns a readable string.
    */
   static String asStringWithType(PropertyDescriptor pd) {
-    String sourceClassname = Properties.getPropertyClass(pd);
-    return String.format("Property '%s' (%s) in %s", pd.getName(), pd.getPropertyType()
-        .getName(), sourceClassname);
+    return "Property '" + pd.getName() + "' (" + pd.getPropertyType()
+        .getName() + ") in " + getPropertyClass(pd);
   }
 
   /**
-   * A readable string representation for a {@link PropertyDescriptor}.
+   * A readable string representation for a {@link PropertyDescriptor}. Used to format messages on demand, so the
+   * string is concatenated directly instead of parsing a format string.
    *
    * @param pd The pd
    * @return Returns a readable string.
    */
   static String asString(PropertyDescriptor pd) {
-    String sourceClassname = Properties.getPropertyClass(pd);
-    return String.format("Property '%s' in %s", pd.getName(), sourceClassname);
+    return "Property '" + pd.getName() + "' in " + getPropertyClass(pd);
   }
 
   /**
@@ -76,23 +87,30 @@ class Properties {
   }
 
   /**
-   * Returns a {@link Set} of properties with read and write access.
+   * Returns the properties with read and write access indexed by property name. The index is computed once per type.
    *
    * @param inspectType The type to inspect.
-   * @return Returns the list of {@link PropertyDescriptor}s that grant read and write access.
+   * @return Returns an unmodifiable map of property names to the {@link PropertyDescriptor}s that grant read and write
+   *         access.
    * @throws MappingException Thrown on any introspection error.
    */
-  static Set<PropertyDescriptor> getProperties(Class<?> inspectType) {
+  static Map<String, PropertyDescriptor> getPropertyIndex(Class<?> inspectType) {
+    return PROPERTY_INDEX.get(inspectType);
+  }
+
+  private static Map<String, PropertyDescriptor> introspect(Class<?> inspectType) {
     try {
       BeanInfo beanInfo = Introspector.getBeanInfo(inspectType);
       PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-      return new HashSet<>(Arrays.asList(propertyDescriptors)
-          .stream()
-          .filter(Properties::hasGetter)
-          .filter(Properties::hasSetter)
-          .collect(Collectors.toList()));
+      Map<String, PropertyDescriptor> index = new LinkedHashMap<>();
+      for (PropertyDescriptor pd : propertyDescriptors) {
+        if (hasGetter(pd) && hasSetter(pd)) {
+          index.put(pd.getName(), pd);
+        }
+      }
+      return Collections.unmodifiableMap(index);
     } catch (IntrospectionException e) {
-      throw new MappingException(String.format("Cannot introspect the type %s.", inspectType.getName()));
+      throw new MappingException(() -> "Cannot introspect the type " + inspectType.getName() + ".", e);
     }
   }
 
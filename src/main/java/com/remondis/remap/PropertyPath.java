@@ -0,0 +1,66 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Selects a property of a nested bean by a chain of get-method invocations, for example the city of the address of
+ * the customer of an order:
+ *
+ * <pre>
+ * PropertyPath.of(Order::getCustomer)
+ *     .then(Customer::getAddress)
+ *     .then(Address::getCity)
+ * </pre>
+ *
+ * <p>
+ * A path can be used as source of a reassign operation to flatten a nested property, or as destination to unflatten
+ * a property into nested beans. See {@link Mapping#reassignPath(PropertyPath)} and
+ * {@link ReassignBuilder#toPath(PropertyPath)} for details.
+ * </p>
+ *
+ * @param <T> The type declaring the first property of the path.
+ * @param <R> The type of the last property of the path.
+ */
+public final class PropertyPath<T, R> {
+
+  private final List<TypedSelector<?, ?>> selectors;
+
+  private PropertyPath(List<TypedSelector<?, ?>> selectors) {
+    this.selectors = selectors;
+  }
+
+  /**
+   * Starts a path with the specified selector.
+   *
+   * @param selector The {@link TypedSelector} selecting the first property of the path.
+   * @return Returns a new {@link PropertyPath}.
+   */
+  public static <T, R> PropertyPath<T, R> of(TypedSelector<R, T> selector) {
+    denyNull("selector", selector);
+    List<TypedSelector<?, ?>> selectors = new LinkedList<>();
+    selectors.add(selector);
+    return new PropertyPath<>(selectors);
+  }
+
+  /**
+   * Appends a property of the bean selected by this path.
+   *
+   * @param selector The {@link TypedSelector} selecting the next property on the bean selected by this path.
+   * @return Returns a new {@link PropertyPath} selecting the next property.
+   */
+  public <N> PropertyPath<T, N> then(TypedSelector<N, R> selector) {
+    denyNull("selector", selector);
+    List<TypedSelector<?, ?>> next = new LinkedList<>(selectors);
+    next.add(selector);
+    return new PropertyPath<>(next);
+  }
+
+  List<TypedSelector<?, ?>> getSelectors() {
+    return Collections.unmodifiableList(selectors);
+  }
+
+}
@@ -1,27 +1,92 @@
 package com.remondis.remap;
 
 import static com.remondis.remap.Lang.denyNull;
-import static com.remondis.remap.Mapping.getTypedPropertyFromFieldSelector;
 
 import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class ReassignBuilder<S, D, RS> {
 
   static final String ASSIGN = "assign";
 
-  private TypedPropertyDescriptor<RS> typedSourceProperty;
+  /**
+   * The source property or the path to the nested source property.
+   */
+  private List<PropertyDescriptor> sourcePath;
 
   private Mapping<S, D> mapping;
 
   private Class<D> destination;
 
-  ReassignBuilder(TypedPropertyDescriptor<RS> typedSourceProperty, Class<D> destination, Mapping<S, D> mapping) {
+  /**
+   * The condition on the source object or <code>null</code> if the operation is performed unconditionally.
+   */
+  private Predicate<? super S> condition;
+
+  /**
+   * The value written to the destination if the source value is <code>null</code> or <code>null</code>.
+   */
+  private Object defaultValue;
+
+  /**
+   * The supplier of the value written to the destination if the source value is <code>null</code> or
+   * <code>null</code>.
+   */
+  private Supplier<?> defaultSupplier;
+
+  ReassignBuilder(List<PropertyDescriptor> sourcePath, Class<D> destination, Mapping<S, D> mapping) {
     super();
-    this.typedSourceProperty = typedSourceProperty;
+    this.sourcePath = sourcePath;
     this.mapping = mapping;
     this.destination = destination;
   }
 
+  /**
+   * Performs this operation only if the source object meets the specified condition. If the condition is not met, the
+   * source property is not read and the destination property is not written. The condition cannot be reversed, so
+   * {@link Mapping#inverse()} denies mappings declaring it.
+   *
+   * @param condition The condition on the source object.
+   * @return Returns this object for further configuration.
+   */
+  public ReassignBuilder<S, D, RS> when(Predicate<? super S> condition) {
+    denyNull("condition", condition);
+    this.condition = condition;
+    return this;
+  }
+
+  /**
+   * Writes the specified value to the destination property if the source value is <code>null</code>. The default
+   * value cannot be reversed, so {@link Mapping#inverse()} denies mappings declaring it.
+   *
+   * @param defaultValue The value to write for <code>null</code> source values.
+   * @return Returns this object for further configuration.
+   */
+  public ReassignBuilder<S, D, RS> withDefault(RS defaultValue) {
+    denyNull("defaultValue", defaultValue);
+    this.defaultValue = defaultValue;
+    this.defaultSupplier = null;
+    return this;
+  }
+
+  /**
+   * Writes the value supplied by the specified supplier to the destination property if the source value is
+   * <code>null</code>. Use this method for mutable default values that must not be shared between destination
+   * objects. The default value cannot be reversed, so {@link Mapping#inverse()} denies mappings declaring it.
+   *
+   * @param defaultSupplier The supplier of the value to write for <code>null</code> source values.
+   * @return Returns this object for further configuration.
+   */
+  public ReassignBuilder<S, D, RS> orElse(Supplier<? extends RS> defaultSupplier) {
+    denyNull("defaultSupplier", defaultSupplier);
+    this.defaultValue = null;
+    this.defaultSupplier = defaultSupplier;
+    return this;
+  }
+
   /**
    * Reassings a source field to the specified destination field.
    *
@@ -32,13 +97,40 @@ public class ReassignBuilder<S, D, RS> {
    */
   public Mapping<S, D> to(TypedSelector<RS, D> destinationSelector) {
     denyNull("destinationSelector", destinationSelector);
-    TypedPropertyDescriptor<RS> typedDestProperty = getTypedPropertyFromFieldSelector(ASSIGN, destination,
+    TypedPropertyDescriptor<RS> typedDestProperty = mapping.senseTypedProperty(ASSIGN, destination,
         destinationSelector);
-    PropertyDescriptor sourceProperty = typedSourceProperty.property;
     PropertyDescriptor destinationProperty = typedDestProperty.property;
-    ReassignTransformation transformation = new ReassignTransformation(mapping, sourceProperty, destinationProperty);
-    mapping.addMapping(sourceProperty, destinationProperty, transformation);
+    if (sourcePath.size() == 1) {
+      PropertyDescriptor sourceProperty = sourcePath.get(0);
+      ReassignTransformation transformation = new ReassignTransformation(mapping, sourceProperty,
+          destinationProperty);
+      configure(transformation);
+      mapping.addMapping(sourceProperty, destinationProperty, transformation);
+    } else {
+      configure(mapping.addPathMapping(sourcePath, Collections.singletonList(destinationProperty)));
+    }
+    return mapping;
+  }
+
+  /**
+   * Reassigns a source field to a property of a nested bean in the destination. The beans on the path are created if
+   * they are <code>null</code> when the value is written. If the source value is <code>null</code>, the destination is
+   * not touched.
+   *
+   * @param destinationPath
+   *        {@link PropertyPath} selecting the nested destination property.
+   *
+   * @return Returns the {@link Mapping} for further mapping configuration.
+   */
+  public Mapping<S, D> toPath(PropertyPath<D, RS> destinationPath) {
+    denyNull("destinationPath", destinationPath);
+    configure(mapping.addPathMapping(sourcePath, mapping.sensePath(ASSIGN, destination, destinationPath)));
     return mapping;
   }
 
+  private void configure(Transformation transformation) {
+    transformation.setCondition(condition);
+    transformation.setDefault(defaultValue, defaultSupplier);
+  }
+
 }
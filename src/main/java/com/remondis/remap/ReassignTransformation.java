@@ -2,18 +2,33 @@ package com.remondis.remap;
 
 import static com.remondis.remap.Properties.asString;
 import static com.remondis.remap.ReflectionUtil.getCollector;
+import static com.remondis.remap.ReflectionUtil.newMap;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collector;
 
 /**
  * The reassing operation maps a field to another field while the field names may differ. A reassign operation is only
- * allowed on fields of the same type.
+ * allowed on fields of the same type or of types having a built-in conversion, see {@link Conversions}.
  *
  * @author schuettec
  */
@@ -21,68 +36,356 @@ public class ReassignTransformation extends Transformation {
 
   private static final String REASSIGNING_MSG = "Reassigning %s\n           to %s";
 
+  /**
+   * Selects the mapper for nested values by their runtime type or <code>null</code> if the values are copied by
+   * reference. Initialized on validation.
+   */
+  private MapperDispatcher dispatcher;
+
+  /**
+   * The built-in conversion of the values or <code>null</code> if the values are not converted. See
+   * {@link Conversions}.
+   */
+  private final Function<Object, Object> conversion;
+
+  /**
+   * Selects the mapper for the keys of maps or <code>null</code> if the keys are copied by reference. Initialized on
+   * validation.
+   */
+  private MapperDispatcher keyDispatcher;
+
+  /**
+   * The key type of the destination map or <code>null</code> if this transformation does not map maps. Initialized on
+   * validation.
+   */
+  private Class<?> destinationKeyType;
+
   ReassignTransformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty,
       PropertyDescriptor destinationProperty) {
     super(mapping, sourceProperty, destinationProperty);
-    denyDifferentPrimitiveTypes(getSourceType(), getDestinationType());
+    this.conversion = Conversions.find(getSourceType(), getDestinationType());
+    if (conversion == null) {
+      denyDifferentPrimitiveTypes(getSourceType(), getDestinationType());
+    }
   }
 
   @Override
-  protected void performTransformation(PropertyDescriptor sourceProperty, Object source,
-      PropertyDescriptor destinationProperty, Object destination) throws MappingException {
-    Object sourceValue = readOrFail(sourceProperty, source);
+  Object transformValue(Object sourceValue, Object context) throws MappingException {
     // Only if the source value is not null we have to perform the mapping
-    if (sourceValue != null) {
-      Object destinationValue = null;
+    if (sourceValue == null) {
+      return SKIP;
+    }
+    // Primitive types can be set without any conversion, because we checked type
+    // compatibility before.
+    if (isCollection(getSourceType())) {
+      return convertCollection(sourceValue, context, this::convertValue);
+    } else if (isMap(getSourceType())) {
+      return convertMap((Map<?, ?>) sourceValue, context);
+    } else if (getSourceType().isArray()) {
+      return convertArray(sourceValue, getDestinationType(), context);
+    } else {
+      return convertValue(sourceValue, context);
+    }
+  }
 
-      Class<?> sourceType = getSourceType();
-      Class<?> destinationType = getDestinationType();
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  @Override
+  boolean performNested(Object source, Object destination, Set<String> changedProperties, Object context) {
+    Class<?> sourceType = getSourceType();
+    if (dispatcher == null || conversion != null || isCollection(sourceType) || isMap(sourceType)
+        || sourceType.isArray()) {
+      return false;
+    }
+    Object sourceValue = readOrFail(sourceProperty, source);
+    Object destinationValue = readDestinationValue(destination);
+    if (sourceValue == null || destinationValue == null) {
+      return false;
+    }
+    Mapping nestedMapping = dispatcher.getMapper(sourceValue.getClass())
+        .getMapping();
+    // The nested object is replaced if the mapper creates objects of another type or does not consist of steps.
+    if (nestedMapping.isCompiled() || !destinationValue.getClass()
+        .equals(nestedMapping.getDestination())) {
+      return false;
+    }
+    nestedMapping.mapIncremental(sourceValue, destinationValue, changedProperties, context);
+    return true;
+  }
 
-      // Primitive types can be set without any conversion, because we checked type
-      // compatibility before.
-      if (isCollection(sourceType)) {
-        Class<?> sourceCollectionType = findGenericTypeFromMethod(sourceProperty.getReadMethod());
-        Class<?> destinationCollectionType = findGenericTypeFromMethod(destinationProperty.getReadMethod());
-        destinationValue = convertCollection(sourceValue, sourceCollectionType, destinationCollectionType);
-      } else {
-        destinationValue = convertValue(sourceValue, sourceType, destinationType);
+  /**
+   * Reuses the value held by a recycled destination object instead of creating a new value: Nested objects are
+   * recycled by their mapper, lists are refilled element by element, sets and maps of the implementation a new set or
+   * map would be are cleared and refilled and arrays of the same length are refilled in place.
+   */
+  @Override
+  Object readRecycledValue(Object source, Object destination, Object context) throws MappingException {
+    Class<?> sourceType = getSourceType();
+    if (conversion != null || (dispatcher == null && !isCollection(sourceType) && !isMap(sourceType)
+        && !sourceType.isArray())) {
+      return super.readRecycledValue(source, destination, context);
+    }
+    Object sourceValue = readOrFail(sourceProperty, source);
+    if (sourceValue == null) {
+      return transformOrDefault(null, context);
+    }
+    Object current = readDestinationValue(destination);
+    if (current == null) {
+      return transformValue(sourceValue, context);
+    } else if (isCollection(sourceType)) {
+      return recycleCollection((Collection<?>) sourceValue, current, context);
+    } else if (isMap(sourceType)) {
+      return recycleMap((Map<?, ?>) sourceValue, current, context);
+    } else if (sourceType.isArray()) {
+      return recycleArray(sourceValue, current, getDestinationType(), context);
+    } else {
+      return recycleEntry(dispatcher, sourceValue, current, context);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object recycleCollection(Collection<?> sourceCollection, Object current, Object context) {
+    if (sourceCollection instanceof Set && current.getClass() == HashSet.class) {
+      Collection<Object> set = (Collection<Object>) current;
+      set.clear();
+      for (Object item : sourceCollection) {
+        set.add(isCollection(item) ? convertCollection(item, context, this::convertValue)
+            : convertValue(item, context));
+      }
+      return set;
+    } else if (sourceCollection instanceof List && current.getClass() == ArrayList.class) {
+      List<Object> list = (List<Object>) current;
+      int size = list.size();
+      int index = 0;
+      for (Object item : sourceCollection) {
+        Object value;
+        if (isCollection(item)) {
+          value = convertCollection(item, context, this::convertValue);
+        } else if (item == null || index >= size) {
+          value = convertValue(item, context);
+        } else {
+          value = recycleEntry(dispatcher, item, list.get(index), context);
+        }
+        if (index < size) {
+          list.set(index, value);
+        } else {
+          list.add(value);
+        }
+        index++;
       }
+      // Removing from the end does not move the remaining elements.
+      for (int i = size - 1; i >= index; i--) {
+        list.remove(i);
+      }
+      return list;
+    } else {
+      return transformValue(sourceCollection, context);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object recycleMap(Map<?, ?> sourceMap, Object current, Object context) {
+    if (current.getClass() != sourceMap.getClass() || !isSameComparator(sourceMap, current)) {
+      return convertMap(sourceMap, context);
+    }
+    Map<Object, Object> map = (Map<Object, Object>) current;
+    if (keyDispatcher != null || dispatcher == null || map instanceof LinkedHashMap) {
+      map.clear();
+      for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+        map.put(convertEntry(keyDispatcher, entry.getKey(), context),
+            convertEntry(dispatcher, entry.getValue(), context));
+      }
+    } else {
+      // The keys are copied by reference, so the values of the keys that are still present are recycled.
+      map.keySet()
+          .retainAll(sourceMap.keySet());
+      for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+        Object key = entry.getKey();
+        map.put(key, recycleEntry(dispatcher, entry.getValue(), map.get(key), context));
+      }
+    }
+    return map;
+  }
 
-      writeOrFail(destinationProperty, destination, destinationValue);
+  /**
+   * Checks if a sorted map recycled for the specified source map has the comparator a new map would have.
+   */
+  private boolean isSameComparator(Map<?, ?> sourceMap, Object current) {
+    if (!(current instanceof SortedMap)) {
+      return true;
     }
+    Comparator<?> comparator = (keyDispatcher == null) ? ((SortedMap<?, ?>) sourceMap).comparator() : null;
+    return Objects.equals(comparator, ((SortedMap<?, ?>) current).comparator());
   }
 
+  private Object recycleArray(Object sourceArray, Object current, Class<?> arrayType, Object context) {
+    int length = Array.getLength(sourceArray);
+    if (current == null || current.getClass() != arrayType || Array.getLength(current) != length) {
+      return convertArray(sourceArray, arrayType, context);
+    }
+    Class<?> componentType = arrayType.getComponentType();
+    if (componentType.isArray()) {
+      Object[] source = (Object[]) sourceArray;
+      Object[] destination = (Object[]) current;
+      for (int i = 0; i < length; i++) {
+        destination[i] = source[i] == null ? null : recycleArray(source[i], destination[i], componentType, context);
+      }
+    } else if (dispatcher == null) {
+      System.arraycopy(sourceArray, 0, current, 0, length);
+    } else {
+      Object[] source = (Object[]) sourceArray;
+      Object[] destination = (Object[]) current;
+      for (int i = 0; i < length; i++) {
+        destination[i] = recycleEntry(dispatcher, source[i], destination[i], context);
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Maps the specified value onto the specified current value if the mapper selected for the value recycles
+   * destination objects, see {@link Mapper#mapRecycled(Object, Object, Object)}. <code>null</code> values are kept.
+   */
   @SuppressWarnings({
       "unchecked", "rawtypes"
   })
-  private Object convertCollection(Object sourceValue, Class<?> sourceCollectionType,
-      Class<?> destinationCollectionType) {
+  private static Object recycleEntry(MapperDispatcher dispatcher, Object value, Object current, Object context) {
+    if (dispatcher == null || value == null || current == null) {
+      return convertEntry(dispatcher, value, context);
+    } else {
+      Mapper delegateMapper = dispatcher.getMapper(value.getClass());
+      return delegateMapper.mapRecycled(value, current, context);
+    }
+  }
+
+  /**
+   * Converts the specified collection and all nested collections using the specified function to convert the items.
+   *
+   * @param sourceValue The collection to convert.
+   * @param context The mapping context passed to the item converter.
+   * @param itemConverter The function converting a single item and the mapping context.
+   * @return Returns a new collection of the same kind holding the converted items.
+   */
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  static Object convertCollection(Object sourceValue, Object context,
+      BiFunction<Object, Object, Object> itemConverter) {
     Collection collection = Collection.class.cast(sourceValue);
     Collector collector = getCollector(collection);
     return collection.stream()
         .map(o -> {
           if (isCollection(o)) {
-            return convertCollection(o, sourceCollectionType, destinationCollectionType);
+            return convertCollection(o, context, itemConverter);
           } else {
-            return convertValue(o, sourceCollectionType, destinationCollectionType);
+            return itemConverter.apply(o, context);
           }
         })
         .collect(collector);
   }
 
+  /**
+   * Converts the specified map into a new map of the same implementation. Keys and values are mapped by the mappers
+   * registered for their runtime types, <code>null</code> keys and values are kept.
+   *
+   * @param sourceMap The map to convert.
+   * @param context The mapping context passed to the mappers.
+   * @return Returns the new map holding the converted entries.
+   */
+  private Object convertMap(Map<?, ?> sourceMap, Object context) {
+    Map<Object, Object> map = newMap(sourceMap, destinationKeyType, keyDispatcher == null,
+        getDestinationType());
+    for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+      map.put(convertEntry(keyDispatcher, entry.getKey(), context),
+          convertEntry(dispatcher, entry.getValue(), context));
+    }
+    return map;
+  }
+
+  /**
+   * Converts the specified array and all nested arrays into new arrays of the specified type. Arrays of primitives or
+   * values copied by reference are copied in bulk, other values are mapped by the mappers registered for their runtime
+   * types. <code>null</code> elements are kept.
+   *
+   * @param sourceArray The array to convert.
+   * @param arrayType The type of the array to create.
+   * @param context The mapping context passed to the mappers.
+   * @return Returns the new array holding the converted elements.
+   */
+  private Object convertArray(Object sourceArray, Class<?> arrayType, Object context) {
+    int length = Array.getLength(sourceArray);
+    Class<?> componentType = arrayType.getComponentType();
+    Object array = Array.newInstance(componentType, length);
+    if (componentType.isArray()) {
+      Object[] source = (Object[]) sourceArray;
+      Object[] destination = (Object[]) array;
+      for (int i = 0; i < length; i++) {
+        destination[i] = source[i] == null ? null : convertArray(source[i], componentType, context);
+      }
+    } else if (dispatcher == null) {
+      System.arraycopy(sourceArray, 0, array, 0, length);
+    } else {
+      Object[] source = (Object[]) sourceArray;
+      Object[] destination = (Object[]) array;
+      for (int i = 0; i < length; i++) {
+        destination[i] = convertEntry(dispatcher, source[i], context);
+      }
+    }
+    return array;
+  }
+
   @SuppressWarnings({
       "unchecked", "rawtypes"
   })
-  Object convertValue(Object sourceValue, Class<?> sourceType, Class<?> destinationType) {
-    if (isReferenceMapping(sourceType, destinationType) || isEqualTypes(sourceType, destinationType)) {
+  private static Object convertEntry(MapperDispatcher dispatcher, Object value, Object context) {
+    if (dispatcher == null || value == null) {
+      return value;
+    } else {
+      Mapper delegateMapper = dispatcher.getMapper(value.getClass());
+      return delegateMapper.map(value, context);
+    }
+  }
+
+  /**
+   * Converts a single value or collection item. Values that are not copied by reference are mapped by the mapper
+   * registered for the runtime type of the value.
+   *
+   * @param sourceValue The value to convert.
+   * @param context The mapping context passed to the mapper.
+   * @return Returns the converted value.
+   */
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  Object convertValue(Object sourceValue, Object context) {
+    if (conversion != null && sourceValue != null) {
+      try {
+        return conversion.apply(sourceValue);
+      } catch (IllegalArgumentException e) {
+        throw MappingException.conversionFailed(sourceValue, getDestinationType(), e);
+      }
+    } else if (dispatcher == null) {
       return sourceValue;
     } else {
-      // Object types must be mapped by a registered mapper before setting the value.
-      Mapper delegateMapper = getMapperFor(sourceType, destinationType);
-      return delegateMapper.map(sourceValue);
+      // Object types must be mapped by a registered mapper before setting the value. The mapper is selected by the
+      // runtime type of the value, so that subtypes are mapped by the mappers registered for them.
+      if (sourceValue == null) {
+        throw MappingException.denyMappingOfNull();
+      }
+      Mapper delegateMapper = dispatcher.getMapper(sourceValue.getClass());
+      return delegateMapper.map(sourceValue, context);
     }
   }
 
+  /**
+   * @return Returns the dispatcher selecting the mappers for the values of this transformation or <code>null</code> if
+   *         the values are copied by reference.
+   */
+  MapperDispatcher getDispatcher() {
+    return dispatcher;
+  }
+
   /**
    * Finds the generic return type of a method in nested generics. For example this method returns {@link String} when
    * called on a method like <code>List&lt;List&lt;Set&lt;String&gt;&gt;&gt; get();</code>.
@@ -104,6 +407,66 @@ public class ReassignTransformation extends Transformation {
     return (Class<?>) type;
   }
 
+  /**
+   * Finds the key and value types of a method returning a map. For example this method returns {@link String} and
+   * {@link Integer} when called on a method like <code>Map&lt;String, Integer&gt; get();</code>. Wildcards and type
+   * variables are resolved to their upper bounds, parameterized key or value types are returned as they are. Map types
+   * declaring no type arguments, like {@link java.util.Properties}, are resolved using their supertypes.
+   *
+   * @param method The method to analyze.
+   * @return Returns an array holding the key type followed by the value type. Each type is either a {@link Class} or
+   *         a {@link ParameterizedType}.
+   */
+  static Type[] findMapTypesFromMethod(Method method) {
+    Type[] typeArguments = findMapTypeArguments(method.getGenericReturnType());
+    if (typeArguments == null) {
+      // Raw map types declare neither key nor value type.
+      typeArguments = new Type[] {
+        Object.class, Object.class
+      };
+    }
+    return new Type[] {
+        resolveType(method, typeArguments[0]), resolveType(method, typeArguments[1])
+    };
+  }
+
+  private static Type[] findMapTypeArguments(Type type) {
+    if (type instanceof ParameterizedType && isMap(rawType(type))) {
+      return ((ParameterizedType) type).getActualTypeArguments();
+    } else if (type instanceof Class && isMap((Class<?>) type)) {
+      Class<?> mapType = (Class<?>) type;
+      List<Type> superTypes = new ArrayList<>(Arrays.asList(mapType.getGenericInterfaces()));
+      superTypes.add(0, mapType.getGenericSuperclass());
+      for (Type superType : superTypes) {
+        Type[] typeArguments = findMapTypeArguments(superType);
+        if (typeArguments != null) {
+          return typeArguments;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Type resolveType(Method method, Type type) {
+    if (type instanceof Class || type instanceof ParameterizedType) {
+      return type;
+    } else if (type instanceof WildcardType) {
+      return resolveType(method, ((WildcardType) type).getUpperBounds()[0]);
+    } else if (type instanceof TypeVariable) {
+      return resolveType(method, ((TypeVariable<?>) type).getBounds()[0]);
+    } else {
+      throw MappingException.unsupportedGenericType(method, type);
+    }
+  }
+
+  static Class<?> rawType(Type type) {
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    } else {
+      return (Class<?>) type;
+    }
+  }
+
   static boolean isCollection(Class<?> type) {
     return Collection.class.isAssignableFrom(type);
   }
@@ -117,10 +480,14 @@ public class ReassignTransformation extends Transformation {
     // we have to check that all needed mappers are known for nested mapping
     // if this transformation performes an object mapping, check for known mappers
     Class<?> sourceType = getSourceType();
-    if (isMap(sourceType)) {
-      throw MappingException.denyReassignOnMaps(getSourceProperty(), getDestinationProperty());
-    }
-    if (isCollection(sourceType)) {
+    if (conversion != null) {
+      // Built-in conversions do not need a mapper.
+      return;
+    } else if (isMap(sourceType)) {
+      validateMapMapping();
+    } else if (sourceType.isArray()) {
+      validateArrayMapping();
+    } else if (isCollection(sourceType)) {
       Class<?> sourceCollectionType = findGenericTypeFromMethod(sourceProperty.getReadMethod());
       Class<?> destinationCollectionType = findGenericTypeFromMethod(destinationProperty.getReadMethod());
       validateTypeMapping(sourceCollectionType, destinationCollectionType);
@@ -132,12 +499,58 @@ public class ReassignTransformation extends Transformation {
 
   private void validateTypeMapping(Class<?> sourceType, Class<?> destinationType) {
     if (!(isReferenceMapping(sourceType, destinationType) || isEqualTypes(sourceType, destinationType))) {
-      getMapperFor(sourceType, destinationType);
+      this.dispatcher = getDispatcherFor(sourceType, destinationType);
+    }
+  }
+
+  private void validateMapMapping() {
+    // The destination map has the implementation of the source map, so it must be assignable to the destination.
+    if (!getDestinationType().isAssignableFrom(getSourceType())) {
+      throw MappingException.incompatiblePropertyTypes(this, sourceProperty, destinationProperty);
+    }
+    Type[] sourceGenericTypes = findMapTypesFromMethod(sourceProperty.getReadMethod());
+    Type[] destinationGenericTypes = findMapTypesFromMethod(destinationProperty.getReadMethod());
+    Class<?>[] sourceTypes = new Class<?>[sourceGenericTypes.length];
+    Class<?>[] destinationTypes = new Class<?>[destinationGenericTypes.length];
+    for (int i = 0; i < sourceTypes.length; i++) {
+      sourceTypes[i] = rawType(sourceGenericTypes[i]);
+      destinationTypes[i] = rawType(destinationGenericTypes[i]);
+      if (isReferenceMapping(sourceTypes[i], destinationTypes[i])
+          && !isEqualTypes(sourceTypes[i], destinationTypes[i])) {
+        throw MappingException.incompatiblePropertyTypes(this, sourceProperty, destinationProperty);
+      }
+      // Parameterized keys and values are not mapped, so they can only be copied by reference if they are of the same
+      // type.
+      boolean parameterized = sourceGenericTypes[i] instanceof ParameterizedType
+          || destinationGenericTypes[i] instanceof ParameterizedType;
+      if (parameterized && !sourceGenericTypes[i].equals(destinationGenericTypes[i])) {
+        throw MappingException.incompatiblePropertyTypes(this, sourceProperty, destinationProperty);
+      }
+    }
+    validateTypeMapping(sourceTypes[1], destinationTypes[1]);
+    if (!isEqualTypes(sourceTypes[0], destinationTypes[0])) {
+      this.keyDispatcher = getDispatcherFor(sourceTypes[0], destinationTypes[0]);
+    }
+    this.destinationKeyType = destinationTypes[0];
+  }
+
+  private void validateArrayMapping() {
+    Class<?> sourceType = getSourceType();
+    Class<?> destinationType = getDestinationType();
+    // Arrays are mapped level by level, so both arrays must have the same number of dimensions.
+    while (sourceType.isArray() && destinationType.isArray()) {
+      sourceType = sourceType.getComponentType();
+      destinationType = destinationType.getComponentType();
+    }
+    if (sourceType.isArray() || destinationType.isArray() || isPrimitiveToObjectMapping(sourceType, destinationType)
+        || (isReferenceMapping(sourceType, destinationType) && !isEqualTypes(sourceType, destinationType))) {
+      throw MappingException.incompatiblePropertyTypes(this, sourceProperty, destinationProperty);
     }
+    validateTypeMapping(sourceType, destinationType);
   }
 
-  private boolean isMap(Class<?> sourceType) {
-    return Map.class.isAssignableFrom(sourceType);
+  static boolean isMap(Class<?> type) {
+    return Map.class.isAssignableFrom(type);
   }
 
   /*
@@ -3,14 +3,23 @@ package com.remondis.remap;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -110,6 +119,102 @@ class ReflectionUtil {
     }
   }
 
+  /**
+   * Creates an empty map of the same implementation as the specified map. {@link HashMap}, {@link LinkedHashMap},
+   * {@link Hashtable} and {@link ConcurrentHashMap} are sized to hold the entries of the specified map without
+   * rehashing, other implementations are created using their public no-args constructor. If the implementation of the
+   * specified map cannot be created or is not assignable to the specified map type, a map of the specified type is
+   * created instead: Either by its public no-args constructor or by selecting a {@link LinkedHashMap},
+   * {@link TreeMap}, {@link ConcurrentHashMap} or {@link ConcurrentSkipListMap} for the interface.
+   *
+   * @param map The actual map instance.
+   * @param keyType The key type of the new map, used to create an {@link EnumMap}.
+   * @param sameKeys If <code>true</code> the keys of the new map are the keys of the specified map, so the comparator
+   *        of a {@link SortedMap} is kept.
+   * @param mapType The type the new map must be assignable to.
+   * @return Returns a new empty map.
+   */
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  static Map<Object, Object> newMap(Map<?, ?> map, Class<?> keyType, boolean sameKeys, Class<?> mapType) {
+    Comparator<?> comparator = (sameKeys && map instanceof SortedMap) ? ((SortedMap<?, ?>) map).comparator() : null;
+    Map<Object, Object> newMap = newMapOfSameType(map, keyType, comparator);
+    if (newMap != null && mapType.isInstance(newMap)) {
+      return newMap;
+    }
+    if (!mapType.isInterface() && !Modifier.isAbstract(mapType.getModifiers())) {
+      newMap = (Map<Object, Object>) newInstanceOrNull(mapType);
+      if (newMap == null) {
+        throw MappingException.noDefaultConstructor(mapType);
+      }
+      return newMap;
+    } else if (mapType.isAssignableFrom(LinkedHashMap.class)) {
+      return new LinkedHashMap<>();
+    } else if (mapType.isAssignableFrom(TreeMap.class)) {
+      return new TreeMap<>((Comparator) comparator);
+    } else if (mapType.isAssignableFrom(ConcurrentHashMap.class)) {
+      return new ConcurrentHashMap<>();
+    } else if (mapType.isAssignableFrom(ConcurrentSkipListMap.class)) {
+      return new ConcurrentSkipListMap<>((Comparator) comparator);
+    } else {
+      throw MappingException.noDefaultConstructor(mapType);
+    }
+  }
+
+  @SuppressWarnings({
+      "unchecked", "rawtypes"
+  })
+  private static Map<Object, Object> newMapOfSameType(Map<?, ?> map, Class<?> keyType, Comparator<?> comparator) {
+    Class<?> type = map.getClass();
+    int capacity = (int) (map.size() / 0.75f) + 1;
+    if (map instanceof EnumMap) {
+      return keyType.isEnum() ? new EnumMap(keyType) : null;
+    } else if (type == HashMap.class) {
+      return new HashMap<>(capacity);
+    } else if (type == LinkedHashMap.class) {
+      return new LinkedHashMap<>(capacity);
+    } else if (type == TreeMap.class) {
+      return new TreeMap<>((Comparator) comparator);
+    } else if (type == Hashtable.class) {
+      return new Hashtable<>(capacity);
+    } else if (type == ConcurrentHashMap.class) {
+      return new ConcurrentHashMap<>(map.size());
+    } else if (comparator != null) {
+      try {
+        return (Map<Object, Object>) type.getConstructor(Comparator.class)
+            .newInstance(comparator);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        return null;
+      } catch (ReflectiveOperationException e) {
+        throw MappingException.newInstanceFailed(type, e);
+      }
+    } else {
+      return (Map<Object, Object>) newInstanceOrNull(type);
+    }
+  }
+
+  /**
+   * Creates a new instance of the specified type using its public no-args constructor.
+   *
+   * @param type The type to create.
+   * @return Returns the new instance or <code>null</code> if the type is not public or has no accessible public
+   *         no-args constructor.
+   */
+  private static Object newInstanceOrNull(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return null;
+    }
+    try {
+      return type.getConstructor()
+          .newInstance();
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    } catch (ReflectiveOperationException e) {
+      throw MappingException.newInstanceFailed(type, e);
+    }
+  }
+
   /**
    * Checks if the method has a return type.
    *
@@ -53,7 +53,7 @@ public class ReplaceAssertBuilder<S, D, RD, RS> {
    */
   public AssertMapping<S, D> andSkipWhenNull() {
     ReplaceTransformation<RD, RS> replace = new ReplaceTransformation<RD, RS>(asserts.getMapping(),
-        sourceProperty.property, destProperty.property, null, true);
+        sourceProperty.property, destProperty.property, (Transform<RD, RS>) null, true);
     asserts.addAssertion(replace);
     return asserts;
   }
@@ -0,0 +1,57 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+
+/**
+ * Builder to assert a replace operation with two source properties on a {@link Mapper} object using
+ * {@link AssertMapping}.
+ *
+ * @param <S> The source type
+ * @param <D> The destination type
+ * @param <RD> The type of the destination field
+ * @param <RS1> The type of the first source field
+ * @param <RS2> The type of the second source field
+ */
+public class ReplaceBiAssertBuilder<S, D, RD, RS1, RS2> {
+
+  private List<PropertyDescriptor> sourceProperties;
+  private PropertyDescriptor destProperty;
+  private AssertMapping<S, D> asserts;
+
+  ReplaceBiAssertBuilder(List<PropertyDescriptor> sourceProperties, PropertyDescriptor destProperty,
+      AssertMapping<S, D> asserts) {
+    super();
+    this.sourceProperties = sourceProperties;
+    this.destProperty = destProperty;
+    this.asserts = asserts;
+  }
+
+  /**
+   * Expects the mapping to <b>not</b> skip the transform function on <code>null</code> input. The specified transform
+   * function will be checked against <code>null</code> input.
+   *
+   * @param transformation The transformation to test.
+   * @return Returns the {@link AssertMapping} for further configuration.
+   */
+  public AssertMapping<S, D> andTest(BiTransform<RS1, RS2, RD> transformation) {
+    denyNull("tranfromation", transformation);
+    asserts.addAssertion(new MultiReplaceTransformation(asserts.getMapping(), sourceProperties, destProperty,
+        transformation, false));
+    return asserts;
+  }
+
+  /**
+   * Expects the mapping to skip the transform function if one of the source values is <code>null</code>.
+   *
+   * @return Returns the {@link AssertMapping} for further configuration.
+   */
+  public AssertMapping<S, D> andSkipWhenNull() {
+    asserts.addAssertion(new MultiReplaceTransformation(asserts.getMapping(), sourceProperties, destProperty,
+        (BiTransform<?, ?, ?>) null, true));
+    return asserts;
+  }
+
+}
@@ -2,6 +2,9 @@ package com.remondis.remap;
 
 import static com.remondis.remap.Lang.denyNull;
 
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 public class ReplaceBuilder<S, D, RD, RS> {
 
   static final String TRANSFORM = "transform";
@@ -10,6 +13,22 @@ public class ReplaceBuilder<S, D, RD, RS> {
   private TypedPropertyDescriptor<RD> destProperty;
   private Mapping<S, D> mapping;
 
+  /**
+   * The condition on the source object or <code>null</code> if the operation is performed unconditionally.
+   */
+  private Predicate<? super S> condition;
+
+  /**
+   * The value written to the destination if the source value is <code>null</code> or <code>null</code>.
+   */
+  private Object defaultValue;
+
+  /**
+   * The supplier of the value written to the destination if the source value is <code>null</code> or
+   * <code>null</code>.
+   */
+  private Supplier<?> defaultSupplier;
+
   ReplaceBuilder(TypedPropertyDescriptor<RS> sourceProperty, TypedPropertyDescriptor<RD> destProperty,
       Mapping<S, D> mapping) {
     super();
@@ -18,6 +37,48 @@ public class ReplaceBuilder<S, D, RD, RS> {
     this.mapping = mapping;
   }
 
+  /**
+   * Performs this operation only if the source object meets the specified condition. If the condition is not met, the
+   * source property is not read and the destination property is not written.
+   *
+   * @param condition The condition on the source object.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceBuilder<S, D, RD, RS> when(Predicate<? super S> condition) {
+    denyNull("condition", condition);
+    this.condition = condition;
+    return this;
+  }
+
+  /**
+   * Writes the specified value to the destination property if the source value is <code>null</code>. The transform
+   * function is not invoked in this case.
+   *
+   * @param defaultValue The value to write for <code>null</code> source values.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceBuilder<S, D, RD, RS> withDefault(RD defaultValue) {
+    denyNull("defaultValue", defaultValue);
+    this.defaultValue = defaultValue;
+    this.defaultSupplier = null;
+    return this;
+  }
+
+  /**
+   * Writes the value supplied by the specified supplier to the destination property if the source value is
+   * <code>null</code>. Use this method for mutable default values that must not be shared between destination
+   * objects. The transform function is not invoked in this case.
+   *
+   * @param defaultSupplier The supplier of the value to write for <code>null</code> source values.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceBuilder<S, D, RD, RS> orElse(Supplier<? extends RD> defaultSupplier) {
+    denyNull("defaultSupplier", defaultSupplier);
+    this.defaultValue = null;
+    this.defaultSupplier = defaultSupplier;
+    return this;
+  }
+
   /**
    * Transforms the selected fields with applying the specified transform function on the source value. <b>Note: The
    * transform function must check the source value for <code>null</code> itself. Use {@link
@@ -30,6 +91,7 @@ public class ReplaceBuilder<S, D, RD, RS> {
     denyNull("tranformation", transformation);
     ReplaceTransformation<RS, RD> replace = new ReplaceTransformation<>(mapping, sourceProperty.property,
         destProperty.property, transformation, false);
+    configure(replace);
     mapping.addMapping(sourceProperty.property, destProperty.property, replace);
     return mapping;
   }
@@ -45,7 +107,61 @@ public class ReplaceBuilder<S, D, RD, RS> {
     denyNull("tranformation", transformation);
     ReplaceTransformation<RS, RD> replace = new ReplaceTransformation<>(mapping, sourceProperty.property,
         destProperty.property, transformation, true);
+    configure(replace);
+    mapping.addMapping(sourceProperty.property, destProperty.property, replace);
+    return mapping;
+  }
+
+  /**
+   * Transforms the selected fields with applying the specified transform function on the source value and the mapping
+   * context specified by {@link Mapper#map(Object, Object)}. The context is <code>null</code> if the mapper was called
+   * without a context. <b>Note: The transform function must check the source value for <code>null</code> itself. Use
+   * {@link #withContextSkipWhenNull(ContextTransform)} to skip on <code>null</code> input values.</b>
+   *
+   * @param <C> The type of the mapping context.
+   * @param transformation The transform function.
+   * @return Returns the {@link Mapping} for further mapping configuration.
+   */
+  public <C> Mapping<S, D> withContext(ContextTransform<RS, RD, C> transformation) {
+    denyNull("tranformation", transformation);
+    ReplaceTransformation<RS, RD> replace = new ReplaceTransformation<>(mapping, sourceProperty.property,
+        destProperty.property, withObjectContext(transformation), false);
+    configure(replace);
     mapping.addMapping(sourceProperty.property, destProperty.property, replace);
     return mapping;
   }
+
+  /**
+   * Transforms the selected fields with applying the specified transform function on the source value and the mapping
+   * context specified by {@link Mapper#map(Object, Object)}. <b>This method skips the execution of the transform
+   * function if the source value is null.</b>
+   *
+   * @param <C> The type of the mapping context.
+   * @param transformation The transform function.
+   * @return Returns the {@link Mapping} for further mapping configuration.
+   */
+  public <C> Mapping<S, D> withContextSkipWhenNull(ContextTransform<RS, RD, C> transformation) {
+    denyNull("tranformation", transformation);
+    ReplaceTransformation<RS, RD> replace = new ReplaceTransformation<>(mapping, sourceProperty.property,
+        destProperty.property, withObjectContext(transformation), true);
+    configure(replace);
+    mapping.addMapping(sourceProperty.property, destProperty.property, replace);
+    return mapping;
+  }
+
+  /**
+   * The mapping context is not typed by the mapper, so a context of the wrong type fails with a
+   * {@link ClassCastException} in the transform function.
+   */
+  @SuppressWarnings("unchecked")
+  private static <RS, RD, C> ContextTransform<RS, RD, Object> withObjectContext(
+      ContextTransform<RS, RD, C> transformation) {
+    return (ContextTransform<RS, RD, Object>) transformation;
+  }
+
+  private void configure(Transformation transformation) {
+    transformation.setCondition(condition);
+    transformation.setDefault(defaultValue, defaultSupplier);
+  }
+
 }
@@ -3,6 +3,7 @@ package com.remondis.remap;
 import static com.remondis.remap.Lang.denyNull;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 public class ReplaceCollectionBuilder<S, D, RD, RS> {
 
@@ -12,6 +13,11 @@ public class ReplaceCollectionBuilder<S, D, RD, RS> {
   private TypedPropertyDescriptor<Collection<RD>> destProperty;
   private Mapping<S, D> mapping;
 
+  /**
+   * The condition on the source object or <code>null</code> if the operation is performed unconditionally.
+   */
+  private Predicate<? super S> condition;
+
   ReplaceCollectionBuilder(TypedPropertyDescriptor<Collection<RS>> sourceProperty,
       TypedPropertyDescriptor<Collection<RD>> destProperty, Mapping<S, D> mapping) {
     super();
@@ -20,6 +26,19 @@ public class ReplaceCollectionBuilder<S, D, RD, RS> {
     this.mapping = mapping;
   }
 
+  /**
+   * Performs this operation only if the source object meets the specified condition. If the condition is not met, the
+   * source property is not read and the destination property is not written.
+   *
+   * @param condition The condition on the source object.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceCollectionBuilder<S, D, RD, RS> when(Predicate<? super S> condition) {
+    denyNull("condition", condition);
+    this.condition = condition;
+    return this;
+  }
+
   /**
    * Transforms the items in the collection held by the selected field by applying the specified transform function on
    * each item. <b>Note: The transform function must check the value for <code>null</code> itself. Use {@link
@@ -32,6 +51,7 @@ public class ReplaceCollectionBuilder<S, D, RD, RS> {
     denyNull("tranformation", transformation);
     ReplaceCollectionTransformation<RS, RD> replace = new ReplaceCollectionTransformation<>(mapping,
         sourceProperty.property, destProperty.property, transformation, false);
+    replace.setCondition(condition);
     mapping.addMapping(sourceProperty.property, destProperty.property, replace);
     return mapping;
   }
@@ -48,6 +68,7 @@ public class ReplaceCollectionBuilder<S, D, RD, RS> {
     denyNull("tranformation", transformation);
     ReplaceCollectionTransformation<RS, RD> replace = new ReplaceCollectionTransformation<>(mapping,
         sourceProperty.property, destProperty.property, transformation, true);
+    replace.setCondition(condition);
     mapping.addMapping(sourceProperty.property, destProperty.property, replace);
     return mapping;
   }
@@ -14,7 +14,7 @@ import java.util.Collection;
  * @param <RD> The output type
  * @author schuettec
  */
-class ReplaceCollectionTransformation<RS, RD> extends SkipWhenNullTransformation<RS, RD> {
+class ReplaceCollectionTransformation<RS, RD> extends SkipWhenNullTransformation {
 
   private static final String REPLACE_MSG = "Replacing %s\n           with %s using transformation";
   private static final String REPLACE_SKIPPED_MSG = "Replacing but skipping when null %s\n"
@@ -34,36 +34,24 @@ class ReplaceCollectionTransformation<RS, RD> extends SkipWhenNullTransformation
   @SuppressWarnings({
       "rawtypes", "unchecked"
   })
-  protected void performTransformation(PropertyDescriptor sourceProperty, Object source,
-      PropertyDescriptor destinationProperty, Object destination) throws MappingException {
-    Object sourceValue = readOrFail(sourceProperty, source);
-
+  Object transformValue(Object sourceValue, Object context) throws MappingException {
     if (sourceValue == null) {
       // Skip if source value is null and the transformation was declared to skip on null input.
-      return;
+      return SKIP;
     } else {
       Collection collection = (Collection) sourceValue;
-      Collection<RD> destinationValue = null;
-
       // Skip when null on collection means to skip null items.
       if (skipWhenNull) {
-        destinationValue = (Collection<RD>) collection.stream()
+        return collection.stream()
             .filter(i -> (i != null))
             .map(sourceItem -> transformation.transform((RS) sourceItem))
             .collect(getCollector(collection));
       } else {
-        destinationValue = (Collection<RD>) collection.stream()
-            .map(sourceItem -> {
-
-              RS sourceItem2 = null;
-              sourceItem2 = (RS) sourceItem;
-              return transformation.transform(sourceItem2);
-            })
+        return collection.stream()
+            .map(sourceItem -> transformation.transform((RS) sourceItem))
             .collect(getCollector(collection));
       }
-      writeOrFail(destinationProperty, destination, destinationValue);
     }
-
   }
 
   @Override
@@ -79,11 +67,15 @@ class ReplaceCollectionTransformation<RS, RD> extends SkipWhenNullTransformation
     }
   }
 
-  @Override
   Transform<RS, RD> getTransformation() {
     return transformation;
   }
 
+  @Override
+  Object transformNull() {
+    return transformation.transform(null);
+  }
+
   @Override
   boolean isSkipWhenNull() {
     return skipWhenNull;
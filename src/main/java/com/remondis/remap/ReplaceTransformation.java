@@ -6,25 +6,41 @@ import java.beans.PropertyDescriptor;
 
 /**
  * A replace transformation converts a source object into a destination object by applying the specified {@link
- * Transform} function on the source.
+ * Transform} or {@link ContextTransform} function on the source.
  *
  * @param <RS> The input type
  * @param <RD> The output type
  * @author schuettec
  */
-class ReplaceTransformation<RS, RD> extends SkipWhenNullTransformation<RS, RD> {
+class ReplaceTransformation<RS, RD> extends SkipWhenNullTransformation {
 
   private static final String REPLACE_MSG = "Replacing %s\n           with %s using transformation";
   private static final String REPLACE_SKIPPED_MSG = "Replacing but skipping when null %s\n"
       + "           with %s using transformation";
 
   private Transform<RS, RD> transformation;
+  private ContextTransform<RS, RD, Object> contextTransformation;
   private boolean skipWhenNull;
 
   ReplaceTransformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty, PropertyDescriptor destProperty,
       Transform<RS, RD> transformation, boolean skipWhenNull) {
+    this(mapping, sourceProperty, destProperty, transformation, (source, context) -> transformation.transform(source),
+        skipWhenNull);
+  }
+
+  ReplaceTransformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty, PropertyDescriptor destProperty,
+      ContextTransform<RS, RD, Object> contextTransformation, boolean skipWhenNull) {
+    // Assertions invoke the transformation without a context.
+    this(mapping, sourceProperty, destProperty, source -> contextTransformation.transform(source, null),
+        contextTransformation, skipWhenNull);
+  }
+
+  private ReplaceTransformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty,
+      PropertyDescriptor destProperty, Transform<RS, RD> transformation,
+      ContextTransform<RS, RD, Object> contextTransformation, boolean skipWhenNull) {
     super(mapping, sourceProperty, destProperty);
     this.transformation = transformation;
+    this.contextTransformation = contextTransformation;
     this.skipWhenNull = skipWhenNull;
   }
 
@@ -32,16 +48,12 @@ class ReplaceTransformation<RS, RD> extends SkipWhenNullTransformation<RS, RD> {
   @SuppressWarnings({
       "unchecked"
   })
-  protected void performTransformation(PropertyDescriptor sourceProperty, Object source,
-      PropertyDescriptor destinationProperty, Object destination) throws MappingException {
-    Object sourceValue = readOrFail(sourceProperty, source);
-
+  Object transformValue(Object sourceValue, Object context) throws MappingException {
     if (sourceValue == null && skipWhenNull) {
       // Skip if source value is null and the transformation was declared to skip on null input.
-      return;
+      return SKIP;
     }
-    RD destinationValue = transformation.transform((RS) sourceValue);
-    writeOrFail(destinationProperty, destination, destinationValue);
+    return contextTransformation.transform((RS) sourceValue, context);
   }
 
   @Override
@@ -57,11 +69,15 @@ class ReplaceTransformation<RS, RD> extends SkipWhenNullTransformation<RS, RD> {
     }
   }
 
-  @Override
   Transform<RS, RD> getTransformation() {
     return transformation;
   }
 
+  @Override
+  Object transformNull() {
+    return transformation.transform(null);
+  }
+
   @Override
   boolean isSkipWhenNull() {
     return skipWhenNull;
@@ -0,0 +1,131 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Lang.denyNull;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Builder to specify the transform function of a replace operation computing a destination property from three source
+ * properties. In contrast to {@link ReplaceBuilder} the transform function does not receive the mapping context.
+ *
+ * @param <S> The source type
+ * @param <D> The destination type
+ * @param <RD> The type of the destination field
+ * @param <RS1> The type of the first source field
+ * @param <RS2> The type of the second source field
+ * @param <RS3> The type of the third source field
+ */
+public class ReplaceTriBuilder<S, D, RD, RS1, RS2, RS3> {
+
+  private List<PropertyDescriptor> sourceProperties;
+  private PropertyDescriptor destProperty;
+  private Mapping<S, D> mapping;
+
+  /**
+   * The condition on the source object or <code>null</code> if the operation is performed unconditionally.
+   */
+  private Predicate<? super S> condition;
+
+  /**
+   * The value written to the destination if one of the source values is <code>null</code> or <code>null</code>.
+   */
+  private Object defaultValue;
+
+  /**
+   * The supplier of the value written to the destination if one of the source values is <code>null</code> or
+   * <code>null</code>.
+   */
+  private Supplier<?> defaultSupplier;
+
+  ReplaceTriBuilder(List<PropertyDescriptor> sourceProperties, PropertyDescriptor destProperty,
+      Mapping<S, D> mapping) {
+    super();
+    this.sourceProperties = sourceProperties;
+    this.destProperty = destProperty;
+    this.mapping = mapping;
+  }
+
+  /**
+   * Performs this operation only if the source object meets the specified condition. If the condition is not met, the
+   * source properties are not read and the destination property is not written.
+   *
+   * @param condition The condition on the source object.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceTriBuilder<S, D, RD, RS1, RS2, RS3> when(Predicate<? super S> condition) {
+    denyNull("condition", condition);
+    this.condition = condition;
+    return this;
+  }
+
+  /**
+   * Writes the specified value to the destination property if one of the source values is <code>null</code>. The
+   * transform function is not invoked in this case.
+   *
+   * @param defaultValue The value to write if one of the source values is <code>null</code>.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceTriBuilder<S, D, RD, RS1, RS2, RS3> withDefault(RD defaultValue) {
+    denyNull("defaultValue", defaultValue);
+    this.defaultValue = defaultValue;
+    this.defaultSupplier = null;
+    return this;
+  }
+
+  /**
+   * Writes the value supplied by the specified supplier to the destination property if one of the source values is
+   * <code>null</code>. Use this method for mutable default values that must not be shared between destination
+   * objects. The transform function is not invoked in this case.
+   *
+   * @param defaultSupplier The supplier of the value to write if one of the source values is <code>null</code>.
+   * @return Returns this object for further configuration.
+   */
+  public ReplaceTriBuilder<S, D, RD, RS1, RS2, RS3> orElse(Supplier<? extends RD> defaultSupplier) {
+    denyNull("defaultSupplier", defaultSupplier);
+    this.defaultValue = null;
+    this.defaultSupplier = defaultSupplier;
+    return this;
+  }
+
+  /**
+   * Transforms the selected fields with applying the specified transform function on the source values. <b>Note: The
+   * transform function must check the source values for <code>null</code> itself. Use {@link
+   * #withSkipWhenNull(TriTransform)} to skip if one of the source values is <code>null</code>.</b>
+   *
+   * @param transformation The transform function.
+   * @return Returns the {@link Mapping} for further mapping configuration.
+   */
+  public Mapping<S, D> with(TriTransform<RS1, RS2, RS3, RD> transformation) {
+    denyNull("tranformation", transformation);
+    MultiReplaceTransformation replace = new MultiReplaceTransformation(mapping, sourceProperties, destProperty,
+        transformation, false);
+    configure(replace);
+    mapping.addMultiSourceMapping(sourceProperties, destProperty, replace);
+    return mapping;
+  }
+
+  /**
+   * Transforms the selected fields with applying the specified transform function on the source values. <b>This method
+   * skips the execution of the transform function if one of the source values is null.</b>
+   *
+   * @param transformation The transform function.
+   * @return Returns the {@link Mapping} for further mapping configuration.
+   */
+  public Mapping<S, D> withSkipWhenNull(TriTransform<RS1, RS2, RS3, RD> transformation) {
+    denyNull("tranformation", transformation);
+    MultiReplaceTransformation replace = new MultiReplaceTransformation(mapping, sourceProperties, destProperty,
+        transformation, true);
+    configure(replace);
+    mapping.addMultiSourceMapping(sourceProperties, destProperty, replace);
+    return mapping;
+  }
+
+  private void configure(Transformation transformation) {
+    transformation.setCondition(condition);
+    transformation.setDefault(defaultValue, defaultSupplier);
+  }
+
+}
@@ -5,7 +5,7 @@ import java.beans.PropertyDescriptor;
 /**
  * Interface for transformations that can be skippen on <code>null</code> input.
  */
-abstract class SkipWhenNullTransformation<RS, RD> extends Transformation {
+abstract class SkipWhenNullTransformation extends Transformation {
 
   SkipWhenNullTransformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty,
       PropertyDescriptor destinationProperty) {
@@ -18,5 +18,11 @@ abstract class SkipWhenNullTransformation<RS, RD> extends Transformation {
    */
   abstract boolean isSkipWhenNull();
 
-  abstract Transform<RS, RD> getTransformation();
+  /**
+   * Invokes the transform function with <code>null</code> for every source value the function receives. Used by
+   * {@link AssertMapping} to check that the function is null-safe.
+   *
+   * @return Returns the result of the transform function.
+   */
+  abstract Object transformNull();
 }
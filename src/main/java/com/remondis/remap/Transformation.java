@@ -6,6 +6,14 @@ import static com.remondis.remap.ReflectionUtil.isBuildInType;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * This is the base class for a transformation that performs a single step when mapping from an object to another
@@ -15,10 +23,39 @@ import java.lang.reflect.Method;
  */
 abstract class Transformation {
 
+  /**
+   * Returned by {@link #transformValue(Object, Object)} if the destination property must not be written.
+   */
+  static final Object SKIP = new Object();
+
   protected PropertyDescriptor sourceProperty;
   protected PropertyDescriptor destinationProperty;
   private Mapping<?, ?> mapping;
 
+  /**
+   * The condition the source object must meet to perform this transformation or <code>null</code> if this
+   * transformation is performed unconditionally.
+   */
+  private Predicate<Object> condition;
+
+  /**
+   * The value written to the destination property if the source value is <code>null</code> or <code>null</code> if
+   * no constant default value was declared.
+   */
+  private Object defaultValue;
+
+  /**
+   * The supplier of the value written to the destination property if the source value is <code>null</code> or
+   * <code>null</code> if no default supplier was declared.
+   */
+  private Supplier<?> defaultSupplier;
+
+  /**
+   * Decides whether the current value of the destination property equals the transformed value when writing only
+   * changes, see {@link #performChange(Object, Object, Object)}.
+   */
+  private BiPredicate<Object, Object> equality = Objects::deepEquals;
+
   Transformation(Mapping<?, ?> mapping, PropertyDescriptor sourceProperty, PropertyDescriptor destinationProperty) {
     super();
     denyNull("mapping", mapping);
@@ -113,15 +150,126 @@ abstract class Transformation {
     }
   }
 
+  /**
+   * Invokes the specified get- or set-method of a property. The method must already be accessible.
+   *
+   * @param property The property the method belongs to.
+   * @param method The method to invoke.
+   * @param target The object to invoke the method on.
+   * @param args The arguments.
+   * @return Returns the return value of the method.
+   */
+  protected static Object invokeOrFail(PropertyDescriptor property, Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw MappingException.invocationTarget(property, e);
+    } catch (Exception e) {
+      throw MappingException.invocationFailed(property, e);
+    }
+  }
+
+  /**
+   * Sets the condition the source object must meet to perform this transformation.
+   *
+   * @param condition The condition or <code>null</code> to perform this transformation unconditionally.
+   */
+  @SuppressWarnings("unchecked")
+  void setCondition(Predicate<?> condition) {
+    this.condition = (Predicate<Object>) condition;
+  }
+
+  /**
+   * @return Returns <code>true</code> if this transformation is only performed if the source object meets a
+   *         condition, otherwise <code>false</code> is returned.
+   */
+  boolean isConditional() {
+    return condition != null;
+  }
+
+  /**
+   * Sets the value written to the destination property if the source value is <code>null</code>. Either a constant
+   * value or a supplier may be specified.
+   *
+   * @param defaultValue The constant default value or <code>null</code>.
+   * @param defaultSupplier The supplier of the default value or <code>null</code>.
+   */
+  void setDefault(Object defaultValue, Supplier<?> defaultSupplier) {
+    this.defaultValue = defaultValue;
+    this.defaultSupplier = defaultSupplier;
+  }
+
+  /**
+   * @return Returns <code>true</code> if a default value replaces <code>null</code> source values, otherwise
+   *         <code>false</code> is returned.
+   */
+  boolean hasDefault() {
+    return defaultValue != null || defaultSupplier != null;
+  }
+
+  /**
+   * @return Returns the default value replacing <code>null</code> source values or <code>null</code> if no default
+   *         was declared.
+   */
+  Object getDefault() {
+    if (defaultValue != null) {
+      return defaultValue;
+    } else if (defaultSupplier != null) {
+      return defaultSupplier.get();
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Converts the value of the source property like {@link #transformValue(Object, Object)}, but returns the default
+   * value without performing the transformation if the source value is <code>null</code> and a default was declared.
+   *
+   * @param sourceValue The value of the source property, may be <code>null</code>.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns the value to write to the destination property or {@link #SKIP} if the destination property must
+   *         not be written.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  Object transformOrDefault(Object sourceValue, Object context) throws MappingException {
+    if (sourceValue == null && hasDefault()) {
+      return getDefault();
+    }
+    return transformValue(sourceValue, context);
+  }
+
   /**
    * Performs the transformation for the specified source and destinatione.
    *
    * @param source The source object
    * @param destination The destination object.
+   * @param context The mapping context or <code>null</code>.
+   * @throws MappingException Thrown on any transformation error.
+   */
+  public void performTransformation(Object source, Object destination, Object context) throws MappingException {
+    // Unmet conditions skip the read, the transformation and the write.
+    if (condition == null || condition.test(source)) {
+      performTransformation(sourceProperty, source, destinationProperty, destination, context);
+    }
+  }
+
+  /**
+   * Performs the transformation for the specified source and destination after properties of the source object
+   * changed, see {@link Mapper#mapIncremental(Object, Object, Set)}.
+   *
+   * @param source The source object
+   * @param destination The destination object holding the values of the previous mapping.
+   * @param changedProperties The changed properties of the source value read by this transformation or
+   *        <code>null</code> if the source value was replaced as a whole.
+   * @param context The mapping context or <code>null</code>.
    * @throws MappingException Thrown on any transformation error.
    */
-  public void performTransformation(Object source, Object destination) throws MappingException {
-    performTransformation(sourceProperty, source, destinationProperty, destination);
+  void performTransformation(Object source, Object destination, Set<String> changedProperties, Object context)
+      throws MappingException {
+    if ((condition == null || condition.test(source))
+        && (changedProperties == null || !performNested(source, destination, changedProperties, context))) {
+      performTransformation(sourceProperty, source, destinationProperty, destination, context);
+    }
   }
 
   /**
@@ -131,10 +279,165 @@ abstract class Transformation {
    * @param source The source object to map from.
    * @param destinationProperty The destination property
    * @param destination The destination object to map to.
+   * @param context The mapping context or <code>null</code>.
    * @throws MappingException Thrown on any mapping exception.
    */
-  protected abstract void performTransformation(PropertyDescriptor sourceProperty, Object source,
-      PropertyDescriptor destinationProperty, Object destination) throws MappingException;
+  protected void performTransformation(PropertyDescriptor sourceProperty, Object source,
+      PropertyDescriptor destinationProperty, Object destination, Object context) throws MappingException {
+    Object destinationValue = readValue(source, context);
+    if (destinationValue != SKIP) {
+      writeValue(destination, destinationValue);
+    }
+  }
+
+  /**
+   * Applies the changed properties of the source value onto the current destination value instead of replacing it.
+   * This is only supported by transformations mapping nested beans.
+   *
+   * @param source The source object
+   * @param destination The destination object holding the values of the previous mapping.
+   * @param changedProperties The changed properties of the source value read by this transformation.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns <code>true</code> if the changes were applied, or <code>false</code> if the transformation must
+   *         be performed as a whole.
+   * @throws MappingException Thrown on any transformation error.
+   */
+  boolean performNested(Object source, Object destination, Set<String> changedProperties, Object context)
+      throws MappingException {
+    return false;
+  }
+
+  /**
+   * @return Returns the names of the source properties read by this transformation. For property paths only the
+   *         first property of the path is returned.
+   */
+  Collection<String> getSourceNames() {
+    return (sourceProperty == null) ? Collections.emptySet() : Collections.singleton(sourceProperty.getName());
+  }
+
+  /**
+   * Performs the transformation for the specified source and destination, but writes the destination property only if
+   * its current value does not equal the transformed value.
+   *
+   * @param source The source object
+   * @param destination The destination object.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns <code>true</code> if the destination property was written, otherwise <code>false</code> is
+   *         returned.
+   * @throws MappingException Thrown on any transformation error.
+   */
+  boolean performChange(Object source, Object destination, Object context) throws MappingException {
+    if (condition != null && !condition.test(source)) {
+      return false;
+    }
+    Object destinationValue = readValue(source, context);
+    if (destinationValue == SKIP || equality.test(readDestinationValue(destination), destinationValue)) {
+      return false;
+    }
+    writeValue(destination, destinationValue);
+    return true;
+  }
+
+  /**
+   * Performs the transformation onto a recycled destination object, see {@link DestinationPool}. If the destination
+   * property is not written, it is reset to the value a new destination object holds.
+   *
+   * @param source The source object
+   * @param destination The recycled destination object.
+   * @param context The mapping context or <code>null</code>.
+   * @param reset Resets the destination property of the specified destination object.
+   * @throws MappingException Thrown on any transformation error.
+   */
+  void performRecycled(Object source, Object destination, Object context, Consumer<Object> reset)
+      throws MappingException {
+    Object destinationValue = (condition == null || condition.test(source))
+        ? readRecycledValue(source, destination, context)
+        : SKIP;
+    if (destinationValue == SKIP) {
+      reset.accept(destination);
+    } else {
+      writeValue(destination, destinationValue);
+    }
+  }
+
+  /**
+   * Reads the source value like {@link #readValue(Object, Object)}, but may reuse the current value of the destination
+   * property of a recycled destination object.
+   *
+   * @param source The source object.
+   * @param destination The recycled destination object.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns the value to write to the destination property or {@link #SKIP} if the destination property must
+   *         not be written.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  Object readRecycledValue(Object source, Object destination, Object context) throws MappingException {
+    return readValue(source, context);
+  }
+
+  /**
+   * Reads the source value from the specified source object and transforms it into the value of the destination
+   * property.
+   *
+   * @param source The source object.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns the value to write to the destination property or {@link #SKIP} if the destination property must
+   *         not be written.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  Object readValue(Object source, Object context) throws MappingException {
+    Object sourceValue = readOrFail(sourceProperty, source);
+    return transformOrDefault(sourceValue, context);
+  }
+
+  /**
+   * Reads the current value of the destination property.
+   *
+   * @param destination The destination object.
+   * @return Returns the current value of the destination property.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  Object readDestinationValue(Object destination) throws MappingException {
+    return readOrFail(destinationProperty, destination);
+  }
+
+  /**
+   * Writes the value of the destination property.
+   *
+   * @param destination The destination object.
+   * @param value The value to write.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  void writeValue(Object destination, Object value) throws MappingException {
+    writeOrFail(destinationProperty, destination, value);
+  }
+
+  /**
+   * Sets the equality used by {@link #performChange(Object, Object, Object)}.
+   *
+   * @param equality The equality comparing the current value of the destination property with the transformed value.
+   */
+  void setEquality(BiPredicate<Object, Object> equality) {
+    this.equality = equality;
+  }
+
+  /**
+   * @return Returns the name of the destination property reported by {@link Mapper#mapChanged(Object, Object)}.
+   */
+  String getDestinationName() {
+    return destinationProperty.getName();
+  }
+
+  /**
+   * Converts the value of the source property into the value of the destination property.
+   *
+   * @param sourceValue The value of the source property, may be <code>null</code>.
+   * @param context The mapping context or <code>null</code>.
+   * @return Returns the value to write to the destination property or {@link #SKIP} if the destination property must
+   *         not be written.
+   * @throws MappingException Thrown on any mapping exception.
+   */
+  abstract Object transformValue(Object sourceValue, Object context) throws MappingException;
 
   /**
    * Lets this transformation validate its configuration. If the state of this transformation is invalid,
@@ -156,6 +459,18 @@ abstract class Transformation {
     return this.mapping.getMapperFor(sourceType, destinationType);
   }
 
+  /**
+   * Returns the dispatcher selecting the mapper for values of the specified declared types by their runtime class.
+   *
+   * @param sourceType The declared source type
+   * @param destinationType The declared destination type
+   * @return Returns the dispatcher. If no mapper suitable for the declared types was registered a
+   *         {@link MappingException} is thrown.
+   */
+  MapperDispatcher getDispatcherFor(Class<?> sourceType, Class<?> destinationType) {
+    return this.mapping.getDispatcherFor(sourceType, destinationType);
+  }
+
   PropertyDescriptor getSourceProperty() {
     return sourceProperty;
   }
@@ -0,0 +1,76 @@
+package com.remondis.remap;
+
+import static com.remondis.remap.Properties.asString;
+
+import java.beans.PropertyDescriptor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the runtime metrics of a single transformation step of a {@link Mapper} collected by {@link MappingMetrics}.
+ */
+public class TransformationStatistics {
+
+  private final PropertyDescriptor sourceProperty;
+  private final PropertyDescriptor destinationProperty;
+  private final String destinationPath;
+
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+
+  TransformationStatistics(PropertyDescriptor sourceProperty, PropertyDescriptor destinationProperty,
+      String destinationPath) {
+    this.sourceProperty = sourceProperty;
+    this.destinationProperty = destinationProperty;
+    this.destinationPath = destinationPath;
+  }
+
+  void record(long durationNanos) {
+    invocations.increment();
+    totalNanos.add(durationNanos);
+  }
+
+  /**
+   * @return Returns the source property of the transformation. For property paths this is the last property of the
+   *         source path.
+   */
+  public PropertyDescriptor getSourceProperty() {
+    return sourceProperty;
+  }
+
+  /**
+   * @return Returns the destination property of the transformation. For property paths this is the last property of
+   *         the destination path.
+   */
+  public PropertyDescriptor getDestinationProperty() {
+    return destinationProperty;
+  }
+
+  /**
+   * @return Returns the name of the destination property or the dot-separated names of the destination path, for
+   *         example <code>address.city</code>.
+   */
+  public String getDestinationPath() {
+    return destinationPath;
+  }
+
+  /**
+   * @return Returns the number of times this transformation was performed.
+   */
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  /**
+   * @return Returns the total time spent in this transformation in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "TransformationStatistics [" + asString(sourceProperty) + " -> " + destinationPath
+        + ", invocations=" + getInvocations() + ", totalNanos=" + getTotalNanos() + "]";
+  }
+
+}
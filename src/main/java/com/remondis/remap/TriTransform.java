@@ -0,0 +1,25 @@
+package com.remondis.remap;
+
+/**
+ * This interface defines a transformation from the values of three properties to another object.
+ *
+ * @param <S1> the type of the first source value
+ * @param <S2> the type of the second source value
+ * @param <S3> the type of the third source value
+ * @param <D> the destination type
+ */
+@FunctionalInterface
+public interface TriTransform<S1, S2, S3, D> {
+
+  /**
+   * Transforms the source values into a destination object.
+   *
+   * @param first The first source value
+   * @param second The second source value
+   * @param third The third source value
+   * @return The destination object.
+   * @throws MappingException Thrown on any error while performing the transformation.
+   */
+  D transform(S1 first, S2 second, S3 third) throws MappingException;
+
+}
@@ -9,7 +9,6 @@ import java.beans.PropertyDescriptor;
  */
 class TypedPropertyDescriptor<R> {
 
-  R returnValue;
   PropertyDescriptor property;
 
 }
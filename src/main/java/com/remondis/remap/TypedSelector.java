@@ -1,5 +1,7 @@
 package com.remondis.remap;
 
+import java.io.Serializable;
+
 /**
  * This class defines the lambda that receives an object of either a source or destination a mapping type. The lambda is
  * implemented with calling the get-method to select the corresponding property. The mapping framework then detects the
@@ -7,12 +9,17 @@ package com.remondis.remap;
  * configuration. The mapping configuration is specified with the surrounding configuration method like {@link
  * Mapping#omitInDestination(FieldSelector)},{@link Mapping#omitInSource(FieldSelector)} .
  *
+ * <p>
+ * The interface is {@link Serializable}, so that selectors specified as method references like
+ * <code>Person::getName</code> can be resolved without invoking them on a proxy object.
+ * </p>
+ *
  * @param <T> The object type selecting a field on.
  * @param <R> The type of the field.
  * @author schuettec
  */
 @FunctionalInterface
-public interface TypedSelector<R, T> {
+public interface TypedSelector<R, T> extends Serializable {
 
   /**
    * This method is used to perform a get-method invocation of the specified destination object and returning its value.
@@ -0,0 +1,14 @@
+package com.remondis.remap.aot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Address {
+
+  private String street;
+
+}
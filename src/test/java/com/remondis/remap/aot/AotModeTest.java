@@ -0,0 +1,90 @@
+package com.remondis.remap.aot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+import com.remondis.remap.NativeImageConfiguration;
+
+/**
+ * The beans of this test are final classes that cannot be subclassed by proxies, so the mappings can only be created
+ * if the selectors are resolved without proxy objects.
+ */
+public class AotModeTest {
+
+  private static final String AOT_PROPERTY = "com.remondis.remap.aot";
+
+  @Before
+  public void enableAotMode() {
+    System.setProperty(AOT_PROPERTY, "true");
+  }
+
+  @After
+  public void disableAotMode() {
+    System.clearProperty(AOT_PROPERTY);
+  }
+
+  @Test
+  public void shouldResolveMethodReferencesWithoutProxies() {
+    Mapper<PersonResource, Person> mapper = personMapper();
+    Person person = mapper.map(new PersonResource("forename", "name", new AddressResource("street")));
+    assertThat(person).isEqualTo(new Person("forename", "name", new Address("street"), null));
+  }
+
+  @Test
+  public void shouldDenyLambdaExpressions() {
+    assertThatThrownBy(() -> Mapping.from(Address.class)
+        .to(AddressResource.class)
+        .omitInSource(address -> address.getStreet())).isInstanceOf(MappingException.class)
+            .hasMessageContaining("must be a method reference");
+  }
+
+  @Test
+  public void shouldDenyMethodReferencesToNonGetters() {
+    assertThatThrownBy(() -> Mapping.from(Address.class)
+        .to(AddressResource.class)
+        .omitInSource(Address::toString)).isInstanceOf(MappingException.class)
+            .hasMessageContaining("is not a valid Java Bean property get-method");
+  }
+
+  @Test
+  public void shouldCreateNativeImageConfiguration() throws Exception {
+    NativeImageConfiguration configuration = NativeImageConfiguration.of(personMapper());
+    assertThat(configuration.getReflectionConfiguration()).contains("\"name\" : \"" + Person.class.getName() + "\"")
+        .contains("\"name\" : \"" + PersonResource.class.getName() + "\"")
+        .contains("\"name\" : \"" + Address.class.getName() + "\"")
+        .contains("\"name\" : \"" + AddressResource.class.getName() + "\"")
+        .contains("\"allPublicMethods\" : true");
+    assertThat(configuration.getSerializationConfiguration())
+        .contains("\"lambdaCapturingTypes\"")
+        .contains("{ \"name\" : \"" + AotModeTest.class.getName() + "\" }");
+
+    Path directory = Files.createTempDirectory("native-image");
+    configuration.writeTo(directory);
+    assertThat(directory.resolve("reflect-config.json")).exists();
+    assertThat(directory.resolve("serialization-config.json")).exists();
+  }
+
+  private static Mapper<PersonResource, Person> personMapper() {
+    Mapper<AddressResource, Address> addressMapper = Mapping.from(AddressResource.class)
+        .to(Address.class)
+        .mapper();
+    return Mapping.from(PersonResource.class)
+        .to(Person.class)
+        .reassign(PersonResource::getFirstName)
+        .to(Person::getForename)
+        .omitInDestination(Person::getInternalId)
+        .useMapper(addressMapper)
+        .mapper();
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.aot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Person {
+
+  private String forename;
+
+  private String name;
+
+  private Address address;
+
+  private String internalId;
+
+}
@@ -0,0 +1,88 @@
+package com.remondis.remap.arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class ArraysTest {
+
+  private static Mapper<Matrix, MatrixResource> mapper() {
+    return Mapping.from(Matrix.class)
+        .to(MatrixResource.class)
+        .useMapper(Mapping.from(Cell.class)
+            .to(CellResource.class)
+            .mapper())
+        .mapper();
+  }
+
+  @Test
+  public void shouldCopyArraysOfPrimitivesAndBuildInTypes() {
+    Matrix matrix = new Matrix(new byte[] {
+        1, 2, 3
+    }, new int[][] {
+        {
+            1, 2
+        }, null, {
+            3
+        }
+    }, new String[] {
+        "a", null, "b"
+    }, null, null);
+
+    MatrixResource resource = mapper().map(matrix);
+
+    assertThat(resource.getPayload()).containsExactly(1, 2, 3)
+        .isNotSameAs(matrix.getPayload());
+    assertThat(resource.getValues()).isEqualTo(matrix.getValues())
+        .isNotSameAs(matrix.getValues());
+    assertThat(resource.getValues()[0]).isNotSameAs(matrix.getValues()[0]);
+    assertThat(resource.getTags()).containsExactly("a", null, "b")
+        .isNotSameAs(matrix.getTags());
+  }
+
+  @Test
+  public void shouldMapObjectArraysElementWise() {
+    Matrix matrix = new Matrix(null, null, null, new Cell[] {
+        new Cell(0, 1), null
+    }, new Cell[][] {
+        {
+            new Cell(0, 0)
+        }, {
+            new Cell(1, 0), new Cell(1, 1)
+        }
+    });
+
+    MatrixResource resource = mapper().map(matrix);
+
+    assertThat(resource.getCells()).containsExactly(new CellResource(0, 1), null);
+    assertThat(resource.getGrid()).isEqualTo(new CellResource[][] {
+        {
+            new CellResource(0, 0)
+        }, {
+            new CellResource(1, 0), new CellResource(1, 1)
+        }
+    });
+  }
+
+  @Test
+  public void shouldDenyMissingElementMapper() {
+    assertThatThrownBy(() -> Mapping.from(Matrix.class)
+        .to(MatrixResource.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("No mapper found for type mapping from " + Cell.class.getName());
+  }
+
+  @Test
+  public void shouldDenyDifferentPrimitiveComponentTypes() {
+    assertThatThrownBy(() -> Mapping.from(Samples.class)
+        .to(LongSamples.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("cannot be applied on the incompatible property types");
+  }
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Cell {
+
+  private int row;
+
+  private int column;
+
+}
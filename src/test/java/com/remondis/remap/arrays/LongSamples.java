@@ -0,0 +1,14 @@
+package com.remondis.remap.arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LongSamples {
+
+  private long[] values;
+
+}
@@ -0,0 +1,22 @@
+package com.remondis.remap.arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Matrix {
+
+  private byte[] payload;
+
+  private int[][] values;
+
+  private String[] tags;
+
+  private Cell[] cells;
+
+  private Cell[][] grid;
+
+}
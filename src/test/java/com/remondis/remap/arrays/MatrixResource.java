@@ -0,0 +1,22 @@
+package com.remondis.remap.arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatrixResource {
+
+  private byte[] payload;
+
+  private int[][] values;
+
+  private String[] tags;
+
+  private CellResource[] cells;
+
+  private CellResource[][] grid;
+
+}
@@ -0,0 +1,78 @@
+package com.remondis.remap.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+import com.remondis.remap.MappingFailure;
+import com.remondis.remap.MappingResult;
+
+public class BatchMappingTest {
+
+  private static Mapper<Row, Booking> mapper() {
+    return Mapping.from(Row.class)
+        .to(Booking.class)
+        .replace(Row::getComment, Booking::getComment)
+        .with(String::length)
+        .mapper();
+  }
+
+  @Test
+  public void shouldCollectFailures() {
+    List<Row> rows = Arrays.asList(new Row("1", "10", "a"), new Row("2", "ten", "b"), null, new Row("4", "40", null),
+        new Row("5", "50", "ccc"));
+    MappingResult<Row, Booking> result = mapper().mapAll(rows);
+
+    assertThat(result.getResults()).containsExactly(new Booking("1", 10L, 1), new Booking("5", 50L, 3));
+    assertThat(result.hasFailures()).isTrue();
+    List<MappingFailure<Row>> failures = result.getFailures();
+    assertThat(failures).hasSize(3);
+
+    MappingFailure<Row> conversion = failures.get(0);
+    assertThat(conversion.getIndex()).isEqualTo(1);
+    assertThat(conversion.getSource()).isSameAs(rows.get(1));
+    assertThat(conversion.getException()).isInstanceOf(MappingException.class)
+        .hasMessage("The value 'ten' of type java.lang.String cannot be converted to long.")
+        .hasCauseInstanceOf(NumberFormatException.class);
+
+    MappingFailure<Row> nullSource = failures.get(1);
+    assertThat(nullSource.getIndex()).isEqualTo(2);
+    assertThat(nullSource.getSource()).isNull();
+    assertThat(nullSource.getException()).hasMessage("Mapper cannot map null object.");
+
+    // Exceptions thrown by transform functions are collected as they are.
+    MappingFailure<Row> transform = failures.get(2);
+    assertThat(transform.getIndex()).isEqualTo(3);
+    assertThat(transform.getException()).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  public void shouldNotCaptureStackTracesInBatch() {
+    Row invalid = new Row("1", "ten", "a");
+    MappingResult<Row, Booking> result = mapper().mapAll(Arrays.asList(invalid));
+    assertThat(result.getFailures()
+        .get(0)
+        .getException()
+        .getStackTrace()).isEmpty();
+
+    // Outside of a batch the stack trace is captured as usual.
+    assertThatThrownBy(() -> mapper().map(invalid)).isInstanceOf(MappingException.class)
+        .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+  }
+
+  @Test
+  public void shouldMapWithoutFailures() {
+    MappingResult<Row, Booking> result = mapper().mapAll(Arrays.asList(new Row("1", "10", "a")));
+    assertThat(result.hasFailures()).isFalse();
+    assertThat(result.getFailures()).isEmpty();
+    assertThat(result.getResults()).containsExactly(new Booking("1", 10L, 1));
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.remondis.remap.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Booking {
+
+  private String id;
+
+  private long amount;
+
+  private int comment;
+
+}
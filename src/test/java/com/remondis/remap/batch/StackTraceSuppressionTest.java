@@ -0,0 +1,80 @@
+package com.remondis.remap.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class StackTraceSuppressionTest {
+
+  private static final Row INVALID = new Row("1", "ten", "a");
+
+  private static Mapping<Row, Booking> mapping() {
+    return Mapping.from(Row.class)
+        .to(Booking.class)
+        .replace(Row::getComment, Booking::getComment)
+        .withSkipWhenNull(String::length);
+  }
+
+  @Test
+  public void shouldSuppressStackTraces() {
+    Mapper<Row, Booking> mapper = mapping().suppressStackTraces()
+        .mapper();
+    assertThatThrownBy(() -> mapper.map(INVALID)).isInstanceOf(MappingException.class)
+        .hasMessage("The value 'ten' of type java.lang.String cannot be converted to long.")
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    assertThatThrownBy(() -> mapper.map(Arrays.asList(INVALID)))
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+
+    // The suppression ends with the mapping.
+    assertThatThrownBy(() -> mapping().mapper()
+        .map(INVALID)).satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+  }
+
+  @Test
+  public void shouldUseExceptionOfAccessMethodAsCause() {
+    IllegalStateException failure = new IllegalStateException("comment not loaded");
+    Row row = new Row("1", "10", "a") {
+      @Override
+      public String getComment() {
+        throw failure;
+      }
+    };
+    assertThatThrownBy(() -> mapping().mapper()
+        .map(row)).isInstanceOf(MappingException.class)
+            .hasCause(failure);
+  }
+
+  @Test
+  public void shouldSerializeFormattedMessage() throws Exception {
+    MappingException exception = null;
+    try {
+      mapping().mapper()
+          .map(INVALID);
+      fail("MappingException expected.");
+    } catch (MappingException e) {
+      exception = e;
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(exception);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      MappingException read = (MappingException) in.readObject();
+      assertThat(read.getMessage()).isEqualTo(exception.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+package com.remondis.remap.bidirectional;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Customer {
+
+  private Long id;
+
+  private String forename;
+
+  private String name;
+
+  private int age;
+
+  private List<String> tags;
+
+  private String internalNote;
+
+}
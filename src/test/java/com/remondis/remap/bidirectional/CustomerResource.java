@@ -0,0 +1,26 @@
+package com.remondis.remap.bidirectional;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerResource {
+
+  private Long id;
+
+  private String firstName;
+
+  private String name;
+
+  private String age;
+
+  private List<String> tags;
+
+  private String displayName;
+
+}
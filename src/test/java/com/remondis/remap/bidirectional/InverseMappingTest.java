@@ -0,0 +1,101 @@
+package com.remondis.remap.bidirectional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.remondis.remap.BidirectionalMapper;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class InverseMappingTest {
+
+  private static Mapping<Customer, CustomerResource> mapping() {
+    return Mapping.from(Customer.class)
+        .to(CustomerResource.class)
+        .reassign(Customer::getForename)
+        .to(CustomerResource::getFirstName)
+        .omitInSource(Customer::getInternalNote)
+        .omitInDestination(CustomerResource::getDisplayName);
+  }
+
+  @Test
+  public void shouldDeriveInverseMapping() {
+    Mapping<Customer, CustomerResource> mapping = mapping().replace(Customer::getAge, CustomerResource::getAge)
+        .with(String::valueOf);
+    Mapper<Customer, CustomerResource> to = mapping.mapper();
+    Mapper<CustomerResource, Customer> from = mapping.inverse()
+        .replace(CustomerResource::getAge, Customer::getAge)
+        .withSkipWhenNull(Integer::parseInt)
+        .mapper();
+    // Only the selectors of the inverse transformation are sensed.
+    assertThat(from.getBuildReport()
+        .getSelectors()).isEqualTo(2);
+
+    Customer customer = new Customer(1L, "forename", "name", 42, Arrays.asList("a", "b"), "note");
+    CustomerResource resource = to.map(customer);
+    assertThat(resource).isEqualTo(new CustomerResource(1L, "forename", "name", "42", Arrays.asList("a", "b"), null));
+
+    resource.setDisplayName("display");
+    assertThat(from.map(resource)).isEqualTo(new Customer(1L, "forename", "name", 42, Arrays.asList("a", "b"), null));
+  }
+
+  @Test
+  public void shouldRequireInverseTransformation() {
+    Mapping<Customer, CustomerResource> mapping = mapping().replace(Customer::getAge, CustomerResource::getAge)
+        .with(String::valueOf);
+    assertThatThrownBy(() -> mapping.inverse()
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("The inverse mapping requires a transformation from Property 'age' in "
+                + CustomerResource.class.getName() + " to Property 'age' in " + Customer.class.getName());
+  }
+
+  @Test
+  public void shouldDenyInverseOfConditionalReassign() {
+    Mapping<Customer, CustomerResource> mapping = Mapping.from(Customer.class)
+        .to(CustomerResource.class)
+        .reassign(Customer::getForename)
+        .when(customer -> customer.getAge() >= 18)
+        .to(CustomerResource::getFirstName)
+        .omitInSource(Customer::getInternalNote)
+        .omitInSource(Customer::getAge)
+        .omitInDestination(CustomerResource::getDisplayName)
+        .omitInDestination(CustomerResource::getAge);
+    assertThatThrownBy(() -> mapping.inverse()).isInstanceOf(MappingException.class)
+        .hasMessageContaining("The mapping from " + Customer.class.getName() + " to "
+            + CustomerResource.class.getName() + " cannot be inverted")
+        .hasMessageContaining("Property 'forename' in " + Customer.class.getName());
+  }
+
+  @Test
+  public void shouldDenyInverseOfReassignWithDefault() {
+    Mapping<Customer, CustomerResource> mapping = Mapping.from(Customer.class)
+        .to(CustomerResource.class)
+        .reassign(Customer::getForename)
+        .withDefault("unknown")
+        .to(CustomerResource::getFirstName)
+        .omitInSource(Customer::getInternalNote)
+        .omitInSource(Customer::getAge)
+        .omitInDestination(CustomerResource::getDisplayName)
+        .omitInDestination(CustomerResource::getAge);
+    assertThatThrownBy(() -> mapping.inverse()).isInstanceOf(MappingException.class)
+        .hasMessageContaining("cannot be inverted");
+  }
+
+  @Test
+  public void shouldDeriveBidirectionalMapper() {
+    BidirectionalMapper<Customer, CustomerResource> mapper = BidirectionalMapper.derive(mapping()
+        .omitInSource(Customer::getAge)
+        .omitInDestination(CustomerResource::getAge));
+
+    Customer customer = new Customer(1L, "forename", "name", 42, null, "note");
+    CustomerResource resource = mapper.map(customer);
+    assertThat(resource).isEqualTo(new CustomerResource(1L, "forename", "name", null, null, null));
+    assertThat(mapper.mapFrom(resource)).isEqualTo(new Customer(1L, "forename", "name", 0, null, null));
+  }
+
+}
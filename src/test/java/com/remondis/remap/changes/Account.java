@@ -0,0 +1,63 @@
+package com.remondis.remap.changes;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An entity recording the invocations of its set-methods like a persistence provider tracking dirty fields.
+ */
+public class Account {
+
+  private final Set<String> dirty = new LinkedHashSet<>();
+
+  private String name;
+
+  private BigDecimal balance;
+
+  private List<String> tags;
+
+  private Address address;
+
+  public Set<String> dirtyProperties() {
+    return dirty;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    dirty.add("name");
+    this.name = name;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public void setBalance(BigDecimal balance) {
+    dirty.add("balance");
+    this.balance = balance;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public void setTags(List<String> tags) {
+    dirty.add("tags");
+    this.tags = tags;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public void setAddress(Address address) {
+    dirty.add("address");
+    this.address = address;
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.remondis.remap.changes;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDto {
+
+  private String name;
+
+  private BigDecimal balance;
+
+  private List<String> tags;
+
+  private String city;
+
+}
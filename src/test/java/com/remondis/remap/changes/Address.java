@@ -0,0 +1,14 @@
+package com.remondis.remap.changes;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Address {
+
+  private String city;
+
+}
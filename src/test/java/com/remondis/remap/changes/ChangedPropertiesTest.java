@@ -0,0 +1,102 @@
+package com.remondis.remap.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+import com.remondis.remap.PropertyPath;
+
+public class ChangedPropertiesTest {
+
+  private static Mapping<AccountDto, Account> mapping() {
+    return Mapping.from(AccountDto.class)
+        .to(Account.class)
+        .reassign(AccountDto::getCity)
+        .toPath(PropertyPath.of(Account::getAddress)
+            .then(Address::getCity));
+  }
+
+  private static Account account() {
+    Account account = new Account();
+    account.setName("name");
+    account.setBalance(new BigDecimal("10.00"));
+    account.setTags(Arrays.asList("a", "b"));
+    account.setAddress(new Address("city"));
+    account.dirtyProperties()
+        .clear();
+    return account;
+  }
+
+  @Test
+  public void shouldNotWriteUnchangedProperties() {
+    Mapper<AccountDto, Account> mapper = mapping().mapper();
+    Account account = account();
+
+    AccountDto dto = new AccountDto("name", new BigDecimal("10.00"), Arrays.asList("a", "b"), "city");
+    assertThat(mapper.mapChanged(dto, account)).isEmpty();
+    assertThat(account.dirtyProperties()).isEmpty();
+  }
+
+  @Test
+  public void shouldWriteChangedProperties() {
+    Mapper<AccountDto, Account> mapper = mapping().mapper();
+    Account account = account();
+
+    AccountDto dto = new AccountDto("other", new BigDecimal("10.00"), Arrays.asList("a", "c"), "town");
+    assertThat(mapper.mapChanged(dto, account)).containsOnly("name", "tags", "address.city");
+    assertThat(account.dirtyProperties()).containsOnly("name", "tags");
+    assertThat(account.getName()).isEqualTo("other");
+    assertThat(account.getTags()).containsExactly("a", "c");
+    assertThat(account.getAddress()
+        .getCity()).isEqualTo("town");
+  }
+
+  @Test
+  public void shouldCreateBeansOnChangedPath() {
+    Mapper<AccountDto, Account> mapper = mapping().mapper();
+    Account account = account();
+    account.setAddress(null);
+    account.dirtyProperties()
+        .clear();
+
+    AccountDto dto = new AccountDto("name", new BigDecimal("10.00"), Arrays.asList("a", "b"), null);
+    assertThat(mapper.mapChanged(dto, account)).isEmpty();
+
+    dto.setCity("city");
+    assertThat(mapper.mapChanged(dto, account)).containsOnly("address.city");
+    assertThat(account.getAddress()).isEqualTo(new Address("city"));
+  }
+
+  @Test
+  public void shouldUseEqualityPerType() {
+    AccountDto dto = new AccountDto("name", new BigDecimal("10.0"), Arrays.asList("a", "b"), "city");
+
+    Account account = account();
+    assertThat(mapping().mapper()
+        .mapChanged(dto, account)).containsOnly("balance");
+
+    account = account();
+    Mapper<AccountDto, Account> mapper = mapping().equality(BigDecimal.class, (a, b) -> a == null ? b == null
+        : b != null && a.compareTo(b) == 0)
+        .mapper();
+    assertThat(mapper.mapChanged(dto, account)).isEmpty();
+    assertThat(account.getBalance()).isEqualTo(new BigDecimal("10.00"));
+  }
+
+  @Test
+  public void shouldDenyChangesOnCompiledMapping() {
+    Mapper<AccountDto, Account> mapper = Mapping.from(AccountDto.class)
+        .to(Account.class)
+        .compiled(dto -> new Account());
+    assertThatThrownBy(() -> mapper.mapChanged(new AccountDto(), new Account())).isInstanceOf(MappingException.class)
+        .hasMessageContaining("cannot map changes onto an existing object");
+  }
+
+}
@@ -0,0 +1,14 @@
+package com.remondis.remap.compiled;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class B {
+
+  private A a;
+
+}
@@ -0,0 +1,73 @@
+package com.remondis.remap.compiled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+import com.remondis.remap.MappingMetrics;
+import com.remondis.remap.Transform;
+
+public class CompiledMappingTest {
+
+  /**
+   * A hand-written stand-in for a mapping generated by the annotation processor.
+   */
+  private static final Transform<A, AResource> COMPILED = a -> new AResource(a.getName(), String.valueOf(a
+      .getNumber()));
+
+  @Test
+  public void shouldDelegateToCompiledMapping() {
+    MappingMetrics metrics = new MappingMetrics();
+    Mapper<A, AResource> mapper = Mapping.from(A.class)
+        .to(AResource.class)
+        .listener(metrics)
+        .compiled(COMPILED);
+
+    assertThat(mapper.map(new A("a", 1))).isEqualTo(new AResource("a", "1"));
+    List<AResource> resources = mapper.map(Arrays.asList(new A("b", 2), new A("c", 3)));
+    assertThat(resources).containsExactly(new AResource("b", "2"), new AResource("c", "3"));
+    assertThat(metrics.getStatistics(mapper)
+        .getObjectsMapped()).isEqualTo(3);
+    assertThat(mapper.toString()).contains("using compiled mapping");
+  }
+
+  @Test
+  public void shouldBeUsableAsNestedMapper() {
+    Mapper<A, AResource> compiled = Mapping.from(A.class)
+        .to(AResource.class)
+        .compiled(COMPILED);
+    Mapper<B, BResource> mapper = Mapping.from(B.class)
+        .to(BResource.class)
+        .useMapper(compiled)
+        .mapper();
+    BResource resource = mapper.map(new B(new A("a", 1)));
+    assertThat(resource.getA()).isEqualTo(new AResource("a", "1"));
+  }
+
+  @Test
+  public void shouldDenyNull() {
+    Mapper<A, AResource> mapper = Mapping.from(A.class)
+        .to(AResource.class)
+        .compiled(COMPILED);
+    assertThatThrownBy(() -> mapper.map((A) null)).isInstanceOf(MappingException.class)
+        .hasMessage("Mapper cannot map null object.");
+  }
+
+  @Test
+  public void shouldDenyDeclaredOperations() {
+    assertThatThrownBy(() -> Mapping.from(A.class)
+        .to(AResource.class)
+        .replace(A::getNumber, AResource::getNumber)
+        .with(String::valueOf)
+        .compiled(COMPILED)).isInstanceOf(MappingException.class)
+            .hasMessageContaining("is performed by a compiled mapping");
+  }
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.composition;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressEntity {
+
+  private String street;
+
+  private String city;
+
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.composition;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Data;
+
+@Data
+public class AddressModel {
+
+  static final AtomicInteger INSTANCES = new AtomicInteger();
+
+  private String street;
+
+  private String city;
+
+  public AddressModel() {
+    INSTANCES.incrementAndGet();
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.remondis.remap.composition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingMetrics;
+
+public class MapperCompositionTest {
+
+  private Mapper<PersonEntity, PersonModel> modelMapper;
+  private Mapper<PersonModel, PersonDto> dtoMapper;
+
+  @Before
+  public void setup() {
+    Mapper<AddressEntity, AddressModel> addressModelMapper = Mapping.from(AddressEntity.class)
+        .to(AddressModel.class)
+        .mapper();
+    Mapper<AddressModel, AddressDto> addressDtoMapper = Mapping.from(AddressModel.class)
+        .to(AddressDto.class)
+        .mapper();
+    modelMapper = Mapping.from(PersonEntity.class)
+        .to(PersonModel.class)
+        .reassign(PersonEntity::getForename)
+        .to(PersonModel::getFirstName)
+        .useMapper(addressModelMapper)
+        .mapper();
+    dtoMapper = Mapping.from(PersonModel.class)
+        .to(PersonDto.class)
+        .replace(PersonModel::getAge, PersonDto::getAge)
+        .with(String::valueOf)
+        .replace(PersonModel::getRemarks, PersonDto::getRemarks)
+        .with(List::size)
+        .useMapper(addressDtoMapper)
+        .mapper();
+  }
+
+  @Test
+  public void shouldMapWithoutIntermediateObjects() {
+    Mapper<PersonEntity, PersonDto> mapper = modelMapper.andThen(dtoMapper);
+    PersonEntity entity = new PersonEntity("forename", "name", 42, new AddressEntity("street", "city"),
+        Arrays.asList(new AddressEntity("a", "b"), new AddressEntity("c", "d")), Arrays.asList("x", "y"));
+
+    // The nested mappers are fused on first use
+    mapper.map(entity);
+    int persons = PersonModel.INSTANCES.get();
+    int addresses = AddressModel.INSTANCES.get();
+    PersonDto dto = mapper.map(entity);
+    assertThat(PersonModel.INSTANCES.get()).isEqualTo(persons);
+    assertThat(AddressModel.INSTANCES.get()).isEqualTo(addresses);
+
+    assertThat(dto).isEqualTo(new PersonDto("forename", "name", "42", new AddressDto("street", "city"),
+        Arrays.asList(new AddressDto("a", "b"), new AddressDto("c", "d")), 2));
+    assertThat(dto).isEqualTo(dtoMapper.map(modelMapper.map(entity)));
+  }
+
+  @Test
+  public void shouldReadDefaultsOfIntermediateObject() {
+    Mapper<PersonEntity, PersonDto> mapper = modelMapper.andThen(dtoMapper);
+    PersonEntity entity = new PersonEntity("forename", null, 0, null, null, null);
+
+    PersonDto dto = mapper.map(entity);
+    assertThat(dto).isEqualTo(new PersonDto("forename", null, "0", null, null, 1));
+    assertThat(dto).isEqualTo(dtoMapper.map(modelMapper.map(entity)));
+  }
+
+  @Test
+  public void shouldChainMappersNotifyingListeners() {
+    MappingMetrics metrics = new MappingMetrics();
+    Mapper<PersonModel, PersonDto> measuredDtoMapper = Mapping.from(PersonModel.class)
+        .to(PersonDto.class)
+        .replace(PersonModel::getAge, PersonDto::getAge)
+        .with(String::valueOf)
+        .replace(PersonModel::getRemarks, PersonDto::getRemarks)
+        .with(List::size)
+        .useMapper(Mapping.from(AddressModel.class)
+            .to(AddressDto.class)
+            .mapper())
+        .listener(metrics)
+        .mapper();
+    Mapper<PersonEntity, PersonDto> mapper = modelMapper.andThen(measuredDtoMapper);
+
+    List<PersonDto> dtos = mapper.map(Arrays.asList(new PersonEntity("forename", "name", 42, null, null, null)));
+    assertThat(dtos).containsExactly(new PersonDto("forename", "name", "42", null, null, 1));
+    assertThat(metrics.getStatistics(measuredDtoMapper)
+        .getObjectsMapped()).isEqualTo(1);
+  }
+
+}
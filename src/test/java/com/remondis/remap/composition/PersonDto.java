@@ -0,0 +1,26 @@
+package com.remondis.remap.composition;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonDto {
+
+  private String firstName;
+
+  private String name;
+
+  private String age;
+
+  private AddressDto address;
+
+  private List<AddressDto> formerAddresses;
+
+  private int remarks;
+
+}
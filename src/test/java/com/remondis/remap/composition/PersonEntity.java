@@ -0,0 +1,26 @@
+package com.remondis.remap.composition;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonEntity {
+
+  private String forename;
+
+  private String name;
+
+  private int age;
+
+  private AddressEntity address;
+
+  private List<AddressEntity> formerAddresses;
+
+  private List<String> remarks;
+
+}
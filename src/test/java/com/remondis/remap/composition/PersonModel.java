@@ -0,0 +1,31 @@
+package com.remondis.remap.composition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Data;
+
+@Data
+public class PersonModel {
+
+  static final AtomicInteger INSTANCES = new AtomicInteger();
+
+  private String firstName;
+
+  private String name;
+
+  private int age;
+
+  private AddressModel address;
+
+  private List<AddressModel> formerAddresses;
+
+  private List<String> remarks = new ArrayList<>();
+
+  public PersonModel() {
+    INSTANCES.incrementAndGet();
+    remarks.add("created");
+  }
+
+}
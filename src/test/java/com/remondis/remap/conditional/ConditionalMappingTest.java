@@ -0,0 +1,72 @@
+package com.remondis.remap.conditional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+
+public class ConditionalMappingTest {
+
+  private final AtomicInteger notesMapped = new AtomicInteger();
+
+  private Mapper<Customer, CustomerResource> mapper() {
+    Mapper<Note, NoteResource> noteMapper = Mapping.from(Note.class)
+        .to(NoteResource.class)
+        .replace(Note::getText, NoteResource::getText)
+        .with(text -> {
+          notesMapped.incrementAndGet();
+          return text;
+        })
+        .mapper();
+    return Mapping.from(Customer.class)
+        .to(CustomerResource.class)
+        .reassign(Customer::getInternalNote)
+        .when(Customer::isInternal)
+        .to(CustomerResource::getNote)
+        .replaceCollection(Customer::getNotes, CustomerResource::getNotes)
+        .when(Customer::isInternal)
+        .with(noteMapper::map)
+        .replace(Customer::getTags, CustomerResource::getTagCount)
+        .when(customer -> customer.getTags() != null)
+        .with(List::size)
+        .mapper();
+  }
+
+  @Test
+  public void shouldPerformOperationsIfConditionIsMet() {
+    Customer customer = new Customer("name", true, "note", Arrays.asList(new Note("a")), Arrays.asList("x", "y"));
+
+    assertThat(mapper().map(customer))
+        .isEqualTo(new CustomerResource("name", true, "note", Arrays.asList(new NoteResource("a")), 2));
+    assertThat(notesMapped.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSkipOperationsIfConditionIsNotMet() {
+    Customer customer = new Customer("name", false, "note", Arrays.asList(new Note("a")), null);
+
+    assertThat(mapper().map(customer)).isEqualTo(new CustomerResource("name", false, null, null, 0));
+    // The transformation is not invoked for skipped operations.
+    assertThat(notesMapped.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldEvaluateConditionsWhenChainingMappers() {
+    Mapper<CustomerResource, CustomerResource> copy = Mapping.from(CustomerResource.class)
+        .to(CustomerResource.class)
+        .mapper();
+    Mapper<Customer, CustomerResource> mapper = mapper().andThen(copy);
+
+    assertThat(mapper.map(new Customer("name", false, "note", null, null)))
+        .isEqualTo(new CustomerResource("name", false, null, null, 0));
+    assertThat(mapper.map(new Customer("name", true, "note", null, null)))
+        .isEqualTo(new CustomerResource("name", true, "note", null, 0));
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.remondis.remap.conditional;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerResource {
+
+  private String name;
+
+  private boolean internal;
+
+  private String note;
+
+  private List<NoteResource> notes;
+
+  private int tagCount;
+
+}
@@ -0,0 +1,14 @@
+package com.remondis.remap.conditional;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteResource {
+
+  private String text;
+
+}
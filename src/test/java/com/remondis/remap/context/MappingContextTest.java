@@ -0,0 +1,61 @@
+package com.remondis.remap.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+
+public class MappingContextTest {
+
+  private static Mapper<Product, ProductResource> mapper() {
+    Mapper<Tag, TagResource> tagMapper = Mapping.from(Tag.class)
+        .to(TagResource.class)
+        .replace(Tag::getKey, TagResource::getLabel)
+        .withContextSkipWhenNull((String key, Locale locale) -> key + "_" + locale.getLanguage())
+        .mapper();
+    return Mapping.from(Product.class)
+        .to(ProductResource.class)
+        .replace(Product::getPrice, ProductResource::getPrice)
+        .withContext((Double price, Locale locale) -> String.format(locale == null ? Locale.ROOT : locale, "%.2f",
+            price))
+        .useMapper(tagMapper)
+        .mapper();
+  }
+
+  @Test
+  public void shouldPassContextToNestedMappers() {
+    Product product = new Product("name", 1.5, Arrays.asList(new Tag("a"), new Tag("b")));
+
+    assertThat(mapper().map(product, Locale.GERMANY)).isEqualTo(
+        new ProductResource("name", "1,50", Arrays.asList(new TagResource("a_de"), new TagResource("b_de"))));
+    assertThat(mapper().map(product, Locale.ENGLISH)).isEqualTo(
+        new ProductResource("name", "1.50", Arrays.asList(new TagResource("a_en"), new TagResource("b_en"))));
+  }
+
+  @Test
+  public void shouldPassNullContextWithoutContext() {
+    Product product = new Product("name", 1.5, null);
+
+    assertThat(mapper().map(product)).isEqualTo(new ProductResource("name", "1.50", null));
+  }
+
+  @Test
+  public void shouldPassContextToChainedMappers() {
+    Mapper<ProductResource, ProductView> viewMapper = Mapping.from(ProductResource.class)
+        .to(ProductView.class)
+        .replace(ProductResource::getName, ProductView::getName)
+        .withContext((String name, Locale locale) -> name.toUpperCase(locale))
+        .mapper();
+    Mapper<Product, ProductView> mapper = mapper().andThen(viewMapper);
+    Product product = new Product("title", 1.5, Arrays.asList(new Tag("a")));
+
+    assertThat(mapper.map(product, Locale.GERMANY)).isEqualTo(
+        new ProductView("TITLE", "1,50", Arrays.asList(new TagResource("a_de"))));
+  }
+
+}
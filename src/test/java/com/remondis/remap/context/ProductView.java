@@ -0,0 +1,20 @@
+package com.remondis.remap.context;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductView {
+
+  private String name;
+
+  private String price;
+
+  private List<TagResource> tags;
+
+}
@@ -0,0 +1,14 @@
+package com.remondis.remap.context;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tag {
+
+  private String key;
+
+}
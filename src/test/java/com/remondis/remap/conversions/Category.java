@@ -0,0 +1,6 @@
+package com.remondis.remap.conversions;
+
+public enum Category {
+  BOOKS,
+  GAMES
+}
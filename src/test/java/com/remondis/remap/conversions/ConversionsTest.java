@@ -0,0 +1,65 @@
+package com.remondis.remap.conversions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class ConversionsTest {
+
+  private static Mapper<Product, ProductResource> mapper() {
+    return Mapping.from(Product.class)
+        .to(ProductResource.class)
+        .mapper();
+  }
+
+  @Test
+  public void shouldConvertImplicitly() {
+    Product product = new Product(1, 2, 3, 4, 5L, "6", Status.SOLD_OUT, "GAMES", 'A');
+    assertThat(mapper().map(product))
+        .isEqualTo(new ProductResource(1, 2, 3L, 4d, "5", 6, "SOLD_OUT", Category.GAMES, 65));
+  }
+
+  @Test
+  public void shouldSkipNullValues() {
+    Product product = new Product(1, null, 3, null, 5L, null, null, null, 'A');
+    assertThat(mapper().map(product)).isEqualTo(new ProductResource(1, 0, 3L, null, "5", 0, null, null, 65));
+  }
+
+  @Test
+  public void shouldFailOnInvalidValues() {
+    Product invalidNumber = new Product(1, 2, 3, 4, 5L, "six", null, null, 'A');
+    assertThatThrownBy(() -> mapper().map(invalidNumber)).isInstanceOf(MappingException.class)
+        .hasMessageContaining("The value 'six' of type java.lang.String cannot be converted to int.");
+    Product invalidEnum = new Product(1, 2, 3, 4, 5L, null, null, "MUSIC", 'A');
+    assertThatThrownBy(() -> mapper().map(invalidEnum)).isInstanceOf(MappingException.class)
+        .hasMessageContaining("cannot be converted to " + Category.class.getName());
+  }
+
+  @Test
+  public void shouldBoxOnReassign() {
+    Mapper<Product, ProductResource> mapper = Mapping.from(Product.class)
+        .to(ProductResource.class)
+        .reassign(Product::getWeight)
+        .to(ProductResource::getId)
+        .omitInSource(Product::getId)
+        .omitInDestination(ProductResource::getWeight)
+        .mapper();
+    Product product = new Product(1, 2, 3, 4, 5L, "6", null, null, 'A');
+    assertThat(mapper.map(product)
+        .getId()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldDenyNarrowing() {
+    assertThatThrownBy(() -> Mapping.from(Narrow.class)
+        .to(Narrowed.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("cannot be applied on the incompatible property types");
+  }
+
+}
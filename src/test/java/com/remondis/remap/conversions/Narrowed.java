@@ -0,0 +1,14 @@
+package com.remondis.remap.conversions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Narrowed {
+
+  private int value;
+
+}
@@ -0,0 +1,30 @@
+package com.remondis.remap.conversions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Product {
+
+  private int id;
+
+  private Integer stock;
+
+  private int weight;
+
+  private Integer price;
+
+  private long ean;
+
+  private String quantity;
+
+  private Status status;
+
+  private String category;
+
+  private char code;
+
+}
@@ -0,0 +1,30 @@
+package com.remondis.remap.conversions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductResource {
+
+  private Integer id;
+
+  private int stock;
+
+  private long weight;
+
+  private Double price;
+
+  private String ean;
+
+  private int quantity;
+
+  private String status;
+
+  private Category category;
+
+  private int code;
+
+}
@@ -0,0 +1,6 @@
+package com.remondis.remap.conversions;
+
+public enum Status {
+  AVAILABLE,
+  SOLD_OUT
+}
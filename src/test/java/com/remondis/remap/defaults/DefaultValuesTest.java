@@ -0,0 +1,85 @@
+package com.remondis.remap.defaults;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import org.junit.Test;
+
+import com.remondis.remap.AssertMapping;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+
+public class DefaultValuesTest {
+
+  private static Mapper<Row, RowDto> mapper() {
+    return Mapping.from(Row.class)
+        .to(RowDto.class)
+        .reassign(Row::getName)
+        .withDefault("")
+        .to(RowDto::getLabel)
+        .replace(Row::getAmount, RowDto::getAmount)
+        .withDefault("n/a")
+        .with(amount -> amount.toString())
+        .reassign(Row::getTags)
+        .orElse(LinkedList::new)
+        .to(RowDto::getTags)
+        .mapper();
+  }
+
+  @Test
+  public void shouldWriteDefaultsForNullValues() {
+    Mapper<Row, RowDto> mapper = mapper();
+    RowDto first = mapper.map(new Row(null, null, null));
+    RowDto second = mapper.map(new Row(null, null, null));
+
+    assertThat(first).isEqualTo(new RowDto("", "n/a", Arrays.asList()));
+    // Supplied defaults are not shared
+    assertThat(first.getTags()).isNotSameAs(second.getTags());
+  }
+
+  @Test
+  public void shouldMapNonNullValues() {
+    assertThat(mapper().map(new Row("name", 42, Arrays.asList("a"))))
+        .isEqualTo(new RowDto("name", "42", Arrays.asList("a")));
+  }
+
+  @Test
+  public void shouldApplyDefaultsWhenChainingMappers() {
+    Mapper<RowDto, Row> back = Mapping.from(RowDto.class)
+        .to(Row.class)
+        .reassign(RowDto::getLabel)
+        .to(Row::getName)
+        .replace(RowDto::getAmount, Row::getAmount)
+        .withDefault(-1)
+        .with(amount -> "n/a".equals(amount) ? null : Integer.valueOf(amount))
+        .mapper();
+    Mapper<Row, Row> roundTrip = mapper().andThen(back);
+
+    assertThat(roundTrip.map(new Row(null, null, null))).isEqualTo(new Row("", null, Arrays.asList()));
+    assertThat(roundTrip.map(new Row("name", 1, null))).isEqualTo(new Row("name", 1, Arrays.asList()));
+  }
+
+  @Test
+  public void shouldNotRequireNullSafeTransformationWithDefault() {
+    AssertMapping.of(mapper())
+        .expectReassign(Row::getName)
+        .to(RowDto::getLabel)
+        .expectReplace(Row::getAmount, RowDto::getAmount)
+        .andTest(amount -> amount.toString())
+        .expectReassign(Row::getTags)
+        .to(RowDto::getTags)
+        .ensure();
+  }
+
+  @Test
+  public void shouldDenyNullDefault() {
+    assertThatThrownBy(() -> Mapping.from(Row.class)
+        .to(RowDto.class)
+        .reassign(Row::getName)
+        .withDefault(null)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.defaults;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowDto {
+
+  private String label;
+
+  private String amount;
+
+  private List<String> tags;
+
+}
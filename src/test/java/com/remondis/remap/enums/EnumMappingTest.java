@@ -0,0 +1,72 @@
+package com.remondis.remap.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.remondis.remap.EnumMapping;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class EnumMappingTest {
+
+  private static Mapper<Status, StatusResource> statusMapper() {
+    return EnumMapping.from(Status.class)
+        .to(StatusResource.class)
+        .map(Status.NEW, StatusResource.OPEN)
+        .mapper();
+  }
+
+  @Test
+  public void shouldMapConstantsByNameAndExplicitPairs() {
+    Mapper<Status, StatusResource> mapper = statusMapper();
+    assertThat(mapper.map(Status.NEW)).isEqualTo(StatusResource.OPEN);
+    assertThat(mapper.map(Status.IN_PROGRESS)).isEqualTo(StatusResource.IN_PROGRESS);
+    assertThat(mapper.map(Status.DONE)).isEqualTo(StatusResource.DONE);
+  }
+
+  @Test
+  public void shouldMapEnumPropertiesUsingEnumMapper() {
+    Mapper<Ticket, TicketResource> mapper = Mapping.from(Ticket.class)
+        .to(TicketResource.class)
+        .useMapper(statusMapper())
+        .mapper();
+
+    Ticket ticket = new Ticket("title", Status.IN_PROGRESS, Arrays.asList(Status.NEW, Status.IN_PROGRESS));
+    assertThat(mapper.map(ticket)).isEqualTo(new TicketResource("title", StatusResource.IN_PROGRESS,
+        Arrays.asList(StatusResource.OPEN, StatusResource.IN_PROGRESS)));
+    assertThat(mapper.map(new Ticket("title", null, null))).isEqualTo(new TicketResource("title", null, null));
+  }
+
+  @Test
+  public void shouldDenyUnmappedConstants() {
+    assertThatThrownBy(() -> EnumMapping.from(StatusResource.class)
+        .to(Status.class)
+        .map(StatusResource.OPEN, Status.NEW)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("The constants [REJECTED] of " + StatusResource.class.getName()
+                + " are not mapped to constants of " + Status.class.getName());
+  }
+
+  @Test
+  public void shouldDenyConstantMappedTwice() {
+    assertThatThrownBy(() -> EnumMapping.from(Status.class)
+        .to(StatusResource.class)
+        .map(Status.NEW, StatusResource.OPEN)
+        .map(Status.NEW, StatusResource.REJECTED)).isInstanceOf(MappingException.class)
+            .hasMessageContaining("The constant 'NEW' of " + Status.class.getName() + " is already mapped");
+  }
+
+  @Test
+  public void shouldDenyEnumMappingWithoutMapper() {
+    assertThatThrownBy(() -> Mapping.from(Ticket.class)
+        .to(TicketResource.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("No mapper found for type mapping from " + Status.class.getName());
+  }
+
+}
@@ -0,0 +1,7 @@
+package com.remondis.remap.enums;
+
+public enum Status {
+  NEW,
+  IN_PROGRESS,
+  DONE
+}
@@ -0,0 +1,8 @@
+package com.remondis.remap.enums;
+
+public enum StatusResource {
+  OPEN,
+  IN_PROGRESS,
+  DONE,
+  REJECTED
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.enums;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Ticket {
+
+  private String title;
+
+  private Status status;
+
+  private List<Status> history;
+
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.enums;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketResource {
+
+  private String title;
+
+  private StatusResource status;
+
+  private List<StatusResource> history;
+
+}
@@ -0,0 +1,24 @@
+package com.remondis.remap.incremental;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Aggregate {
+
+  private long id;
+
+  private String name;
+
+  private Person owner;
+
+  private List<String> items;
+
+  private int total;
+
+}
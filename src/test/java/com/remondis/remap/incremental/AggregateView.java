@@ -0,0 +1,24 @@
+package com.remondis.remap.incremental;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateView {
+
+  private long id;
+
+  private String title;
+
+  private PersonView owner;
+
+  private List<String> items;
+
+  private String total;
+
+}
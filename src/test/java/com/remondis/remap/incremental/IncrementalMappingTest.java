@@ -0,0 +1,122 @@
+package com.remondis.remap.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class IncrementalMappingTest {
+
+  private AtomicInteger totals;
+  private AtomicInteger emails;
+  private Mapper<Aggregate, AggregateView> mapper;
+
+  @Before
+  public void setup() {
+    totals = new AtomicInteger();
+    emails = new AtomicInteger();
+    Mapper<Person, PersonView> personMapper = Mapping.from(Person.class)
+        .to(PersonView.class)
+        .replace(Person::getEmail, PersonView::getEmail)
+        .withSkipWhenNull(email -> {
+          emails.incrementAndGet();
+          return email.toLowerCase();
+        })
+        .mapper();
+    mapper = Mapping.from(Aggregate.class)
+        .to(AggregateView.class)
+        .reassign(Aggregate::getName)
+        .to(AggregateView::getTitle)
+        .replace(Aggregate::getTotal, AggregateView::getTotal)
+        .with(total -> {
+          totals.incrementAndGet();
+          return String.valueOf(total);
+        })
+        .useMapper(personMapper)
+        .mapper();
+  }
+
+  private static Aggregate aggregate() {
+    return new Aggregate(1L, "name", new Person("owner", "OWNER@EXAMPLE.COM"), Arrays.asList("a", "b"), 42);
+  }
+
+  @Test
+  public void shouldOnlyPerformAffectedTransformations() {
+    Aggregate aggregate = aggregate();
+    AggregateView view = mapper.map(aggregate);
+    assertThat(totals.get()).isEqualTo(1);
+
+    aggregate.setName("renamed");
+    aggregate.setItems(Arrays.asList("c"));
+    // Not declared as changed, so the destination keeps the previous value.
+    aggregate.setId(2L);
+    assertThat(mapper.mapIncremental(aggregate, view, new HashSet<>(Arrays.asList("name", "items")))).isSameAs(view);
+
+    assertThat(view).isEqualTo(new AggregateView(1L, "renamed", new PersonView("owner", "owner@example.com"),
+        Arrays.asList("c"), "42"));
+    assertThat(totals.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldApplyNestedChangesToNestedObject() {
+    Aggregate aggregate = aggregate();
+    AggregateView view = mapper.map(aggregate);
+    PersonView owner = view.getOwner();
+    assertThat(emails.get()).isEqualTo(1);
+
+    aggregate.getOwner()
+        .setName("other");
+    mapper.mapIncremental(aggregate, view, Collections.singleton("owner.name"));
+
+    assertThat(view.getOwner()).isSameAs(owner)
+        .isEqualTo(new PersonView("other", "owner@example.com"));
+    assertThat(emails.get()).isEqualTo(1);
+    assertThat(totals.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReplaceNestedObjectChangedAsWhole() {
+    Aggregate aggregate = aggregate();
+    AggregateView view = mapper.map(aggregate);
+    PersonView owner = view.getOwner();
+
+    aggregate.setOwner(new Person("other", "OTHER@EXAMPLE.COM"));
+    mapper.mapIncremental(aggregate, view, new HashSet<>(Arrays.asList("owner.name", "owner")));
+
+    assertThat(view.getOwner()).isNotSameAs(owner)
+        .isEqualTo(new PersonView("other", "other@example.com"));
+  }
+
+  @Test
+  public void shouldMapMissingNestedObjectAsWhole() {
+    Aggregate aggregate = aggregate();
+    aggregate.setOwner(null);
+    AggregateView view = mapper.map(aggregate);
+    assertThat(view.getOwner()).isNull();
+
+    aggregate.setOwner(new Person("owner", null));
+    mapper.mapIncremental(aggregate, view, Collections.singleton("owner.name"));
+    assertThat(view.getOwner()).isEqualTo(new PersonView("owner", null));
+  }
+
+  @Test
+  public void shouldDenyUnknownProperties() {
+    Aggregate aggregate = aggregate();
+    AggregateView view = mapper.map(aggregate);
+    assertThatThrownBy(() -> mapper.mapIncremental(aggregate, view, Collections.singleton("title")))
+        .isInstanceOf(MappingException.class)
+        .hasMessage("The type " + Aggregate.class.getName() + " does not declare a property 'title' with get- and "
+            + "set-method.");
+  }
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.incremental;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Person {
+
+  private String name;
+
+  private String email;
+
+}
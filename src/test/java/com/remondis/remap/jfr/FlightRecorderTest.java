@@ -0,0 +1,81 @@
+package com.remondis.remap.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderTest {
+
+  private static final String MAP_EVENT = "com.remondis.remap.Map";
+  private static final String BUILD_EVENT = "com.remondis.remap.MapperBuild";
+
+  @Test
+  public void shouldEmitBuildAndMapEvents() throws Exception {
+    Path file = Files.createTempFile("remap", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(MAP_EVENT)
+          .withThreshold(null);
+      recording.enable(BUILD_EVENT)
+          .withThreshold(null);
+      recording.start();
+
+      Mapper<A, AResource> mapper = Mapping.from(A.class)
+          .to(AResource.class)
+          .replace(A::getNumber, AResource::getNumber)
+          .withSkipWhenNull(String::valueOf)
+          .mapper();
+      mapper.map(new A("a", 1));
+      mapper.map(Arrays.asList(new A("b", 2), new A("c", 3)));
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file)
+        .stream()
+        .filter(e -> e.getEventType()
+            .getName()
+            .startsWith("com.remondis.remap"))
+        .collect(Collectors.toList());
+    Files.delete(file);
+
+    List<RecordedEvent> buildEvents = eventsOf(events, BUILD_EVENT);
+    assertThat(buildEvents).hasSize(1);
+    RecordedEvent buildEvent = buildEvents.get(0);
+    assertThat(buildEvent.getClass("sourceType")
+        .getName()).isEqualTo(A.class.getName());
+    assertThat(buildEvent.getInt("transformations")).isEqualTo(2);
+
+    List<RecordedEvent> mapEvents = eventsOf(events, MAP_EVENT);
+    assertThat(mapEvents).hasSize(2);
+    assertThat(mapEvents).extracting(e -> e.getInt("collectionSize"))
+        .containsExactlyInAnyOrder(-1, 2);
+    assertThat(mapEvents).extracting(e -> e.getInt("depth"))
+        .containsOnly(0);
+    assertThat(mapEvents).extracting(e -> e.getClass("destinationType")
+        .getName())
+        .containsOnly(AResource.class.getName());
+  }
+
+  private List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType()
+            .getName()
+            .equals(name))
+        .collect(Collectors.toList());
+  }
+
+}
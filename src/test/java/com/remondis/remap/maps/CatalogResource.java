@@ -0,0 +1,17 @@
+package com.remondis.remap.maps;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogResource {
+
+  private Map<String, List<SettingResource>> groups;
+
+}
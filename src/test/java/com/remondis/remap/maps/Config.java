@@ -0,0 +1,24 @@
+package com.remondis.remap.maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Config {
+
+  private Map<String, Setting> settings;
+
+  private SortedMap<String, Integer> limits;
+
+  private Map<Level, List<String>> messages;
+
+  private Map<Setting, String> labels;
+
+}
@@ -0,0 +1,6 @@
+package com.remondis.remap.maps;
+
+public enum Level {
+  LOW,
+  HIGH
+}
@@ -19,8 +19,8 @@ import com.remondis.remap.MappingException;
 public class MapsTest {
 
   /**
-   * Since maps are not supported out-of-the-box, the mapper should deny automatic
-   * mapping of maps. A workaround should be to add a replace-operator.
+   * Maps are mapped implicitly, but the mapper should deny the implicit mapping of
+   * maps with incompatible key types. A workaround should be to add a replace-operator.
    */
   @Test(expected = MappingException.class)
   public void shouldDenyImplicitMappingOfMaps() {
@@ -34,8 +34,7 @@ public class MapsTest {
   }
 
   /**
-   * Since maps are not supported out-of-the-box, the mapper should support
-   * mapping transformation via
+   * Maps with incompatible key types can be mapped using a transformation via
    * {@link Mapping#replace(com.remondis.remap.TypedSelector, com.remondis.remap.TypedSelector)}.
    */
   @Test
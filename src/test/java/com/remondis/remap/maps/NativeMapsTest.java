@@ -0,0 +1,166 @@
+package com.remondis.remap.maps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.junit.Test;
+
+import com.remondis.remap.B;
+import com.remondis.remap.BResource;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class NativeMapsTest {
+
+  private static Mapper<Config, ConfigResource> mapper() {
+    return Mapping.from(Config.class)
+        .to(ConfigResource.class)
+        .useMapper(Mapping.from(Setting.class)
+            .to(SettingResource.class)
+            .mapper())
+        .mapper();
+  }
+
+  @Test
+  public void shouldMapKeysAndValues() {
+    Map<String, Setting> settings = new LinkedHashMap<>();
+    settings.put("b", new Setting("b", 2));
+    settings.put("a", new Setting("a", 1));
+    Map<Setting, String> labels = new HashMap<>();
+    labels.put(new Setting("a", 1), "label");
+
+    ConfigResource resource = mapper().map(new Config(settings, null, null, labels));
+
+    assertThat(resource.getSettings()).isInstanceOf(LinkedHashMap.class);
+    assertThat(resource.getSettings()
+        .keySet()).containsExactly("b", "a");
+    assertThat(resource.getSettings()).containsEntry("a", new SettingResource("a", 1))
+        .containsEntry("b", new SettingResource("b", 2));
+    assertThat(resource.getLabels()).isInstanceOf(HashMap.class)
+        .containsExactly(entry(new SettingResource("a", 1), "label"));
+  }
+
+  @Test
+  public void shouldKeepImplementationOfSortedAndEnumMaps() {
+    TreeMap<String, Integer> limits = new TreeMap<>(Collections.reverseOrder());
+    limits.put("a", 1);
+    limits.put("b", 2);
+    EnumMap<Level, List<String>> messages = new EnumMap<>(Level.class);
+    messages.put(Level.HIGH, Arrays.asList("x", "y"));
+
+    ConfigResource resource = mapper().map(new Config(null, limits, messages, null));
+
+    assertThat(resource.getLimits()).isInstanceOf(TreeMap.class)
+        .isNotSameAs(limits)
+        .isEqualTo(limits);
+    assertThat(resource.getLimits()
+        .comparator()).isEqualTo(limits.comparator());
+    assertThat(resource.getLimits()
+        .keySet()).containsExactly("b", "a");
+    assertThat(resource.getMessages()).isInstanceOf(EnumMap.class)
+        .isEqualTo(messages);
+  }
+
+  @Test
+  public void shouldKeepNullKeysAndValues() {
+    Map<String, Setting> settings = new HashMap<>();
+    settings.put(null, new Setting("a", 1));
+    settings.put("b", null);
+
+    ConfigResource resource = mapper().map(new Config(settings, null, null, null));
+
+    assertThat(resource.getSettings()).containsEntry(null, new SettingResource("a", 1))
+        .containsEntry("b", null);
+  }
+
+  @Test
+  public void shouldDenyMissingValueMapper() {
+    assertThatThrownBy(() -> Mapping.from(Config.class)
+        .to(ConfigResource.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("No mapper found for type mapping from " + Setting.class.getName());
+  }
+
+  @Test
+  public void shouldDenyIncompatibleKeyTypes() {
+    assertThatThrownBy(() -> Mapping.from(A.class)
+        .to(AResource.class)
+        .useMapper(Mapping.from(B.class)
+            .to(BResource.class)
+            .mapper())
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("cannot be applied on the incompatible property types");
+  }
+
+  @Test
+  public void shouldKeepImplementationAssignableToDestination() {
+    ConcurrentSkipListMap<String, Integer> counters = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    counters.put("a", 1);
+    counters.put("b", 2);
+    Properties properties = new Properties();
+    properties.put("key", "value");
+    Map<String, Integer> ranks = Collections.unmodifiableMap(Collections.singletonMap("a", 1));
+
+    RegistryResource resource = Mapping.from(Registry.class)
+        .to(RegistryResource.class)
+        .useMapper(Mapping.from(Setting.class)
+            .to(SettingResource.class)
+            .mapper())
+        .mapper()
+        .map(new Registry(counters, properties, ranks, null));
+
+    assertThat(resource.getCounters()).isInstanceOf(ConcurrentSkipListMap.class)
+        .isNotSameAs(counters)
+        .isEqualTo(counters);
+    assertThat(resource.getCounters()
+        .keySet()).containsExactly("b", "a");
+    assertThat(resource.getProperties()).isInstanceOf(Properties.class)
+        .isNotSameAs(properties)
+        .isEqualTo(properties);
+    assertThat(resource.getRanks()).isInstanceOf(LinkedHashMap.class)
+        .isEqualTo(ranks);
+  }
+
+  @Test
+  public void shouldMapValuesOfWildcardTypes() {
+    Map<String, Setting> defaults = new HashMap<>();
+    defaults.put("a", new Setting("a", 1));
+
+    RegistryResource resource = Mapping.from(Registry.class)
+        .to(RegistryResource.class)
+        .useMapper(Mapping.from(Setting.class)
+            .to(SettingResource.class)
+            .mapper())
+        .mapper()
+        .map(new Registry(null, null, null, defaults));
+
+    assertThat(resource.getDefaults()).hasSize(1);
+    assertThat(resource.getDefaults()
+        .get("a")).isEqualTo(new SettingResource("a", 1));
+  }
+
+  @Test
+  public void shouldDenyDifferentParameterizedValueTypes() {
+    assertThatThrownBy(() -> Mapping.from(Catalog.class)
+        .to(CatalogResource.class)
+        .useMapper(Mapping.from(Setting.class)
+            .to(SettingResource.class)
+            .mapper())
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("cannot be applied on the incompatible property types");
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.remondis.remap.maps;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistryResource {
+
+  private ConcurrentMap<String, Integer> counters;
+
+  private Map<Object, Object> properties;
+
+  private Map<String, Integer> ranks;
+
+  private Map<String, ? extends SettingResource> defaults;
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.maps;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettingResource {
+
+  private String name;
+
+  private int value;
+
+}
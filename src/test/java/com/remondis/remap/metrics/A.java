@@ -0,0 +1,16 @@
+package com.remondis.remap.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class A {
+
+  private String name;
+
+  private Integer number;
+
+}
@@ -0,0 +1,32 @@
+package com.remondis.remap.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingBuildReport;
+
+public class BuildReportTest {
+
+  @Test
+  public void shouldReportBuildPhases() {
+    Mapper<A, AResource> mapper = Mapping.from(A.class)
+        .to(AResource.class)
+        .replace(A::getNumber, AResource::getNumber)
+        .withSkipWhenNull(String::valueOf)
+        .mapper();
+
+    MappingBuildReport report = mapper.getBuildReport();
+    assertThat(report.getSelectors()).isEqualTo(2);
+    assertThat(report.getTransformations()).isEqualTo(2);
+    assertThat(report.getIntrospectionNanos()).isPositive();
+    assertThat(report.getSelectorSensingNanos()).isPositive();
+    assertThat(report.getStrictMappingNanos()).isNotNegative();
+    assertThat(report.getValidationNanos()).isNotNegative();
+    assertThat(report.getMapperNanos()).isGreaterThanOrEqualTo(report.getStrictMappingNanos());
+    assertThat(report.toString()).contains("selector sensing", "2 selectors", "2 transformations");
+  }
+
+}
@@ -0,0 +1,14 @@
+package com.remondis.remap.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Location {
+
+  private String city;
+
+}
@@ -0,0 +1,98 @@
+package com.remondis.remap.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.MapperStatistics;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingMetrics;
+import com.remondis.remap.PropertyPath;
+import com.remondis.remap.TransformationStatistics;
+
+public class MetricsTest {
+
+  @Test
+  public void shouldCollectMetricsPerMapperAndTransformation() {
+    MappingMetrics metrics = new MappingMetrics();
+    Mapper<A, AResource> mapper = Mapping.from(A.class)
+        .to(AResource.class)
+        .replace(A::getNumber, AResource::getNumber)
+        .withSkipWhenNull(String::valueOf)
+        .listener(metrics)
+        .mapper();
+
+    AResource resource = mapper.map(new A("a", 1));
+    assertThat(resource.getNumber()).isEqualTo("1");
+
+    List<AResource> resources = mapper.map(Arrays.asList(new A("b", 2), new A("c", 3), new A("d", 4)));
+    assertThat(resources).hasSize(3);
+
+    MapperStatistics statistics = metrics.getStatistics(mapper);
+    assertThat(statistics.getMapper()).isSameAs(mapper);
+    assertThat(statistics.getInvocations()).isEqualTo(2);
+    assertThat(statistics.getObjectsMapped()).isEqualTo(4);
+    assertThat(statistics.getTotalNanos()).isPositive();
+    assertThat(statistics.getPercentileNanos(50)).isLessThanOrEqualTo(statistics.getPercentileNanos(100));
+    assertThat(statistics.getPercentileNanos(100)).isPositive();
+
+    assertThat(statistics.getTransformationStatistics()).hasSize(2);
+    for (TransformationStatistics transformation : statistics.getTransformationStatistics()) {
+      assertThat(transformation.getInvocations()).isEqualTo(4);
+      assertThat(transformation.getSourceProperty()
+          .getName()).isEqualTo(transformation.getDestinationProperty()
+              .getName());
+    }
+    assertThat(metrics.getStatistics()).containsOnlyKeys(mapper);
+  }
+
+  @Test
+  public void shouldCollectMetricsPerDestinationPath() {
+    MappingMetrics metrics = new MappingMetrics();
+    Mapper<ShipmentResource, Shipment> mapper = Mapping.from(ShipmentResource.class)
+        .to(Shipment.class)
+        .reassign(ShipmentResource::getOriginCity)
+        .toPath(PropertyPath.of(Shipment::getOrigin)
+            .then(Location::getCity))
+        .reassign(ShipmentResource::getTargetCity)
+        .toPath(PropertyPath.of(Shipment::getTarget)
+            .then(Location::getCity))
+        .listener(metrics)
+        .mapper();
+
+    mapper.map(new ShipmentResource("origin", "target"));
+
+    // Both paths end in the same property, but are reported as separate transformations.
+    Collection<TransformationStatistics> transformations = metrics.getStatistics(mapper)
+        .getTransformationStatistics();
+    assertThat(transformations).extracting(TransformationStatistics::getDestinationPath)
+        .containsOnly("origin.city", "target.city");
+    for (TransformationStatistics transformation : transformations) {
+      assertThat(transformation.getInvocations()).isEqualTo(1);
+      assertThat(transformation.getDestinationProperty()
+          .getName()).isEqualTo("city");
+    }
+  }
+
+  @Test
+  public void shouldNotCollectMetricsWithoutListener() {
+    MappingMetrics metrics = new MappingMetrics();
+    Mapper<A, AResource> mapper = Mapping.from(A.class)
+        .to(AResource.class)
+        .replace(A::getNumber, AResource::getNumber)
+        .withSkipWhenNull(String::valueOf)
+        .mapper();
+    mapper.map(new A("a", 1));
+    assertThat(metrics.getStatistics()).isEmpty();
+    assertThat(metrics.getStatistics(mapper)
+        .getInvocations()).isZero();
+    assertThat(metrics.getStatistics(mapper)
+        .getPercentileNanos(99)).isZero();
+  }
+
+}
@@ -0,0 +1,153 @@
+package com.remondis.remap.multireplace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import com.remondis.remap.AssertMapping;
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class MultiSourceReplaceTest {
+
+  private static Mapper<Person, PersonResource> mapper() {
+    return Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .with((firstName, lastName) -> firstName + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .withSkipWhenNull((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .mapper();
+  }
+
+  @Test
+  public void shouldComputePropertyFromMultipleSources() {
+    PersonResource resource = mapper().map(new Person("first", "last", "street", "12345", "city", 42));
+    assertThat(resource).isEqualTo(new PersonResource("first last", "street, 12345 city", 42));
+  }
+
+  @Test
+  public void shouldSkipIfOneSourceValueIsNull() {
+    PersonResource resource = mapper().map(new Person("first", null, "street", null, "city", 42));
+    assertThat(resource).isEqualTo(new PersonResource("first null", null, 42));
+  }
+
+  @Test
+  public void shouldWriteDefaultIfOneSourceValueIsNull() {
+    Mapper<Person, PersonResource> mapper = Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .withDefault("unknown")
+        .with((firstName, lastName) -> firstName + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .orElse(() -> "none")
+        .withSkipWhenNull((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .mapper();
+    assertThat(mapper.map(new Person("first", null, "street", null, "city", 42)))
+        .isEqualTo(new PersonResource("unknown", "none", 42));
+    assertThat(mapper.map(new Person("first", "last", "street", "12345", "city", 42)))
+        .isEqualTo(new PersonResource("first last", "street, 12345 city", 42));
+  }
+
+  @Test
+  public void shouldReplaceOnlyIfConditionIsMet() {
+    Mapper<Person, PersonResource> mapper = Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .when(person -> person.getAge() >= 18)
+        .with((firstName, lastName) -> firstName + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .when(person -> person.getAge() >= 18)
+        .withSkipWhenNull((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .mapper();
+    assertThat(mapper.map(new Person("first", "last", "street", "12345", "city", 12)))
+        .isEqualTo(new PersonResource(null, null, 12));
+    assertThat(mapper.map(new Person("first", "last", "street", "12345", "city", 42)))
+        .isEqualTo(new PersonResource("first last", "street, 12345 city", 42));
+  }
+
+  @Test
+  public void shouldDenySameSourcePropertyTwice() {
+    assertThatThrownBy(() -> Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getFirstName, PersonResource::getFullName)
+        .with((firstName, lastName) -> firstName + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .with((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .omitInSource(Person::getLastName)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("The property 'firstName' in '" + Person.class.getName() + "' is already mapped");
+  }
+
+  @Test
+  public void shouldAcceptNullSafeFunctionWithDefault() {
+    Mapper<Person, PersonResource> mapper = Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .withDefault("unknown")
+        .with((firstName, lastName) -> firstName.trim() + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .with((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .mapper();
+    // The function is not invoked on null input, because the default is written instead.
+    AssertMapping.of(mapper)
+        .expectReplace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .andTest((firstName, lastName) -> firstName + " " + lastName)
+        .expectReplace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .andTest((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .ensure();
+  }
+
+  @Test
+  public void shouldMarkAllSourcePropertiesAsMapped() {
+    assertThatThrownBy(() -> Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .with((firstName, lastName) -> firstName + " " + lastName)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("Property 'street' in " + Person.class.getName())
+            .hasMessageContaining("Property 'address' in " + PersonResource.class.getName());
+  }
+
+  @Test
+  public void shouldDenyMappedDestination() {
+    assertThatThrownBy(() -> Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, PersonResource::getFullName)
+        .with(String::valueOf)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .with((firstName, lastName) -> firstName + " " + lastName)).isInstanceOf(MappingException.class)
+            .hasMessageContaining("is already mapped");
+  }
+
+  @Test
+  public void shouldAssertMultiSourceReplace() {
+    AssertMapping.of(mapper())
+        .expectReplace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .andTest((firstName, lastName) -> firstName + " " + lastName)
+        .expectReplace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .andSkipWhenNull()
+        .ensure();
+  }
+
+  @Test
+  public void shouldDetectNotNullSafeFunction() {
+    Mapper<Person, PersonResource> mapper = Mapping.from(Person.class)
+        .to(PersonResource.class)
+        .replace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .with((firstName, lastName) -> firstName.trim() + " " + lastName)
+        .replace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .withSkipWhenNull((street, zipCode, city) -> street + ", " + zipCode + " " + city)
+        .mapper();
+    assertThatThrownBy(() -> AssertMapping.of(mapper)
+        .expectReplace(Person::getFirstName, Person::getLastName, PersonResource::getFullName)
+        .andTest((firstName, lastName) -> firstName + " " + lastName)
+        .expectReplace(Person::getStreet, Person::getZipCode, Person::getCity, PersonResource::getAddress)
+        .andSkipWhenNull()
+        .ensure()).isInstanceOf(AssertionError.class)
+            .hasMessageContaining("not null-safe");
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.remondis.remap.multireplace;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Person {
+
+  private String firstName;
+
+  private String lastName;
+
+  private String street;
+
+  private String zipCode;
+
+  private String city;
+
+  private int age;
+
+}
@@ -0,0 +1,18 @@
+package com.remondis.remap.multireplace;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonResource {
+
+  private String fullName;
+
+  private String address;
+
+  private int age;
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.paths;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Customer {
+
+  private String name;
+
+  private Address address;
+
+}
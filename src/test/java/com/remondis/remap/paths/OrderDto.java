@@ -0,0 +1,20 @@
+package com.remondis.remap.paths;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDto {
+
+  private Long id;
+
+  private String customerName;
+
+  private String customerStreet;
+
+  private String customerCity;
+
+}
@@ -0,0 +1,113 @@
+package com.remondis.remap.paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+import com.remondis.remap.PropertyPath;
+
+public class PropertyPathTest {
+
+  private static final PropertyPath<Order, Address> ADDRESS = PropertyPath.of(Order::getCustomer)
+      .then(Customer::getAddress);
+
+  private static Mapping<Order, OrderDto> flatten() {
+    return Mapping.from(Order.class)
+        .to(OrderDto.class)
+        .reassignPath(PropertyPath.of(Order::getCustomer)
+            .then(Customer::getName))
+        .to(OrderDto::getCustomerName)
+        .reassignPath(ADDRESS.then(Address::getStreet))
+        .to(OrderDto::getCustomerStreet)
+        .reassignPath(ADDRESS.then(Address::getCity))
+        .to(OrderDto::getCustomerCity);
+  }
+
+  @Test
+  public void shouldFlattenNestedProperties() {
+    Mapper<Order, OrderDto> mapper = flatten().mapper();
+
+    Order order = new Order(1L, new Customer("name", new Address("street", "city")));
+    assertThat(mapper.map(order)).isEqualTo(new OrderDto(1L, "name", "street", "city"));
+  }
+
+  @Test
+  public void shouldStopAtNullOnPath() {
+    Mapper<Order, OrderDto> mapper = flatten().mapper();
+
+    assertThat(mapper.map(new Order(1L, null))).isEqualTo(new OrderDto(1L, null, null, null));
+    assertThat(mapper.map(new Order(1L, new Customer("name", null)))).isEqualTo(new OrderDto(1L, "name", null, null));
+  }
+
+  @Test
+  public void shouldUnflattenIntoNestedProperties() {
+    Mapper<OrderDto, Order> mapper = Mapping.from(OrderDto.class)
+        .to(Order.class)
+        .reassign(OrderDto::getCustomerName)
+        .toPath(PropertyPath.of(Order::getCustomer)
+            .then(Customer::getName))
+        .reassign(OrderDto::getCustomerStreet)
+        .toPath(ADDRESS.then(Address::getStreet))
+        .reassign(OrderDto::getCustomerCity)
+        .toPath(ADDRESS.then(Address::getCity))
+        .mapper();
+
+    assertThat(mapper.map(new OrderDto(1L, "name", "street", "city")))
+        .isEqualTo(new Order(1L, new Customer("name", new Address("street", "city"))));
+    assertThat(mapper.map(new OrderDto(1L, "name", null, null)))
+        .isEqualTo(new Order(1L, new Customer("name", null)));
+    assertThat(mapper.map(new OrderDto(1L, null, null, null))).isEqualTo(new Order(1L, null));
+  }
+
+  @Test
+  public void shouldInvertPaths() {
+    Mapper<OrderDto, Order> mapper = flatten().inverse()
+        .mapper();
+
+    assertThat(mapper.map(new OrderDto(1L, "name", null, "city")))
+        .isEqualTo(new Order(1L, new Customer("name", new Address(null, "city"))));
+  }
+
+  @Test
+  public void shouldDenyInverseOfPathWithDefault() {
+    Mapping<Order, OrderDto> mapping = Mapping.from(Order.class)
+        .to(OrderDto.class)
+        .reassignPath(PropertyPath.of(Order::getCustomer)
+            .then(Customer::getName))
+        .withDefault("unknown")
+        .to(OrderDto::getCustomerName)
+        .reassignPath(ADDRESS.then(Address::getStreet))
+        .to(OrderDto::getCustomerStreet)
+        .reassignPath(ADDRESS.then(Address::getCity))
+        .to(OrderDto::getCustomerCity);
+    assertThatThrownBy(() -> mapping.inverse()).isInstanceOf(MappingException.class)
+        .hasMessageContaining("cannot be inverted");
+  }
+
+  @Test
+  public void shouldDenyPathsThroughNonBeans() {
+    assertThatThrownBy(() -> Mapping.from(Order.class)
+        .to(OrderDto.class)
+        .reassignPath(PropertyPath.of(Order::getCustomer)
+            .then(Customer::getName)
+            .then(String::toString))).isInstanceOf(MappingException.class)
+                .hasMessageContaining("Property 'name' (java.lang.String) in " + Customer.class.getName()
+                    + " is followed by further properties on a property path");
+  }
+
+  @Test
+  public void shouldDenyOverlappingDestinationPaths() {
+    assertThatThrownBy(() -> Mapping.from(OrderDto.class)
+        .to(Order.class)
+        .reassign(OrderDto::getCustomerCity)
+        .toPath(ADDRESS.then(Address::getCity))
+        .reassign(OrderDto::getCustomerCity)
+        .toPath(ADDRESS.then(Address::getCity))).isInstanceOf(MappingException.class)
+            .hasMessageContaining("is already mapped");
+  }
+
+}
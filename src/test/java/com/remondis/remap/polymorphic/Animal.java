@@ -0,0 +1,14 @@
+package com.remondis.remap.polymorphic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Animal {
+
+  private String name;
+
+}
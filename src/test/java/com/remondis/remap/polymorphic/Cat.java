@@ -0,0 +1,19 @@
+package com.remondis.remap.polymorphic;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Cat extends Animal {
+
+  private int lives;
+
+  public Cat(String name, int lives) {
+    super(name);
+    this.lives = lives;
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.remondis.remap.polymorphic;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class Dog extends Animal {
+
+  private boolean barking;
+
+  public Dog(String name, boolean barking) {
+    super(name);
+    this.barking = barking;
+  }
+
+}
@@ -0,0 +1,19 @@
+package com.remondis.remap.polymorphic;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class DogResource extends AnimalResource {
+
+  private boolean barking;
+
+  public DogResource(String name, boolean barking) {
+    super(name);
+    this.barking = barking;
+  }
+
+}
@@ -0,0 +1,84 @@
+package com.remondis.remap.polymorphic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class PolymorphicMappingTest {
+
+  private final Mapper<Animal, AnimalResource> animalMapper = Mapping.from(Animal.class)
+      .to(AnimalResource.class)
+      .mapper();
+
+  private final Mapper<Dog, DogResource> dogMapper = Mapping.from(Dog.class)
+      .to(DogResource.class)
+      .mapper();
+
+  private final Mapper<Cat, CatResource> catMapper = Mapping.from(Cat.class)
+      .to(CatResource.class)
+      .mapper();
+
+  @Test
+  public void shouldMapSubtypesWithTheirMappers() {
+    Mapper<Zoo, ZooResource> mapper = Mapping.from(Zoo.class)
+        .to(ZooResource.class)
+        .useMapper(animalMapper)
+        .useMapper(dogMapper)
+        .useMapper(catMapper)
+        .mapper();
+
+    Zoo zoo = new Zoo(new Dog("mascot", true),
+        Arrays.asList(new Dog("dog", false), new Cat("cat", 9), new Animal("animal")));
+    ZooResource resource = mapper.map(zoo);
+
+    assertThat(resource.getMascot()).isEqualTo(new DogResource("mascot", true));
+    assertThat(resource.getAnimals()).containsExactly(new DogResource("dog", false), new CatResource("cat", 9),
+        new AnimalResource("animal"));
+  }
+
+  @Test
+  public void shouldFallBackToMapperOfDeclaredType() {
+    Mapper<Zoo, ZooResource> mapper = Mapping.from(Zoo.class)
+        .to(ZooResource.class)
+        .useMapper(animalMapper)
+        .useMapper(catMapper)
+        .mapper();
+
+    Zoo zoo = new Zoo(new Dog("mascot", true), Arrays.asList(new Cat("cat", 9)));
+    ZooResource resource = mapper.map(zoo);
+
+    assertThat(resource.getMascot()).isEqualTo(new AnimalResource("mascot"));
+    assertThat(resource.getAnimals()).containsExactly(new CatResource("cat", 9));
+  }
+
+  @Test
+  public void shouldFailForValuesWithoutMapper() {
+    Mapper<Zoo, ZooResource> mapper = Mapping.from(Zoo.class)
+        .to(ZooResource.class)
+        .useMapper(dogMapper)
+        .mapper();
+
+    assertThat(mapper.map(new Zoo(new Dog("mascot", true), null))
+        .getMascot()).isEqualTo(new DogResource("mascot", true));
+    assertThatThrownBy(() -> mapper.map(new Zoo(new Cat("mascot", 9), null))).isInstanceOf(MappingException.class)
+        .hasMessageContaining("No mapper found for type mapping from " + Cat.class.getName() + " to "
+            + AnimalResource.class.getName());
+  }
+
+  @Test
+  public void shouldDenyMappingWithoutSuitableMapper() {
+    assertThatThrownBy(() -> Mapping.from(Zoo.class)
+        .to(ZooResource.class)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("No mapper found for type mapping from " + Animal.class.getName() + " to "
+                + AnimalResource.class.getName());
+  }
+
+}
@@ -0,0 +1,18 @@
+package com.remondis.remap.polymorphic;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Zoo {
+
+  private Animal mascot;
+
+  private List<Animal> animals;
+
+}
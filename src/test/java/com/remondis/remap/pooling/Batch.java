@@ -0,0 +1,23 @@
+package com.remondis.remap.pooling;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Batch {
+
+  private Event primary;
+
+  private List<Event> events;
+
+  private Map<String, Event> byName;
+
+  private Event[] latest;
+
+}
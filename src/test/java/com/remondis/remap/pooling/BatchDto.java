@@ -0,0 +1,23 @@
+package com.remondis.remap.pooling;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDto {
+
+  private EventDto primary;
+
+  private List<EventDto> events;
+
+  private Map<String, EventDto> byName;
+
+  private EventDto[] latest;
+
+}
@@ -0,0 +1,155 @@
+package com.remondis.remap.pooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+public class DestinationPoolingTest {
+
+  private static Mapping<Event, EventDto> mapping() {
+    return Mapping.from(Event.class)
+        .to(EventDto.class)
+        .omitInDestination(EventDto::getSource);
+  }
+
+  @Test
+  public void shouldRecycleReleasedObjects() {
+    Mapper<Event, EventDto> mapper = mapping().pooled(4)
+        .mapper();
+    EventDto first = mapper.mapPooled(new Event(1L, "first", Arrays.asList("a", "b")));
+    assertThat(first).isEqualTo(new EventDto(1L, "first", Arrays.asList("a", "b"), "remap"));
+    List<String> tags = first.getTags();
+    first.setSource("modified");
+    mapper.release(first);
+
+    EventDto second = mapper.mapPooled(new Event(2L, "second", Arrays.asList("c")));
+    assertThat(second).isSameAs(first)
+        .isEqualTo(new EventDto(2L, "second", Arrays.asList("c"), "remap"));
+    // The collection is refilled instead of being created again.
+    assertThat(second.getTags()).isSameAs(tags);
+  }
+
+  @Test
+  public void shouldRecycleNestedObjectsCollectionsMapsAndArrays() {
+    Mapper<Batch, BatchDto> mapper = Mapping.from(Batch.class)
+        .to(BatchDto.class)
+        .useMapper(mapping().pooled(4)
+            .mapper())
+        .pooled(4)
+        .mapper();
+    BatchDto first = mapper.mapPooled(batch("first", 2));
+    EventDto primary = first.getPrimary();
+    List<EventDto> events = first.getEvents();
+    EventDto event = events.get(0);
+    Map<String, EventDto> byName = first.getByName();
+    EventDto named = byName.get("a");
+    EventDto[] latest = first.getLatest();
+    EventDto latestEvent = latest[0];
+    mapper.release(first);
+
+    BatchDto second = mapper.mapPooled(batch("second", 1));
+    assertThat(second).isSameAs(first);
+    assertThat(second.getPrimary()).isSameAs(primary)
+        .isEqualTo(new EventDto(0L, "second", null, "remap"));
+    assertThat(second.getEvents()).isSameAs(events)
+        .containsExactly(new EventDto(1L, "second", null, "remap"));
+    assertThat(second.getEvents()
+        .get(0)).isSameAs(event);
+    assertThat(second.getByName()).isSameAs(byName)
+        .hasSize(1)
+        .containsEntry("a", new EventDto(1L, "second", null, "remap"));
+    assertThat(second.getByName()
+        .get("a")).isSameAs(named);
+    assertThat(second.getLatest()).isSameAs(latest)
+        .containsExactly(new EventDto(1L, "second", null, "remap"), null);
+    assertThat(second.getLatest()[0]).isSameAs(latestEvent);
+  }
+
+  private static Batch batch(String name, int size) {
+    List<Event> events = new ArrayList<>();
+    Map<String, Event> byName = new HashMap<>();
+    for (int i = 1; i <= size; i++) {
+      Event event = new Event(i, name, null);
+      events.add(event);
+      byName.put(String.valueOf((char) ('a' + i - 1)), event);
+    }
+    return new Batch(new Event(0L, name, null), events, byName, new Event[] {
+        events.get(0), null
+    });
+  }
+
+  @Test
+  public void shouldResetPropertiesNotWritten() {
+    Mapper<Event, EventDto> mapper = mapping().pooled(4)
+        .mapper();
+    mapper.release(mapper.mapPooled(new Event(1L, "first", Arrays.asList("a"))));
+
+    assertThat(mapper.mapPooled(new Event(2L, null, null))).isEqualTo(new EventDto(2L, null, null, "remap"));
+  }
+
+  @Test
+  public void shouldResetPropertiesOfUnmetConditions() {
+    Mapper<Event, EventDto> mapper = Mapping.from(Event.class)
+        .to(EventDto.class)
+        .reassign(Event::getName)
+        .when(event -> event.getId() > 0)
+        .to(EventDto::getSource)
+        .omitInDestination(EventDto::getName)
+        .pooled(4)
+        .mapper();
+    EventDto first = mapper.mapPooled(new Event(1L, "first", null));
+    assertThat(first.getSource()).isEqualTo("first");
+    mapper.release(first);
+
+    assertThat(mapper.mapPooled(new Event(-1L, "second", null))).isSameAs(first)
+        .isEqualTo(new EventDto(-1L, null, null, "remap"));
+  }
+
+  @Test
+  public void shouldDiscardObjectsExceedingCapacity() {
+    Mapper<Event, EventDto> mapper = mapping().pooled(1)
+        .mapper();
+    EventDto first = mapper.mapPooled(new Event(1L, "first", null));
+    EventDto second = mapper.mapPooled(new Event(2L, "second", null));
+    mapper.release(first);
+    mapper.release(second);
+
+    assertThat(mapper.mapPooled(new Event(3L, "third", null))).isSameAs(first);
+    assertThat(mapper.mapPooled(new Event(4L, "fourth", null))).isNotSameAs(first)
+        .isNotSameAs(second);
+  }
+
+  @Test
+  public void shouldNotRecycleWithoutPool() {
+    Mapper<Event, EventDto> mapper = mapping().mapper();
+    EventDto first = mapper.mapPooled(new Event(1L, "first", null));
+    mapper.release(first);
+    assertThat(mapper.mapPooled(new Event(2L, "second", null))).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldDenyMutableInitialValues() {
+    assertThatThrownBy(() -> Mapping.from(Event.class)
+        .to(Envelope.class)
+        .omitInSource(Event::getName)
+        .omitInSource(Event::getTags)
+        .omitInDestination(Envelope::getEvent)
+        .pooled(4)
+        .mapper()).isInstanceOf(MappingException.class)
+            .hasMessageContaining("cannot recycle destination objects, because the initial value of the Property "
+                + "'event' in " + Envelope.class.getName() + " is neither null, a built-in value nor an empty "
+                + "collection or map");
+  }
+
+}
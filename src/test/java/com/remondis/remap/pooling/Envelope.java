@@ -0,0 +1,16 @@
+package com.remondis.remap.pooling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Envelope {
+
+  private long id;
+
+  private EventDto event = new EventDto();
+
+}
@@ -0,0 +1,20 @@
+package com.remondis.remap.pooling;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Event {
+
+  private long id;
+
+  private String name;
+
+  private List<String> tags;
+
+}
@@ -0,0 +1,16 @@
+package com.remondis.remap.selectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddressResource {
+
+  private String name;
+
+  private String street;
+
+}
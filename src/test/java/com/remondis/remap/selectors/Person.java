@@ -0,0 +1,20 @@
+package com.remondis.remap.selectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public final class Person {
+
+  private String forename;
+
+  private String name;
+
+  private String street;
+
+  private String internalId;
+
+}
@@ -0,0 +1,18 @@
+package com.remondis.remap.selectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public final class PersonResource {
+
+  private String firstName;
+
+  private String name;
+
+  private String street;
+
+}
@@ -0,0 +1,51 @@
+package com.remondis.remap.selectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+import com.remondis.remap.Mapper;
+import com.remondis.remap.Mapping;
+import com.remondis.remap.MappingException;
+
+/**
+ * The beans of this test are final classes that cannot be subclassed by proxy objects.
+ */
+public class SelectorResolutionTest {
+
+  @Test
+  public void shouldResolveMethodReferencesOnFinalClasses() {
+    Mapper<PersonResource, Person> mapper = Mapping.from(PersonResource.class)
+        .to(Person.class)
+        .reassign(PersonResource::getFirstName)
+        .to(Person::getForename)
+        .omitInDestination(Person::getInternalId)
+        .mapper();
+    Person person = mapper.map(new PersonResource("forename", "name", "street"));
+    assertThat(person).isEqualTo(new Person("forename", "name", "street", null));
+    assertThat(mapper.getBuildReport()
+        .getSelectors()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldFallBackToProxyForLambdaExpressions() {
+    Mapper<Address, AddressResource> mapper = Mapping.from(Address.class)
+        .to(AddressResource.class)
+        .reassign(address -> address.getStreet())
+        .to(resource -> resource.getName())
+        .omitInDestination(resource -> resource.getStreet())
+        .mapper();
+    assertThat(mapper.map(new Address("street"))
+        .getName()).isEqualTo("street");
+  }
+
+  @Test
+  public void shouldDenyMethodReferencesToNonGetters() {
+    assertThatThrownBy(() -> Mapping.from(Address.class)
+        .to(AddressResource.class)
+        .omitInSource(Address::toString)).isInstanceOf(MappingException.class)
+            .hasMessageContaining("is not a valid Java Bean property get-method");
+  }
+
+}